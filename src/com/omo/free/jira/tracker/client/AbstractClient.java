@@ -1,14 +1,17 @@
 package com.omo.free.jira.tracker.client;
 
-import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.atlassian.jira.rest.client.api.JiraRestClient;
-import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClientFactory;
+import com.atlassian.util.concurrent.RuntimeInterruptedException;
 import com.omo.free.jira.tracker.constants.JIRAConstants;
 import com.omo.free.jira.tracker.util.JiraUtil;
 
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
 import gov.doc.isu.simple.fx.managers.UIPropertiesMgr;
 
 /**
@@ -21,6 +24,11 @@ public abstract class AbstractClient {
     private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.client.AbstractClient";
     private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
 
+    /* limits used when retrieving issues by key, the query length keeps each request well under the url length limit of the JIRA website */
+    protected static final int DEFAULT_KEY_CHUNK_SIZE = 50;
+    protected static final int DEFAULT_MAX_CONCURRENT_SEARCHES = 4;
+    protected static final int MAX_KEY_QUERY_LENGTH = 1500;
+
     protected boolean errorFlag;
     protected boolean isAuthorized;
     private boolean isRefresh;
@@ -31,44 +39,31 @@ public abstract class AbstractClient {
     public AbstractClient() {    }//end constructor
 
     /**
-     * This method will attempt to make a connection return an instance of {@code JiraRestClient}.
+     * This method will return the shared instance of {@code JiraRestClient} held by the {@code JIRAClientManager}.  The client is only built when one does not exist yet or when the saved credentials have changed.
      *
      * @return jiraClient the restClient
      */
     public JiraRestClient client() {
         myLogger.entering(MY_CLASS_NAME, "client");
 
-        // resources here
-        URI jiraServerUri = null;
-        AsynchronousJiraRestClientFactory jiraClientfactory = null;
         JiraRestClient jiraClient = null;
-        String user = null;
-        String pass = null;
         try{
-            // initialize user and pass word
-            user = JiraUtil.decrypt(UIPropertiesMgr.getInstance().getProperties().getProperty("jira.user"));
-            pass = JiraUtil.decrypt(UIPropertiesMgr.getInstance().getProperties().getProperty("jira.pass"));
-
-            jiraServerUri = URI.create(JIRAConstants.JIRA_URL);
-            myLogger.info("created URI " + JIRAConstants.JIRA_URL);
-
-            jiraClientfactory = new AsynchronousJiraRestClientFactory();
-            jiraClient = jiraClientfactory.createWithBasicHttpAuthentication(jiraServerUri, user, pass);
+            jiraClient = JIRAClientManager.getInstance().getClient();
 
             if(myLogger.isLoggable(Level.FINE)){
                 int buildNumber = jiraClient.getMetadataClient().getServerInfo().claim().getBuildNumber();
                 myLogger.fine("version of jira being used is: " + String.valueOf(buildNumber));
             }//end if
 
-            myLogger.info("successful connection to jira...(created jiraClient");
             this.isAuthorized = true;
         }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception while trying to connect to jira.  Error message is: " + e.getMessage() + ".  Values of interest are: JIRAConstants.JIRA_URL=" + String.valueOf(JIRAConstants.JIRA_URL) + "; jiraClientfactory=" + String.valueOf(jiraClientfactory) + "; jiraClient=" + String.valueOf(jiraClient), e);
+            myLogger.log(Level.SEVERE, "Exception while trying to connect to jira.  Error message is: " + e.getMessage() + ".  Values of interest are: JIRAConstants.JIRA_URL=" + String.valueOf(JIRAConstants.JIRA_URL) + "; jiraClient=" + String.valueOf(jiraClient), e);
 
             //check to see if message contains the authorized
             if(e.getMessage() != null && e.getMessage().contains("Not Authorized")){
-                myLogger.warning("User is not authorized!  User is: " + String.valueOf(user));
+                myLogger.warning("User is not authorized!  User is: " + String.valueOf(JiraUtil.decrypt(UIPropertiesMgr.getInstance().getProperties().getProperty("jira.user"))));
                 this.isAuthorized = false;
+                JIRAClientManager.getInstance().invalidate();
             }//end if
             throw e;
         }// end method
@@ -77,6 +72,80 @@ public abstract class AbstractClient {
         return jiraClient;
     }// end method
 
+    /**
+     * This method will split the {@code issueKeys} into chunks of at most {@code chunkSize} keys whose {@code key in (...)} query stays under {@link #MAX_KEY_QUERY_LENGTH} characters.
+     *
+     * @param issueKeys the issue keys
+     * @param chunkSize the maximum number of keys per chunk
+     * @return chunks the chunks of issue keys
+     */
+    protected List<List<String>> chunkIssueKeys(List<String> issueKeys, int chunkSize) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        int length = 0;
+        for(int i = 0, j = issueKeys.size(); i < j; i++){
+            String issueKey = issueKeys.get(i);
+            if(!chunk.isEmpty() && (chunk.size() >= chunkSize || length + issueKey.length() + 2 > MAX_KEY_QUERY_LENGTH)){
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                length = 0;
+            }//end if
+            chunk.add(issueKey);
+            length += issueKey.length() + 2;//key plus the ", " separator
+        }//end for
+        if(!chunk.isEmpty()){
+            chunks.add(chunk);
+        }//end if
+        return chunks;
+    }// end method
+
+    /**
+     * This method will build the JQL used to retrieve the issues of the {@code issueKeys}.
+     *
+     * @param issueKeys the issue keys
+     * @return searchQuery the JQL
+     */
+    protected String buildKeySearchQuery(List<String> issueKeys) {
+        return "key in (" + String.join(", ", issueKeys) + ")";
+    }// end method
+
+    /**
+     * This method will return true if the {@code e} was thrown because the current thread was interrupted or its request was cancelled, for example when the user cancels a search.  The interrupt flag of the current thread is set again so the caller stops without falling back to other requests.
+     *
+     * @param e the exception thrown by a request to the JIRA website
+     * @return true if the work was interrupted or cancelled
+     */
+    protected static boolean isInterruption(Throwable e) {
+        boolean isInterrupted = Thread.currentThread().isInterrupted();
+        for(Throwable cause = e; cause != null && !isInterrupted; cause = cause.getCause() == cause ? null : cause.getCause()){
+            isInterrupted = cause instanceof InterruptedException || cause instanceof RuntimeInterruptedException || cause instanceof CancellationException;
+        }//end for
+        if(isInterrupted){
+            Thread.currentThread().interrupt();
+        }//end if
+        return isInterrupted;
+    }// end method
+
+    /**
+     * This method will return the int value of the property named {@code name} or the {@code defaultValue} if the property is not set or invalid.
+     *
+     * @param name the property name
+     * @param defaultValue the default value
+     * @return the property value
+     */
+    protected int getIntProperty(String name, int defaultValue) {
+        int value = defaultValue;
+        try{
+            String property = PropertiesMgr.getInstance().getProperties().getProperty(name);
+            if(property != null && !"".equals(property.trim())){
+                value = Integer.parseInt(property.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the " + name + " property, using default value of " + defaultValue + ".  Error message is: " + e.getMessage());
+        }//end try...catch
+        return value > 0 ? value : defaultValue;
+    }// end method
+
     /**
      * @return the errorFlag
      */
@@ -3,6 +3,7 @@ package com.omo.free.jira.tracker.client;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
@@ -14,16 +15,21 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.codehaus.jettison.json.JSONArray;
 import org.codehaus.jettison.json.JSONObject;
 
-import com.atlassian.jira.rest.client.api.IssueRestClient;
 import com.atlassian.jira.rest.client.api.JiraRestClient;
 import com.atlassian.jira.rest.client.api.domain.Attachment;
 import com.atlassian.jira.rest.client.api.domain.BasicComponent;
@@ -36,6 +42,7 @@ import com.atlassian.jira.rest.client.api.domain.IssueLink;
 import com.atlassian.jira.rest.client.api.domain.TimeTracking;
 import com.atlassian.jira.rest.client.api.domain.Version;
 import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.util.JIRATemplate;
 import com.omo.free.jira.tracker.util.JiraUtil;
 
 import gov.doc.isu.com.util.AppUtil;
@@ -55,6 +62,9 @@ public class DownloadClient extends AbstractClient{
 
     private static final DownloadClient INSTANCE = new DownloadClient();
 
+    /* line breaks within the description */
+    private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\r?\n");
+
     /* custom fields that will be used ... can add more if needed here */
     private static List<String> ALLOWED_CUSTOM_FIELD_LIST = Arrays.asList("DOC Vendor Paid", "PROMORS Affiliation", "DOC OPII Projects", "Creator", "DOC Screen", "DOC JCCC Developer", "DOC Sharepoint Issue Number", "DOC Iteration", "DOC Phase", "DOC Date moved to Production", "DOC Module", "DOC Modified By", "DOC Project", "DOC Notes", "DOC Attachment is Scrubbed ?", "Maintenance", "PAQ Number", "Project Manager", "DOC Application Name", "DOC ANT Tags", "DOC Environment");
 
@@ -89,13 +99,14 @@ public class DownloadClient extends AbstractClient{
         myLogger.entering(MY_CLASS_NAME, "writeJiraIssue", issue);
 
         myLogger.info("Retrieving templates to write the following issue:  " + String.valueOf(issue));
-        String htmlTemplateStr = createJIRAIssueHTMLFileAsStr(issue, excludedAttachments).toString();
-
-        Files.write(Paths.get(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY, issue.getKey(), issue.getKey() + ".html"), htmlTemplateStr.getBytes(), StandardOpenOption.CREATE);
+        try(Writer writer = Files.newBufferedWriter(Paths.get(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY, issue.getKey(), issue.getKey() + ".html"), Charset.defaultCharset(), StandardOpenOption.CREATE)){
+            writeJIRAIssueHTML(issue, excludedAttachments, writer);//rendered straight to the file
+        }// end try
 
         //TODO per new bug zilla we do not need xml documents...just commenting out these lines because they are not needed.
-//        String xmlTemplateStr = createJIRAIssueXMLFileAsStr(issue, excludedAttachments).toString();
-//        Files.write(Paths.get(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY, issue.getKey(), issue.getKey() + "-XML.xml"), xmlTemplateStr.getBytes(), StandardOpenOption.CREATE);
+//        try(Writer writer = Files.newBufferedWriter(Paths.get(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY, issue.getKey(), issue.getKey() + "-XML.xml"), Charset.defaultCharset(), StandardOpenOption.CREATE)){
+//            writeJIRAIssueXML(issue, excludedAttachments, writer);
+//        }// end try
 
         myLogger.exiting(MY_CLASS_NAME, "writeJiraIssue");
     }// end method
@@ -108,9 +119,22 @@ public class DownloadClient extends AbstractClient{
      * @throws Exception can occur trying to connect to JIRA.
      */
     public List<String> downloadAttachments(Issue issue) throws Exception {
+        return downloadAttachments(issue, null);
+    }// end method
+
+    /**
+     * This method will download any attachments associated with a JIRA issue.  Each attachment is streamed straight to disk and the number of bytes written is reported to the {@code progress} consumer.  An attachment whose size does not match the size reported by JIRA is excluded.
+     *
+     * @param issue the jira issue possibly containing attachments
+     * @param progress notified with the number of bytes written, may be null
+     * @return list of excluded attachments
+     * @throws Exception can occur trying to connect to JIRA.
+     */
+    public List<String> downloadAttachments(Issue issue, LongConsumer progress) throws Exception {
         myLogger.entering(MY_CLASS_NAME, "downloadAttachments", issue);
 
         List<String> excludedAttachments = new ArrayList<>();
+        Set<String> rejectedAttachments = new HashSet<>();//retrieved but failed the size check, not downloaded again from the changelog
         int count = 0;
 
         try{
@@ -129,12 +153,15 @@ public class DownloadClient extends AbstractClient{
                     try{//can't download all attachments because some do not exist due to them being either deleted from JIRA system or JIRA just keeps a history of docs that were uploaded hence the ChangelogGroup instances
                         is = client.getIssueClient().getAttachment(attachment.getContentUri()).claim();
                         if(is != null){//write method below will close input stream...
-                            JiraUtil.writeFile(is, attachment.getFilename(), issue.getKey());
+                            JiraUtil.writeFile(is, attachment.getFilename(), issue.getKey(), attachment.getSize(), progress);
                             count++;
                         }// end if
                     }catch(Exception e){
-                        myLogger.warning("Could not download attachment using attachment details " + String.valueOf(attachment));
+                        myLogger.warning("Could not download attachment using attachment details " + String.valueOf(attachment) + ".  Error message is: " + e.getMessage());
                         excludedAttachments.add(String.valueOf(attachment.getFilename()));
+                        if(is != null){//the attachment was retrieved but was not written or was not the size reported by JIRA
+                            rejectedAttachments.add(String.valueOf(attachment.getFilename()));
+                        }//end if
                     }finally{
                         if(is!=null){
                             is.close();
@@ -142,7 +169,7 @@ public class DownloadClient extends AbstractClient{
                     }//end try...catch...finally
                 }//end while
 
-                if(count==0){//if no attachments were retrieved from above then they will be retrieved using the below logic.
+                if(count==0 && issue.getChangelog() != null){//if no attachments were retrieved from above then they will be retrieved using the below logic, the changelog is only retrieved to send an issue.
                     myLogger.info("Retrieving the changelog...");
                     Iterable<ChangelogGroup> logIterable = issue.getChangelog();
                     Iterator<ChangelogGroup> logIt = logIterable.iterator();
@@ -155,7 +182,7 @@ public class DownloadClient extends AbstractClient{
                         Iterator<ChangelogItem> itemIt = itemIterable.iterator();
                         while(itemIt.hasNext()){
                             ChangelogItem item = itemIt.next();
-                            if(item.getField().equals("Attachment") && item.getTo() != null){
+                            if(item.getField().equals("Attachment") && item.getTo() != null && !rejectedAttachments.contains(item.getToString())){
                                 String attachmentName = item.getToString();
                                 String attachmentId = item.getTo();
                                 String uriString = String.format("https://jira.url.goes.here/secure/attachment/%s/%s", attachmentId, URLEncoder.encode(attachmentName, "UTF-8"));
@@ -166,7 +193,7 @@ public class DownloadClient extends AbstractClient{
                                 try{//can't download all attachments because some do not exist due to them being either deleted from JIRA system or JIRA just keeps a history of docs that were uploaded hence the ChangelogGroup instances
                                     is = client.getIssueClient().getAttachment(attachmentURI).claim();
                                     if(is != null){//write method below will close input stream...
-                                        JiraUtil.writeFile(is, attachmentName, issue.getKey());
+                                        JiraUtil.writeFile(is, attachmentName, issue.getKey(), -1L, progress);//size is not known from the changelog
                                         count++;
                                     }// end if
                                 }catch(Exception e){
@@ -195,36 +222,6 @@ public class DownloadClient extends AbstractClient{
         return excludedAttachments;
     }// end method
 
-    /**
-     * This method will return the html JIRATemplate used for generating a HTML file.
-     *
-     * @param templateName the name of the template file
-     * @return templateStr the JIRATemplate.html file contents as a string
-     * @throws IOException can occur while trying to read file
-     */
-    public String getJiraTemplate(String templateName) throws IOException {
-        myLogger.entering(MY_CLASS_NAME, "getJiraTemplate");
-
-        List<String> allLines = null;
-        String templateStr = null;
-        try{
-            allLines = Files.readAllLines(Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, templateName), Charset.forName("UTF-8"));
-            Iterator<String> it = allLines.iterator();
-            StringBuilder jiraTemplate = new StringBuilder();
-            while(it.hasNext()){
-                jiraTemplate.append(it.next());
-                jiraTemplate.append(Constants.LINESEPERATOR);
-            }// end while
-            templateStr = jiraTemplate.toString();
-        }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occurred while trying to read the JIRATemplate.html and converting it into a string.  Error message is: " + e.getMessage(), e);
-            throw e;
-        }// end try...catch
-
-        myLogger.exiting(MY_CLASS_NAME, "getJiraTemplate", templateStr);
-        return templateStr;
-    }// end method
-
     /**
      * This method will build the JIRA HTML file and return it as a string.
      *
@@ -236,158 +233,196 @@ public class DownloadClient extends AbstractClient{
     public String createJIRAIssueHTMLFileAsStr(Issue issue, List<String> excludedAttachments) throws IOException {
         myLogger.entering(MY_CLASS_NAME, "createJIRAIssueHTMLFileAsStr", issue);
 
-        String jiraIssueStr = null;
-        try{
-            jiraIssueStr = getJiraTemplate("JIRATemplate.html");
-
-            myLogger.info("Building jira issue using template...");
-            jiraIssueStr = jiraIssueStr.replaceAll("@project_key@", String.valueOf(issue.getKey()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@summary@", Matcher.quoteReplacement(String.valueOf(issue.getSummary())));
-
-            jiraIssueStr = jiraIssueStr.replaceAll("@creation_date@", JiraUtil.getFormattedDateOrBlank(issue.getCreationDate()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@update_date@", JiraUtil.getFormattedDateOrBlank(issue.getUpdateDate()));
-
-            jiraIssueStr = jiraIssueStr.replaceAll("@status@", issue.getStatus() == null ? "" : JiraUtil.cleanStr(issue.getStatus().getName()));// or issue.getStatus().getDescription()
-
-            jiraIssueStr = jiraIssueStr.replaceAll("@project_name@", issue.getProject() == null ? "" : JiraUtil.cleanStr(issue.getProject().getName()));
-
-            String components = getComponents(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@components@", components == null ? "None" : Matcher.quoteReplacement(components.substring(0, components.lastIndexOf(","))));
-
-            // FIX VERSIONS START
-            String versions = getVersions(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@fix_versions@", versions == null ? "None" : Matcher.quoteReplacement(versions.substring(0, versions.lastIndexOf(","))));
-            // FIX VERSIONS END
-
-            jiraIssueStr = jiraIssueStr.replaceAll("@issue_type@", issue.getIssueType() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getIssueType().getName()));// or issue.getIssueType().getDescription()
-            jiraIssueStr = jiraIssueStr.replaceAll("@priority@", issue.getPriority() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getPriority().getName()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@reporter@", issue.getReporter() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getReporter().getDisplayName()));// or issue.getReporter().getName()
-            jiraIssueStr = jiraIssueStr.replaceAll("@assignee@", issue.getAssignee() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getAssignee().getDisplayName()));// or issue.getAssignee().getName()
-            jiraIssueStr = jiraIssueStr.replaceAll("@resolution@", issue.getResolution() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getResolution().getName()));// or issue.getIssueType().getDescription()
-
-            // LABELS START
-            String labels = getLabels(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@labels@", labels == null ? "None" : Matcher.quoteReplacement(labels.substring(0, labels.lastIndexOf(","))));
-            // LABELS END
-
-            // TIME ESTIMATES START
-            String remainingEstimate = null;
-            String timeSpent = null;
-            String originalEstimate = null;
-            if(issue.getTimeTracking() != null){
-                TimeTracking tt = issue.getTimeTracking();
-                remainingEstimate = tt.getRemainingEstimateMinutes() == null ? "Not Specified" : String.valueOf(tt.getRemainingEstimateMinutes());
-                originalEstimate = tt.getOriginalEstimateMinutes() == null ? "Not Specified" : String.valueOf(tt.getOriginalEstimateMinutes());
-                timeSpent = tt.getTimeSpentMinutes() == null ? "Not Specified" : String.valueOf(tt.getTimeSpentMinutes());
-            }else{
-                remainingEstimate = "Not Specified";
-                timeSpent = "Not Specified";
-                originalEstimate = "Not Specified";
-            }// end if...else
-             // TIME ESTIMATES END
-
-            jiraIssueStr = jiraIssueStr.replaceAll("@timetracking_remaining_estimate@", JiraUtil.cleanStr(remainingEstimate));
-            jiraIssueStr = jiraIssueStr.replaceAll("@timetracking_time_spent@", JiraUtil.cleanStr(timeSpent));
-            jiraIssueStr = jiraIssueStr.replaceAll("@timetracking_original_estimate@", JiraUtil.cleanStr(originalEstimate));
-
-            // ATTACHMENTS START
-            String attachments = getAttachments(issue, excludedAttachments);
-            jiraIssueStr = jiraIssueStr.replaceAll("@attachment_filenames@", attachments == null ? "None" : attachments.substring(0, attachments.lastIndexOf(",")));
-            // ATTACHMENTS END
-
-            // ISSUE LINKS START
-            String issueLinks = getIssueLinks(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@issue_links@", issueLinks);
-            // ISSUE LINKS END
-
-            // CUSTOM FIELDS START
-            String customFields = getCustomFields(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@custom_fields@", Matcher.quoteReplacement(customFields));
-            // CUSTOM FIELDS END
-
-            jiraIssueStr = jiraIssueStr.replaceAll("@description@", issue.getDescription() == null ? "None" : Matcher.quoteReplacement(JiraUtil.cleanStr(issue.getDescription())).replaceAll("(\n|\r\n)", "<br>"));// or issue.getStatus().getDescription()
-
-            // COMMENTS START
-            String comments = getComments(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@comment_body@", Matcher.quoteReplacement(comments));
-            // COMMENTS END
+        StringBuilder jiraIssueStr = new StringBuilder();
+        writeJIRAIssueHTML(issue, excludedAttachments, jiraIssueStr);
 
-            // current time stamp
+        myLogger.exiting(MY_CLASS_NAME, "createJIRAIssueHTMLFileAsStr", jiraIssueStr);
+        return jiraIssueStr.toString();
+    }// end method
 
-            // user from path
-            jiraIssueStr = jiraIssueStr.replaceAll("@user_from_path_env@", AppUtil.getUserIdFromEnvVar());
-            // app name
-            jiraIssueStr = jiraIssueStr.replaceAll("@current_timestamp@", LocalDateTime.now().format(DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss yyyy")));
-            // app name
-            jiraIssueStr = jiraIssueStr.replaceAll("@app_name@", UIPropertiesMgr.getInstance().getProperties().getProperty("application.name", ""));
+    /**
+     * This method will build the JIRA HTML file and write it to {@code out}.  The JIRATemplate.html is parsed once and cached so the issue is rendered in a single pass.
+     *
+     * @param issue the jira issue used to insert values into the html
+     * @param excludedAttachments attachments that should be excluded
+     * @param out where the html is written
+     * @throws IOException can occur while trying to read file the JIRATemplate.html file or while writing to {@code out}
+     */
+    public void writeJIRAIssueHTML(Issue issue, List<String> excludedAttachments, Appendable out) throws IOException {
+        myLogger.entering(MY_CLASS_NAME, "writeJIRAIssueHTML", issue);
 
-            myLogger.info("Finished building jira issue...");
+        long start = System.nanoTime();
+        try{
+            myLogger.info("Building jira issue using template...");
+            JIRATemplate.getTemplate(Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, "JIRATemplate.html")).render(getHTMLTemplateValues(issue, excludedAttachments), out);
+            myLogger.info("Finished building jira issue " + String.valueOf(issue.getKey()) + " in " + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) + " microseconds...");
         }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occurred while trying to build jira issue using the JIRATemplate.html.  Error message is: " + e.getMessage() + "; jiraIssueStr=" + String.valueOf(jiraIssueStr), e);
+            myLogger.log(Level.SEVERE, "Exception occurred while trying to build jira issue using the JIRATemplate.html.  Error message is: " + e.getMessage() + "; issue=" + String.valueOf(issue), e);
             throw e;
         }// end try...catch
 
-        myLogger.exiting(MY_CLASS_NAME, "createJIRAIssueHTMLFileAsStr", jiraIssueStr);
-        return jiraIssueStr;
+        myLogger.exiting(MY_CLASS_NAME, "writeJIRAIssueHTML");
     }// end method
 
     /**
-     * This method will build the JIRA HTML file and return it as a string.
+     * This method will return the values of the JIRATemplate.html placeholders for the {@code issue}.
      *
-     * @param issue the jira issue used to insert values into the html string
+     * @param issue the jira issue
+     * @param excludedAttachments attachments that should be excluded
+     * @return values the values by placeholder name
+     */
+    private Map<String, String> getHTMLTemplateValues(Issue issue, List<String> excludedAttachments) {
+        Map<String, String> values = new HashMap<>();
+        values.put("project_key", String.valueOf(issue.getKey()));
+        values.put("summary", String.valueOf(issue.getSummary()));
+
+        values.put("creation_date", JiraUtil.getFormattedDateOrBlank(issue.getCreationDate()));
+        values.put("update_date", JiraUtil.getFormattedDateOrBlank(issue.getUpdateDate()));
+
+        values.put("status", issue.getStatus() == null ? "" : JiraUtil.cleanStr(issue.getStatus().getName()));// or issue.getStatus().getDescription()
+
+        values.put("project_name", issue.getProject() == null ? "" : JiraUtil.cleanStr(issue.getProject().getName()));
+
+        String components = getComponents(issue);
+        values.put("components", components == null ? "None" : components.substring(0, components.lastIndexOf(",")));
+
+        // FIX VERSIONS START
+        String versions = getVersions(issue);
+        values.put("fix_versions", versions == null ? "None" : versions.substring(0, versions.lastIndexOf(",")));
+        // FIX VERSIONS END
+
+        values.put("issue_type", issue.getIssueType() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getIssueType().getName()));// or issue.getIssueType().getDescription()
+        values.put("priority", issue.getPriority() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getPriority().getName()));
+        values.put("reporter", issue.getReporter() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getReporter().getDisplayName()));// or issue.getReporter().getName()
+        values.put("assignee", issue.getAssignee() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getAssignee().getDisplayName()));// or issue.getAssignee().getName()
+        values.put("resolution", issue.getResolution() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getResolution().getName()));// or issue.getIssueType().getDescription()
+
+        // LABELS START
+        String labels = getLabels(issue);
+        values.put("labels", labels == null ? "None" : labels.substring(0, labels.lastIndexOf(",")));
+        // LABELS END
+
+        // TIME ESTIMATES START
+        String remainingEstimate = null;
+        String timeSpent = null;
+        String originalEstimate = null;
+        if(issue.getTimeTracking() != null){
+            TimeTracking tt = issue.getTimeTracking();
+            remainingEstimate = tt.getRemainingEstimateMinutes() == null ? "Not Specified" : String.valueOf(tt.getRemainingEstimateMinutes());
+            originalEstimate = tt.getOriginalEstimateMinutes() == null ? "Not Specified" : String.valueOf(tt.getOriginalEstimateMinutes());
+            timeSpent = tt.getTimeSpentMinutes() == null ? "Not Specified" : String.valueOf(tt.getTimeSpentMinutes());
+        }else{
+            remainingEstimate = "Not Specified";
+            timeSpent = "Not Specified";
+            originalEstimate = "Not Specified";
+        }// end if...else
+         // TIME ESTIMATES END
+
+        values.put("timetracking_remaining_estimate", JiraUtil.cleanStr(remainingEstimate));
+        values.put("timetracking_time_spent", JiraUtil.cleanStr(timeSpent));
+        values.put("timetracking_original_estimate", JiraUtil.cleanStr(originalEstimate));
+
+        // ATTACHMENTS START
+        String attachments = getAttachments(issue, excludedAttachments);
+        values.put("attachment_filenames", attachments == null ? "None" : attachments.substring(0, attachments.lastIndexOf(",")));
+        // ATTACHMENTS END
+
+        // ISSUE LINKS START
+        values.put("issue_links", getIssueLinks(issue));
+        // ISSUE LINKS END
+
+        // CUSTOM FIELDS START
+        values.put("custom_fields", getCustomFields(issue));
+        // CUSTOM FIELDS END
+
+        values.put("description", issue.getDescription() == null ? "None" : LINE_BREAK_PATTERN.matcher(JiraUtil.cleanStr(issue.getDescription())).replaceAll("<br>"));// or issue.getStatus().getDescription()
+
+        // COMMENTS START
+        values.put("comment_body", getComments(issue));
+        // COMMENTS END
+
+        // user from path
+        values.put("user_from_path_env", AppUtil.getUserIdFromEnvVar());
+        // current time stamp
+        values.put("current_timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss yyyy")));
+        // app name
+        values.put("app_name", UIPropertiesMgr.getInstance().getProperties().getProperty("application.name", ""));
+        return values;
+    }// end method
+
+    /**
+     * This method will build the JIRA XML file and return it as a string.
+     *
+     * @param issue the jira issue used to insert values into the xml string
      * @param excludedAttachments attachments to exclude
      * @return jiraIssueStr the built jira issue string
-     * @throws IOException can occur while trying to read file the JIRATemplate.html file
+     * @throws IOException can occur while trying to read file the JIRAXMLTemplate.xml file
      */
     public String createJIRAIssueXMLFileAsStr(Issue issue, List<String> excludedAttachments) throws IOException {
-        myLogger.entering(MY_CLASS_NAME, "createJIRAIssueHTMLFileAsStr", issue);
+        myLogger.entering(MY_CLASS_NAME, "createJIRAIssueXMLFileAsStr", issue);
 
-        String jiraIssueStr = null;
-        try{
-            jiraIssueStr = getJiraTemplate("JIRAXMLTemplate.xml");
+        StringBuilder jiraIssueStr = new StringBuilder();
+        writeJIRAIssueXML(issue, excludedAttachments, jiraIssueStr);
+
+        myLogger.exiting(MY_CLASS_NAME, "createJIRAIssueXMLFileAsStr", jiraIssueStr);
+        return jiraIssueStr.toString();
+    }// end method
 
+    /**
+     * This method will build the JIRA XML file and write it to {@code out}.  The JIRAXMLTemplate.xml is parsed once and cached so the issue is rendered in a single pass.
+     *
+     * @param issue the jira issue used to insert values into the xml
+     * @param excludedAttachments attachments to exclude
+     * @param out where the xml is written
+     * @throws IOException can occur while trying to read file the JIRAXMLTemplate.xml file or while writing to {@code out}
+     */
+    public void writeJIRAIssueXML(Issue issue, List<String> excludedAttachments, Appendable out) throws IOException {
+        myLogger.entering(MY_CLASS_NAME, "writeJIRAIssueXML", issue);
+
+        long start = System.nanoTime();
+        try{
             myLogger.info("Building jira issue using template...");
-            jiraIssueStr = jiraIssueStr.replaceAll("@project_key@", String.valueOf(issue.getKey()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@summary@", Matcher.quoteReplacement(String.valueOf(issue.getSummary())));
-            jiraIssueStr = jiraIssueStr.replaceAll("@project_name@", issue.getProject() == null ? "" : JiraUtil.cleanStr(issue.getProject().getName()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@description@", issue.getDescription() == null ? "None" : Matcher.quoteReplacement(JiraUtil.cleanStr(issue.getDescription())).replaceAll("(\n|\r\n)", "&lt;br/&gt;"));// or issue.getStatus().getDescription()
-            jiraIssueStr = jiraIssueStr.replaceAll("@issue_type@", issue.getIssueType() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getIssueType().getName()));// or issue.getIssueType().getDescription()
-            jiraIssueStr = jiraIssueStr.replaceAll("@priority@", issue.getPriority() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getPriority().getName()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@status@", issue.getStatus() == null ? "" : JiraUtil.cleanStr(issue.getStatus().getName()));// or issue.getStatus().getDescription()
-            jiraIssueStr = jiraIssueStr.replaceAll("@resolution@", issue.getResolution() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getResolution().getName()));// or issue.getIssueType().getDescription()
-            jiraIssueStr = jiraIssueStr.replaceAll("@assignee@", issue.getAssignee() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getAssignee().getDisplayName()));// or issue.getAssignee().getName()
-            jiraIssueStr = jiraIssueStr.replaceAll("@reporter@", issue.getReporter() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getReporter().getDisplayName()));// or issue.getReporter().getName()
+            Map<String, String> values = new HashMap<>();
+            values.put("project_key", String.valueOf(issue.getKey()));
+            values.put("summary", String.valueOf(issue.getSummary()));
+            values.put("project_name", issue.getProject() == null ? "" : JiraUtil.cleanStr(issue.getProject().getName()));
+            values.put("description", issue.getDescription() == null ? "None" : LINE_BREAK_PATTERN.matcher(JiraUtil.cleanStr(issue.getDescription())).replaceAll("&lt;br/&gt;"));// or issue.getStatus().getDescription()
+            values.put("issue_type", issue.getIssueType() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getIssueType().getName()));// or issue.getIssueType().getDescription()
+            values.put("priority", issue.getPriority() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getPriority().getName()));
+            values.put("status", issue.getStatus() == null ? "" : JiraUtil.cleanStr(issue.getStatus().getName()));// or issue.getStatus().getDescription()
+            values.put("resolution", issue.getResolution() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getResolution().getName()));// or issue.getIssueType().getDescription()
+            values.put("assignee", issue.getAssignee() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getAssignee().getDisplayName()));// or issue.getAssignee().getName()
+            values.put("reporter", issue.getReporter() == null ? "Not Specified" : JiraUtil.cleanStr(issue.getReporter().getDisplayName()));// or issue.getReporter().getName()
 
             // LABELS START
             String labels = getLabels(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@labels@", labels == null ? "None" : Matcher.quoteReplacement(labels.substring(0, labels.lastIndexOf(","))));
+            values.put("labels", labels == null ? "None" : labels.substring(0, labels.lastIndexOf(",")));
             // LABELS END
 
-            jiraIssueStr = jiraIssueStr.replaceAll("@creation_date@", JiraUtil.getFormattedDateOrBlank(issue.getCreationDate()));
-            jiraIssueStr = jiraIssueStr.replaceAll("@update_date@", JiraUtil.getFormattedDateOrBlank(issue.getUpdateDate()));
+            values.put("creation_date", JiraUtil.getFormattedDateOrBlank(issue.getCreationDate()));
+            values.put("update_date", JiraUtil.getFormattedDateOrBlank(issue.getUpdateDate()));
 
             // COMMENTS START
-            String comments = getXMLComments(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@comment_body@", Matcher.quoteReplacement(comments));
+            values.put("comment_body", getXMLComments(issue));
             // COMMENTS END
 
             // ATTACHMENTS START
             String attachments = getXMLAttachments(issue, excludedAttachments);
-            jiraIssueStr = jiraIssueStr.replaceAll("@attachment_filenames@", attachments == null ? "" : attachments);
+            values.put("attachment_filenames", attachments == null ? "" : attachments);
             // ATTACHMENTS END
 
             // CUSTOM FIELDS START
-            String customFields = getXMLCustomFields(issue);
-            jiraIssueStr = jiraIssueStr.replaceAll("@custom_fields@", Matcher.quoteReplacement(customFields));
+            values.put("custom_fields", getXMLCustomFields(issue));
             // CUSTOM FIELDS END
-            myLogger.info("Finished building xml jira issue...");
+
+            JIRATemplate.getTemplate(Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, "JIRAXMLTemplate.xml")).render(values, out);
+            myLogger.info("Finished building xml jira issue " + String.valueOf(issue.getKey()) + " in " + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) + " microseconds...");
         }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occurred while trying to build jira issue using the JIRATemplate.html.  Error message is: " + e.getMessage() + "; jiraIssueStr=" + String.valueOf(jiraIssueStr), e);
+            myLogger.log(Level.SEVERE, "Exception occurred while trying to build jira issue using the JIRAXMLTemplate.xml.  Error message is: " + e.getMessage() + "; issue=" + String.valueOf(issue), e);
             throw e;
         }// end try...catch
 
-        myLogger.exiting(MY_CLASS_NAME, "createJIRAIssueHTMLFileAsStr", jiraIssueStr);
-        return jiraIssueStr;
+        myLogger.exiting(MY_CLASS_NAME, "writeJIRAIssueXML");
     }// end method
 
     /**
@@ -488,7 +523,7 @@ public class DownloadClient extends AbstractClient{
                 }// end if
             }//end while
 
-            if(count==0){//if no attachments were retrieved from above then they will be retrieved using the below logic.
+            if(count==0 && issue.getChangelog() != null){//if no attachments were retrieved from above then they will be retrieved using the below logic, the changelog is only retrieved to send an issue.
                 Iterable<ChangelogGroup> logIterable = issue.getChangelog();
                 Iterator<ChangelogGroup> logIt = logIterable.iterator();
                 while(logIt.hasNext()){
@@ -688,7 +723,7 @@ public class DownloadClient extends AbstractClient{
                 }// end if
             }//end while
 
-            if(count==0){//if no attachments were retrieved from above then they will be retrieved using the below logic.
+            if(count==0 && issue.getChangelog() != null){//if no attachments were retrieved from above then they will be retrieved using the below logic, the changelog is only retrieved to send an issue.
                 Iterable<ChangelogGroup> logIterable = issue.getChangelog();
                 Iterator<ChangelogGroup> logIt = logIterable.iterator();
                 while(logIt.hasNext()){
@@ -825,13 +860,9 @@ public class DownloadClient extends AbstractClient{
 
         List<Issue> expandosList = new ArrayList<>();
         try{
-            JiraRestClient client = client();
             Iterator<Issue> it = issues.iterator();
-            Issue theIssue = null;
             while(it.hasNext()){
-                theIssue = it.next();
-                expandosList.add(client.getIssueClient().getIssue(theIssue.getKey(), Arrays.asList(IssueRestClient.Expandos.CHANGELOG)).claim());
-                myLogger.info("call to jira webservice to get the changelog with attachments was successful for " + String.valueOf(theIssue.getKey()));
+                expandosList.add(getIssueWithExpandos(it.next()));
             }//end while
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to retrieve issues changlelog expanodo.  This is needed for attachment information.  Error is: " + e.getMessage(), e);
@@ -842,4 +873,39 @@ public class DownloadClient extends AbstractClient{
         return expandosList;
     }//end method
 
+    /**
+     * This method is used for getting an issue with changelog expandos.  This is important as this is where the attachment information is located...<b>getAttachment() does not ever return data</b>.
+     *
+     * @param issue the issue used for retrieving changelog expandos.
+     *
+     * @return expandosIssue the issue with attachments
+     */
+    public Issue getIssueWithExpandos(Issue issue) {
+        myLogger.entering(MY_CLASS_NAME, "getIssueWithExpandos", issue);
+
+        Issue expandosIssue = getIssue(issue, JIRAFieldProfile.SEND);
+        myLogger.info("call to jira webservice to get the changelog with attachments was successful for " + String.valueOf(issue.getKey()));
+
+        myLogger.exiting(MY_CLASS_NAME, "getIssueWithExpandos");
+        return expandosIssue;
+    }//end method
+
+    /**
+     * This method is used for getting the full issue with the expandos of the {@code profile}, for example {@link JIRAFieldProfile#DETAILS} to view an issue without its changelog.  An issue request always returns every field.
+     *
+     * @param issue the issue, a summary is enough
+     * @param profile the profile of the request
+     * @return fullIssue the full issue
+     */
+    public Issue getIssue(Issue issue, JIRAFieldProfile profile) {
+        myLogger.entering(MY_CLASS_NAME, "getIssue", new Object[]{issue, profile});
+
+        long start = System.currentTimeMillis();
+        Issue fullIssue = client().getIssueClient().getIssue(issue.getKey(), profile.getExpandos()).claim();
+        profile.recordRequest(1, System.currentTimeMillis() - start);
+
+        myLogger.exiting(MY_CLASS_NAME, "getIssue");
+        return fullIssue;
+    }//end method
+
 }//end class
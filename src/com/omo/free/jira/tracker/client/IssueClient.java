@@ -3,20 +3,31 @@ package com.omo.free.jira.tracker.client;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
 import com.atlassian.jira.rest.client.api.JiraRestClient;
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.omo.free.jira.tracker.dao.JIRATrackerDAO;
+import com.omo.free.jira.tracker.dao.JIRATrackerWriteQueue;
+import com.omo.free.jira.tracker.model.IssueRow;
+import com.omo.free.jira.tracker.model.IssueSummary;
 import com.omo.free.jira.tracker.model.JIRACacheLoaderThread;
 import com.omo.free.jira.tracker.model.JIRACacheManager;
+import com.omo.free.jira.tracker.model.JIRAIssueNumberIndex;
 import com.omo.free.jira.tracker.model.JIRAStatus;
 import com.omo.free.jira.tracker.model.JIRATrackedIssue;
+import com.omo.free.jira.tracker.model.JIRATrackedIssueIndex;
 
 import gov.doc.isu.com.util.AppUtil;
 
@@ -31,6 +42,7 @@ public class IssueClient extends AbstractClient{
     private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
 
     private static final IssueClient INSTANCE = new IssueClient();
+    private static final DateTimeFormatter JQL_DATE_FORMAT = DateTimeFormat.forPattern("yyyy/MM/dd HH:mm");
 
     /* instance variables */
     private String projectKey;
@@ -145,6 +157,19 @@ public class IssueClient extends AbstractClient{
      * @param statusId the status id used for searching for issues
      */
     public void setIssues(String projectKey, String statusId) {
+        setIssues(projectKey, statusId, null);
+    }// end method
+
+    /**
+     * This method will connect to jira web site and retrieve issues based on the project key and status id passed into this method.  The issues are retrieved one page at a time and each page is handed to the {@code pageListener} as soon as it arrives.
+     *
+     * <p>This method is synchronized so that a cancelled retrieval still finishing its last page cannot mix its issues into the next retrieval.</p>
+     *
+     * @param projectKey the project key used for searching for issues
+     * @param statusId the status id used for searching for issues
+     * @param pageListener the listener notified of each page of issues, may be null
+     */
+    public synchronized void setIssues(String projectKey, String statusId, IssuePageListener pageListener) {
         myLogger.entering(MY_CLASS_NAME, "setIssues", new Object[]{projectKey, statusId});
 
         if(issues == null){//initialize the issues list
@@ -164,90 +189,93 @@ public class IssueClient extends AbstractClient{
         this.errorFlag = false;
 
         String searchQuery = null;
-        Iterable<Issue> iterable = null;
-        JiraRestClient client = null;
-        List<Issue> allIssues = null;
+        JQLPageIterator pages = null;
+        DateTime syncStart = null;
+        JIRATrackedIssueIndex trackedIndex = null;
+        List<Issue> allIssues = new ArrayList<>();
+        boolean isComplete = true;
         JIRACacheManager cache = JIRACacheManager.getInstance();
         try{
+            if(this.dao == null){
+                myLogger.info("JIRA Tracker database not accessible going to just add all issues to issues list.");
+            }else{
+                try{
+                    if(isRefresh() || !dao.getTrackedIssueIndex().isLoaded(projectKey)){//the index is kept in sync with this user's sends so only reload on refresh
+                        dao.getJIRAIssuesByProjectKey(projectKey);
+                    }//end if
+                    trackedIndex = dao.getTrackedIssueIndex();
+                }catch(Exception e){
+                    myLogger.log(Level.SEVERE, "Exception trying to get tracked issues.  Error message is: " + e.getMessage());
+                    errorFlag = true;
+                    myLogger.info("JIRA Tracker database not accessible going to just add all issues to issues list.");
+                }// end try...catch
+            }// end if...else
+
             //if !isRefresh && containsStatus
             if(!isRefresh() && cache.containsStatusKeyForProject(projectKey, statusId)){
-                allIssues = cache.getUntrackedIssuesFromCache(projectKey, statusId);
+                List<Issue> cachedIssues = cache.getUntrackedIssuesFromCache(projectKey, statusId);//entry may be evicted by a background load at any time
+                List<Issue> cachedTrackedIssues = cache.getTrackedIssuesFromCache(projectKey, statusId);
+                if(cachedIssues != null){
+                    allIssues.addAll(cachedIssues);
+                }//end if
+                if(trackedIndex != null && !AppUtil.isEmpty(cachedTrackedIssues)){//add the tracked issues here when not refreshed
+                    trackedIssues.addAll(cachedTrackedIssues);
+                }//end if
+                partitionIssues(allIssues, trackedIndex, issues, trackedIssues);
+            }else if(isRefresh() && cache.containsStatusKeyForProject(projectKey, statusId) && cache.getLastSync(projectKey, statusId) != null){
+                this.status = statusId;
+                allIssues.addAll(retrieveIssueChangesSinceLastSync(projectKey, statusId, trackedIndex));
+                partitionIssues(allIssues, trackedIndex, issues, trackedIssues);
             }else{
-                if("0".equals(statusId)){
-                    /*
-                     * 1=OPEN
-                     * 3=In Progress
-                     * 10102=Production Fix
-                     * 10736=In Development
-                     * 10737=In Testing
-                     * 10738=Ready to Migrate
-                     * 10111=Research
-                     * 10047=Researching Issue
-                     */
-                    searchQuery = "project = " + String.valueOf(projectKey) + " AND status in (1, 3, 10102, 10736, 10737, 10738, 10111, 10047)";// need to explain this thoroughly...see above descriptions...
-                    this.status = "0";
-                }else{
-                    searchQuery = "project = " + String.valueOf(projectKey) + " AND status in (" + String.valueOf(statusId) + ")";// need to explain this thoroughly...
-                    this.status = statusId;
-                }//end if...else
-
+                syncStart = new DateTime();
+                searchQuery = buildStatusSearchQuery(projectKey, statusId) + " ORDER BY created DESC";//newest first so the first page holds the issues shown at the top of the list
                 myLogger.info("Running search JQL to retrieve issues from JIRA website.  Executing the following searchQuery: " + searchQuery);
-                client = client();
-
-                iterable = client.getSearchClient().searchJql(searchQuery, 75, 0, null).claim().getIssues();
-                allIssues = new ArrayList<Issue>();
-
-                Iterator<Issue> it = iterable.iterator();
-                while(it.hasNext()){
-                    Issue i = it.next();
-                    myLogger.info("attachment uri: " + String.valueOf(i.getAttachmentsUri()));//all uri's exist!
-                    myLogger.info("attachments: " + String.valueOf(i.getAttachments()));//all uri's exist!
-                    myLogger.info("attachments: " + String.valueOf(i.getFieldByName("Attachments")));//all uri's exist!
-//                    allIssues.add(client.getIssueClient().getIssue(i.getKey(), Arrays.asList(IssueRestClient.Expandos.CHANGELOG)).claim());//this is too slow
-                    allIssues.add(i);
+                pages = new JQLPageIterator(client().getSearchClient(), searchQuery, JQLPageIterator.getConfiguredPageSize(), JIRAFieldProfile.INDEXED_LIST);
+
+                Set<String> keysRetrieved = new HashSet<>();
+                int pageNumber = 0;
+                while(pages.hasNext()){
+                    List<Issue> page = new ArrayList<>();
+                    for(Issue issue : IssueSummary.summarize(pages.next())){//next page is already being retrieved here, only the summaries are kept
+                        if(keysRetrieved.add(issue.getKey())){//offset paging can repeat an issue when issues are created between pages
+                            page.add(issue);
+                        }//end if
+                    }//end for
+                    allIssues.addAll(page);
+
+                    List<Issue> untrackedPage = new ArrayList<>();
+                    List<Issue> trackedPage = new ArrayList<>();
+                    partitionIssues(page, trackedIndex, untrackedPage, trackedPage);
+                    issues.addAll(untrackedPage);
+                    trackedIssues.addAll(trackedPage);
+
+                    if(pageListener != null && !pageListener.pageLoaded(pageNumber++, untrackedPage, trackedPage)){
+                        myLogger.info("Page listener requested to stop retrieving pages for searchQuery: " + searchQuery);
+                        pages.cancel();
+                        isComplete = false;
+                    }//end if
                 }// end while
             }//end if...else
 
-            if(this.dao == null){
-                myLogger.info("JIRA Tracker database not accessible going to just add all issues to issues list.");
-                for(int i = 0, j = allIssues.size();i < j;i++){
-                    issues.add(allIssues.get(i));
-                }// end for
-                cache.addUntrackedIssuesToCache(projectKey, statusId, issues);
-            }else{
-                Issue issue = null;
-                List<JIRATrackedIssue> jiraIssues = dao.getJIRAIssuesByProjectKey(projectKey);
-                JIRATrackedIssue compareIssue = null;
-
-                if(!AppUtil.isEmpty(cache.getTrackedIssuesFromCache(projectKey, statusId)) && !isRefresh()){//add the tracked issues here when not refreshed
-                    trackedIssues.addAll(cache.getTrackedIssuesFromCache(projectKey, statusId));
-                }//end if
-
-                for(int i = 0, j = allIssues.size();i < j;i++){
-                    issue = allIssues.get(i);
-                    compareIssue = new JIRATrackedIssue(issue.getKey());
-                    if(jiraIssues.contains(compareIssue)){
-                        trackedIssues.add(issue);
-                    }else{
-                        issues.add(issue);
-                    }// end if
-                }// end for
-
-                //add to cache here
+            //add to cache here...partial results are never cached
+            if(isComplete){
                 cache.addTrackedIssuesToCache(projectKey, statusId, trackedIssues);
                 cache.addUntrackedIssuesToCache(projectKey, statusId, issues);
-
-            }// end if...else
+                if(syncStart != null){//full retrieval so start delta syncs from here
+                    cache.setLastSync(projectKey, statusId, syncStart);
+                    cache.recordLoadTime(System.currentTimeMillis() - syncStart.getMillis());
+                    JIRAIssueNumberIndex.getInstance().addIssues(projectKey, allIssues);
+                }//end if
+            }//end if
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception trying to get issues.  Error message is: " + e.getMessage());
             errorFlag = true;
+            if(pages != null){
+                pages.cancel();
+            }//end if
             issues.clear();
             trackedIssues.clear();
-            myLogger.info("JIRA Tracker database not accessible going to just add all issues to issues list.");
-            for(int i = 0, j = allIssues.size();i < j;i++){
-                issues.add(allIssues.get(i));
-            }// end for
-            cache.addUntrackedIssuesToCache(projectKey, statusId, issues);
+            issues.addAll(allIssues);
         }finally{
             this.setRefresh(false);//always set to false to reset value on every call of this method
         }// end try...catch
@@ -255,52 +283,243 @@ public class IssueClient extends AbstractClient{
         myLogger.exiting(MY_CLASS_NAME, "setIssues");
     }// end method
 
+    /**
+     * This method will set the issues using the cached issues of the project/status without connecting to the JIRA web site.  This is used to display the issues read from the warm-start snapshot right away, the time to live of the cache is ignored as the issues are reconciled with the JIRA website in the background.
+     *
+     * @param projectKey the project key
+     * @param statusId the status id
+     * @return true if cached issues were found
+     */
+    public synchronized boolean restoreIssues(String projectKey, String statusId) {
+        myLogger.entering(MY_CLASS_NAME, "restoreIssues", new Object[]{projectKey, statusId});
+
+        JIRACacheManager cache = JIRACacheManager.getInstance();
+        List<Issue> cachedIssues = cache.getUntrackedIssuesFromCache(projectKey, statusId);
+        List<Issue> cachedTrackedIssues = cache.getTrackedIssuesFromCache(projectKey, statusId);
+        boolean isRestored = cachedIssues != null;
+
+        if(isRestored){
+            JIRATrackedIssueIndex trackedIndex = null;
+            if(dao != null){
+                try{
+                    dao.getJIRAIssuesByProjectKey(projectKey);
+                    trackedIndex = dao.getTrackedIssueIndex();
+                }catch(Exception e){
+                    myLogger.log(Level.SEVERE, "Exception trying to get tracked issues.  Error message is: " + e.getMessage());
+                    errorFlag = true;
+                }// end try...catch
+            }// end if
+
+            List<Issue> allIssues = new ArrayList<>(cachedIssues);
+            if(cachedTrackedIssues != null){
+                allIssues.addAll(cachedTrackedIssues);
+            }//end if
+            issues = new ArrayList<>();
+            trackedIssues = new ArrayList<>();
+            partitionIssues(allIssues, trackedIndex, issues, trackedIssues);
+            this.projectKey = projectKey;
+            this.status = statusId;
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "restoreIssues", isRestored);
+        return isRestored;
+    }// end method
+
+    /**
+     * This method will retrieve only the issues of the project that were updated on the JIRA website since the last sync of the project/status and merge them into the cache.  The merge moves issues between the cached statuses and removes issues that have left the status.
+     *
+     * @param projectKey the project key used for searching for issues
+     * @param statusId the status id used for searching for issues
+     * @param trackedIndex the index of issues that have been sent to the shop, null when the tracker database is not accessible
+     * @return allIssues the cached issues of the project/status after the merge
+     */
+    private List<Issue> retrieveIssueChangesSinceLastSync(String projectKey, String statusId, JIRATrackedIssueIndex trackedIndex) {
+        myLogger.entering(MY_CLASS_NAME, "retrieveIssueChangesSinceLastSync", new Object[]{projectKey, statusId});
+
+        JIRACacheManager cache = JIRACacheManager.getInstance();
+        DateTime syncStart = new DateTime();
+        String searchQuery = "project = " + String.valueOf(projectKey) + " AND updated >= \"" + JQL_DATE_FORMAT.print(cache.getLastSync(projectKey, statusId)) + "\" ORDER BY updated ASC";
+        myLogger.info("Running delta search JQL to retrieve updated issues from JIRA website.  Executing the following searchQuery: " + searchQuery);
+
+        List<Issue> updatedIssues = new ArrayList<>();
+        JQLPageIterator pages = new JQLPageIterator(client().getSearchClient(), searchQuery, JQLPageIterator.getConfiguredPageSize(), JIRAFieldProfile.INDEXED_LIST);
+        while(pages.hasNext()){
+            updatedIssues.addAll(IssueSummary.summarize(pages.next()));
+        }// end while
+        myLogger.info("number of issues updated since last sync is " + updatedIssues.size());
+
+        cache.mergeUpdatedIssues(projectKey, updatedIssues, issueKey -> trackedIndex != null && trackedIndex.isTracked(issueKey));
+        cache.setLastSync(projectKey, statusId, syncStart);
+        JIRAIssueNumberIndex.getInstance().addIssues(projectKey, updatedIssues);
+
+        List<Issue> allIssues = new ArrayList<>();
+        List<Issue> cachedIssues = cache.getUntrackedIssuesFromCache(projectKey, statusId);
+        List<Issue> cachedTrackedIssues = cache.getTrackedIssuesFromCache(projectKey, statusId);
+        if(cachedIssues != null){
+            allIssues.addAll(cachedIssues);
+        }//end if
+        if(cachedTrackedIssues != null){
+            allIssues.addAll(cachedTrackedIssues);
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "retrieveIssueChangesSinceLastSync", allIssues.size());
+        return allIssues;
+    }// end method
+
+    /**
+     * This method will split the {@code allIssues} into the {@code untracked} and {@code tracked} lists using the listing of issues that have been sent to the shop.
+     *
+     * @param allIssues the issues to split
+     * @param trackedIndex the index of issues that have been sent to the shop, null when the tracker database is not accessible
+     * @param untracked the list to add the untracked issues to
+     * @param tracked the list to add the tracked issues to
+     */
+    private void partitionIssues(List<Issue> allIssues, JIRATrackedIssueIndex trackedIndex, List<Issue> untracked, List<Issue> tracked) {
+        Issue issue = null;
+        for(int i = 0, j = allIssues.size();i < j;i++){
+            issue = allIssues.get(i);
+            if(trackedIndex != null && trackedIndex.isTracked(issue.getKey())){
+                tracked.add(issue);
+            }else{
+                untracked.add(issue);
+            }// end if
+            IssueRow.prepare(issue);//rows are made here so the listings do not read the issues on the JavaFX Application Thread
+        }// end for
+    }// end method
+
+    /**
+     * This method will build the JQL used to retrieve the issues for the {@code projectKey} and {@code statusId}.
+     *
+     * @param projectKey the project key
+     * @param statusId the status id, "0" for the common open statuses
+     * @return searchQuery the JQL
+     */
+    private String buildStatusSearchQuery(String projectKey, String statusId) {
+        String searchQuery = null;
+        //status of 0 is the common open statuses see JIRAStatus for the descriptions
+        searchQuery = "project = " + String.valueOf(projectKey) + " AND status in (" + String.join(", ", JIRAStatus.getStatusIdsForKey(statusId)) + ")";
+        this.status = statusId;
+        return searchQuery;
+    }// end method
+
     /**
      * This method will retrieve all of the tracked issues that were logged within the shared database file.
      *
      * <p>NOTE:  maybe load this into the cache at a later time
      */
     public void retrieveAllTrackedIssues() throws Exception{
+        retrieveAllTrackedIssues(null);
+    }//end method
+
+    /**
+     * This method will retrieve all of the tracked issues that were logged within the shared database file.  The issue keys are split into chunks that are each retrieved with one {@code key in (...)} query, a limited number of chunks are retrieved at the same time and each chunk is handed to the {@code pageListener} as soon as it arrives in the order of the chunks.
+     *
+     * <p>A chunk that fails (for example when one of its issues was deleted from the JIRA website) is retrieved again one issue at a time so that the remaining issues are still listed.  When the retrieval is interrupted or cancelled nothing is retrieved again, the outstanding chunks are cancelled and the issues retrieved so far are kept as when the {@code pageListener} asks to stop.</p>
+     *
+     * @param pageListener the listener notified of each chunk of tracked issues, may be null
+     * @throws Exception if the tracked issues could not be retrieved
+     */
+    public synchronized void retrieveAllTrackedIssues(IssuePageListener pageListener) throws Exception{
         myLogger.entering(MY_CLASS_NAME, "retrieveAllTrackedIssues");
 
         //clear lists...note that these lists will be created already no need to check for null.
-
-        String searchQuery = null;
-        Iterable<Issue> iterable = null;
-        JiraRestClient client = null;
-
+        List<JQLPageIterator> chunksInProgress = new ArrayList<>();
         try{
             if(this.dao == null){
                 myLogger.warning("JIRA Tracker database not accessible, therefore could not load the listing of tracked issues.");
                 throw new Exception("Could not access the listing of tracked issues.");
             }else{
-                Issue issue = null;
-                searchQuery = "issueKey = %s";// need to explain this thoroughly...
                 List<JIRATrackedIssue> jiraIssues = dao.getJIRAIssuesByProjectKey(projectKey);
-                client = client();
+                List<String> issueKeys = new ArrayList<>(jiraIssues.size());
+                for(int i = 0, j = jiraIssues.size(); i < j; i++){
+                    issueKeys.add(String.valueOf(jiraIssues.get(i).getIssueKey()));
+                }//end for
+                List<List<String>> chunks = chunkIssueKeys(issueKeys, getIntProperty("jira.search.key.chunk.size", DEFAULT_KEY_CHUNK_SIZE));
+                int maxConcurrent = getIntProperty("jira.search.max.concurrent", DEFAULT_MAX_CONCURRENT_SEARCHES);
+                myLogger.info("retrieving " + issueKeys.size() + " tracked issues in " + chunks.size() + " chunks, " + maxConcurrent + " at a time.");
+                JiraRestClient client = client();
 
                 //clear lists here
                 this.issues.clear();
                 this.trackedIssues.clear();
-                for(int i = 0, j = jiraIssues.size(); i < j; i++){
-                    iterable = client.getSearchClient().searchJql(String.format(searchQuery, String.valueOf(jiraIssues.get(i).getIssueKey())), 2, 0, null).claim().getIssues();
-
-                    Iterator<Issue> it = iterable.iterator();
-                    while(it.hasNext()){
-                        issue = it.next();
-                        this.trackedIssues.add(issue);
+                int nextChunk = 0;
+                for(int chunkNumber = 0, j = chunks.size(); chunkNumber < j && !Thread.currentThread().isInterrupted(); chunkNumber++){
+                    while(nextChunk < j && chunksInProgress.size() < maxConcurrent){//keep the limit of chunks downloading
+                        chunksInProgress.add(new JQLPageIterator(client.getSearchClient(), buildKeySearchQuery(chunks.get(nextChunk)), chunks.get(nextChunk).size(), JIRAFieldProfile.INDEXED_LIST));
+                        nextChunk++;
                     }//end while
+
+                    List<Issue> chunkIssues = new ArrayList<>();
+                    JQLPageIterator pages = chunksInProgress.remove(0);
+                    try{
+                        while(pages.hasNext()){
+                            chunkIssues.addAll(IssueSummary.summarize(pages.next()));
+                        }//end while
+                    }catch(Exception e){
+                        if(isInterruption(e)){//cancelled, the outstanding chunks are cancelled below and nothing is retrieved again
+                            myLogger.info("Retrieving chunk " + chunkNumber + " of tracked issues was interrupted, the retrieval is stopped.");
+                            pages.cancel();
+                            break;
+                        }//end if
+                        myLogger.log(Level.WARNING, "Chunk " + chunkNumber + " of tracked issues could not be retrieved, retrieving its issues one at a time.  Error message is: " + e.getMessage());
+                        chunkIssues.clear();
+                        chunkIssues.addAll(retrieveIssuesOneAtATime(client, chunks.get(chunkNumber)));
+                    }//end try...catch
+                    IssueRow.prepare(chunkIssues);//rows are made here so the listings do not read the issues on the JavaFX Application Thread
+                    this.trackedIssues.addAll(chunkIssues);
+
+                    if(pageListener != null && !pageListener.pageLoaded(chunkNumber, Collections.<Issue>emptyList(), chunkIssues)){
+                        myLogger.info("Page listener requested to stop retrieving tracked issues.");
+                        break;
+                    }//end if
                 }//end for
             }// end if...else
         }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occurred while trying to retrieve the tracked issues.  Error message is: " + e.getMessage(), e);
-            trackedIssues.clear();
-            throw new Exception("Could not access the listing of tracked issues.");
+            if(isInterruption(e)){
+                myLogger.info("Retrieving the tracked issues was interrupted, " + trackedIssues.size() + " tracked issues were retrieved.");
+            }else{
+                myLogger.log(Level.SEVERE, "Exception occurred while trying to retrieve the tracked issues.  Error message is: " + e.getMessage(), e);
+                trackedIssues.clear();
+                throw new Exception("Could not access the listing of tracked issues.");
+            }//end if...else
+        }finally{
+            for(int i = 0, j = chunksInProgress.size(); i < j; i++){
+                chunksInProgress.get(i).cancel();
+            }//end for
         }// end try...catch
 
-        myLogger.exiting(MY_CLASS_NAME, "retrieveAllTrackedIssues");
+        myLogger.exiting(MY_CLASS_NAME, "retrieveAllTrackedIssues", trackedIssues.size());
     }//end method
 
+    /**
+     * This method will retrieve the issues of the {@code issueKeys} one at a time skipping the issues that can no longer be retrieved.  The retrieval stops when it is interrupted.
+     *
+     * @param client the jira rest client
+     * @param issueKeys the issue keys
+     * @return retrieved the issues that could be retrieved
+     */
+    private List<Issue> retrieveIssuesOneAtATime(JiraRestClient client, List<String> issueKeys) {
+        List<Issue> retrieved = new ArrayList<>();
+        for(int i = 0, j = issueKeys.size(); i < j && !Thread.currentThread().isInterrupted(); i++){
+            try{
+                List<Issue> found = new ArrayList<>();
+                long start = System.currentTimeMillis();
+                Iterator<Issue> it = client.getSearchClient().searchJql("issueKey = " + issueKeys.get(i), 2, 0, JIRAFieldProfile.INDEXED_LIST.getFields()).claim().getIssues().iterator();
+                while(it.hasNext()){
+                    found.add(it.next());
+                }//end while
+                JIRAFieldProfile.INDEXED_LIST.recordRequest(found.size(), System.currentTimeMillis() - start);
+                retrieved.addAll(IssueSummary.summarize(found));
+            }catch(Exception e){
+                if(isInterruption(e)){
+                    break;
+                }//end if
+                myLogger.warning("Skipping tracked issue " + issueKeys.get(i) + " as it could not be retrieved.  Error message is: " + e.getMessage());
+            }//end try...catch
+        }//end for
+        return retrieved;
+    }// end method
+
     /**
      * This method will load the jira issues cache sorted by project|status.
      */
@@ -330,27 +549,7 @@ public class IssueClient extends AbstractClient{
     }//end method
 
     /**
-     * This method will update Tracked JIRA Issues.
-     *
-     * @param jiraIssues the issues to update
-     */
-    public void updateTrackedIssue(List<JIRATrackedIssue> jiraIssues) {
-        myLogger.entering(MY_CLASS_NAME, "saveTrackedIssue", jiraIssues);
-
-        if(dao == null){
-            myLogger.warning("DAO is null therefore cannot update tracked issue.");
-        }else{
-            try{
-                dao.update(jiraIssues);
-            }catch(Exception e){
-                myLogger.log(Level.SEVERE, "Exception occurred trying to update tracked issues.  Error is: " + e.getMessage(), e);
-            }// end try...catch
-        }// end if
-        myLogger.exiting(MY_CLASS_NAME, "saveTrackedIssue");
-    }// end method
-
-    /**
-     * This method will save Tracked JIRA Issues
+     * This method will save Tracked JIRA Issues.  Issues that are already tracked have their last sent timestamp updated.  The issues are queued to be written in the background, if they cannot be queued they are written right away.
      * @param jiraIssues the issues to save
      */
     public void saveTrackedIssue(List<JIRATrackedIssue> jiraIssues) {
@@ -360,9 +559,14 @@ public class IssueClient extends AbstractClient{
             myLogger.warning("DAO is null therefore cannot save tracked issue.");
         }else{
             try{
-                dao.insert(jiraIssues);
+                JIRATrackerWriteQueue.getInstance().enqueue(JIRATrackerDAO.OPERATION_UPSERT, jiraIssues);
             }catch(Exception e){
-                myLogger.log(Level.SEVERE, "Exception occurred trying to save new tracked issues.  Error is: " + e.getMessage(), e);
+                myLogger.warning("Could not queue the tracked issues, writing them now.  Error message is: " + e.getMessage());
+                try{
+                    dao.upsert(jiraIssues);
+                }catch(Exception ex){
+                    myLogger.log(Level.SEVERE, "Exception occurred trying to save new tracked issues.  Error is: " + ex.getMessage(), ex);
+                }// end try...catch
             }// end try...catch
         }// end if
 
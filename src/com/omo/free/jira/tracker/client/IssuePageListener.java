@@ -0,0 +1,24 @@
+package com.omo.free.jira.tracker.client;
+
+import java.util.List;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+/**
+ * This IssuePageListener interface is implemented by classes that want to receive the {@code Issue}'s retrieved from the JIRA website one page at a time as each page arrives.
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public interface IssuePageListener {
+
+    /**
+     * This method is called on the background thread each time a page of issues has been retrieved.
+     *
+     * @param pageNumber the zero based number of the page
+     * @param untrackedIssues the issues within the page that have not been sent to the shop
+     * @param trackedIssues the issues within the page that have been sent to the shop
+     * @return true to keep retrieving pages, false to stop retrieving pages
+     */
+    boolean pageLoaded(int pageNumber, List<Issue> untrackedIssues, List<Issue> trackedIssues);
+
+}//end interface
@@ -0,0 +1,144 @@
+package com.omo.free.jira.tracker.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.atlassian.jira.rest.client.api.JiraRestClient;
+import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClientFactory;
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.util.JiraUtil;
+
+import gov.doc.isu.simple.fx.managers.UIPropertiesMgr;
+
+/**
+ * This JIRAClientManager class is used to hold a single shared {@code JiraRestClient} instance for the JIRA Shop Tracker UI.
+ *
+ * <p>Building a {@code JiraRestClient} creates a new asynchronous http stack (connection pool, TLS handshake, etc.) so the client is built once per credential set and reused by all of the client classes.  The client is rebuilt only when the saved credentials change or when {@link #invalidate()} is called and is closed when the application is closed.  Once closed no client is built again, so background work still running while the application closes can not leave a client open.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRAClientManager {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.client.JIRAClientManager";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static volatile JIRAClientManager SINGLETON;
+
+    private JiraRestClient jiraClient;
+    private String encryptedUser;
+    private String encryptedPass;
+    private boolean isClosed;
+
+    /**
+     * Default constructor used to create an instance of the JIRAClientManager.
+     */
+    private JIRAClientManager() {}//end constructor
+
+    /**
+     * This method will return the single instance of the {@code JIRAClientManager}.
+     *
+     * @return SINGLETON single instance of this class
+     */
+    public static JIRAClientManager getInstance(){
+        if(SINGLETON == null){
+            synchronized(JIRAClientManager.class){//double-checked locking
+                if(SINGLETON == null){
+                    SINGLETON = new JIRAClientManager();
+                }//end if
+            }//end synchronized
+        }//end if
+        return SINGLETON;
+    }//end method
+
+    /**
+     * This method will return the shared {@code JiraRestClient}.  A new client is built only if one does not exist yet or if the saved credentials have changed since the current client was built.
+     *
+     * @return jiraClient the shared rest client
+     * @throws IllegalStateException if the manager has been closed
+     */
+    public synchronized JiraRestClient getClient() {
+        myLogger.entering(MY_CLASS_NAME, "getClient");
+
+        if(isClosed){
+            myLogger.warning("The shared jiraClient was requested after it was closed.");
+            throw new IllegalStateException("The JIRA client has been closed as the application is closing.");
+        }//end if
+
+        String user = UIPropertiesMgr.getInstance().getProperties().getProperty("jira.user");
+        String pass = UIPropertiesMgr.getInstance().getProperties().getProperty("jira.pass");
+
+        if(jiraClient == null || !Objects.equals(user, encryptedUser) || !Objects.equals(pass, encryptedPass)){
+            closeClient();
+            jiraClient = buildClient(user, pass);
+            encryptedUser = user;
+            encryptedPass = pass;
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "getClient", jiraClient);
+        return jiraClient;
+    }//end method
+
+    /**
+     * This method will build a new {@code JiraRestClient} using the encrypted {@code user} and {@code pass} values.
+     *
+     * @param user the encrypted user id
+     * @param pass the encrypted password
+     * @return client the newly built rest client
+     */
+    private JiraRestClient buildClient(String user, String pass) {
+        myLogger.entering(MY_CLASS_NAME, "buildClient");
+
+        URI jiraServerUri = URI.create(JIRAConstants.JIRA_URL);
+        myLogger.info("created URI " + JIRAConstants.JIRA_URL);
+
+        AsynchronousJiraRestClientFactory jiraClientfactory = new AsynchronousJiraRestClientFactory();
+        JiraRestClient client = jiraClientfactory.createWithBasicHttpAuthentication(jiraServerUri, JiraUtil.decrypt(user), JiraUtil.decrypt(pass));
+        myLogger.info("built new shared jiraClient");
+
+        myLogger.exiting(MY_CLASS_NAME, "buildClient", client);
+        return client;
+    }//end method
+
+    /**
+     * This method will invalidate the shared client so that the next call to {@link #getClient()} builds a new client.  This should be called when the user saves new connection settings.
+     */
+    public synchronized void invalidate() {
+        myLogger.entering(MY_CLASS_NAME, "invalidate");
+        closeClient();
+        myLogger.exiting(MY_CLASS_NAME, "invalidate");
+    }//end method
+
+    /**
+     * This method will close the shared client releasing its connections.  This should be called when the application is closing, {@link #getClient()} throws an {@code IllegalStateException} afterwards.
+     */
+    public synchronized void close() {
+        myLogger.entering(MY_CLASS_NAME, "close");
+        isClosed = true;
+        closeClient();
+        myLogger.exiting(MY_CLASS_NAME, "close");
+    }//end method
+
+    /**
+     * This method will close the current client if one exists and reset the credential values it was built with.
+     */
+    private void closeClient() {
+        myLogger.entering(MY_CLASS_NAME, "closeClient");
+
+        if(jiraClient != null){
+            try{
+                jiraClient.close();
+            }catch(IOException e){
+                myLogger.log(Level.WARNING, "IOException occurred while trying to close the jiraClient.  Error message is: " + e.getMessage(), e);
+            }//end try...catch
+        }//end if
+        jiraClient = null;
+        encryptedUser = null;
+        encryptedPass = null;
+
+        myLogger.exiting(MY_CLASS_NAME, "closeClient");
+    }//end method
+
+}//end class
@@ -0,0 +1,108 @@
+package com.omo.free.jira.tracker.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.atlassian.jira.rest.client.api.IssueRestClient;
+
+/**
+ * This JIRAFieldProfile enum names the fields and expandos requested from the JIRA website for each use of an issue, so that a listing does not download every navigable field (large descriptions and custom fields) just to show a key and summary.
+ *
+ * <p>The fields of a profile are passed as the {@code fields} parameter of a JQL search and the expandos as the {@code expand} parameter of an issue request.  JIRA always needs the summary, issuetype, created, updated, project and status fields to parse an issue so every profile includes them.  Each profile counts the requests, issues and time spent retrieving them, use {@link JIRAFieldProfileMeter} to measure the bytes transferred per profile.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public enum JIRAFieldProfile {
+
+    /* what the listings show, the attachment field is used for the attachment image */
+    LIST(Collections.<IssueRestClient.Expandos>emptyList(), "summary", "issuetype", "created", "updated", "project", "status", "attachment"),
+    /* what the listings show plus the text indexed by the JIRATextIndex, used for issues that are cached */
+    INDEXED_LIST(Collections.<IssueRestClient.Expandos>emptyList(), "summary", "issuetype", "created", "updated", "project", "status", "attachment", "description", "comment"),
+    /* every field, used to view the details of an issue */
+    DETAILS(Collections.<IssueRestClient.Expandos>emptyList(), "*all"),
+    /* every field and the changelog which holds the attachments that can no longer be found by the attachment field, used to send an issue to the shop */
+    SEND(Arrays.asList(IssueRestClient.Expandos.CHANGELOG), "*all");
+
+    private final Set<String> fields;
+    private final List<IssueRestClient.Expandos> expandos;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong issues = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong();
+
+    /**
+     * Constructor used to create an instance of the JIRAFieldProfile enum.
+     *
+     * @param expandos the expandos to request
+     * @param fields the fields to request
+     */
+    private JIRAFieldProfile(List<IssueRestClient.Expandos> expandos, String... fields) {
+        this.expandos = Collections.unmodifiableList(expandos);
+        this.fields = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(fields)));
+    }//end constructor
+
+    /**
+     * @return the fields passed to a JQL search
+     */
+    public Set<String> getFields() {
+        return fields;
+    }//end method
+
+    /**
+     * @return the expandos passed to an issue request
+     */
+    public List<IssueRestClient.Expandos> getExpandos() {
+        return expandos;
+    }//end method
+
+    /**
+     * This method will return the fields as the value of the {@code fields} request parameter, for example summary,status.
+     *
+     * @return the comma separated fields
+     */
+    public String getFieldsParameter() {
+        return String.join(",", fields);
+    }//end method
+
+    /**
+     * This method will return the expandos as the value of the {@code expand} request parameter, for example changelog.
+     *
+     * @return the comma separated expandos or an empty string when none are requested
+     */
+    public String getExpandParameter() {
+        StringBuilder expand = new StringBuilder();
+        for(IssueRestClient.Expandos expando : expandos){
+            expand.append(expand.length() == 0 ? "" : ",").append(expando.getValue());
+        }//end for
+        return expand.toString();
+    }//end method
+
+    /**
+     * This method will count a request made with this profile.
+     *
+     * @param issueCount the number of issues returned
+     * @param elapsedMillis the milliseconds from sending the request until the issues were returned
+     */
+    public void recordRequest(int issueCount, long elapsedMillis) {
+        requests.incrementAndGet();
+        issues.addAndGet(issueCount);
+        millis.addAndGet(elapsedMillis);
+    }//end method
+
+    /**
+     * This method will return the counts of every profile for logging, for example {@code LIST: 4 requests, 350 issues, 2100 ms}.
+     *
+     * @return statistics the counts of every profile
+     */
+    public static String getStatistics() {
+        StringBuilder statistics = new StringBuilder();
+        for(JIRAFieldProfile profile : values()){
+            statistics.append(statistics.length() == 0 ? "" : "; ").append(profile.name()).append(": ").append(profile.requests.get()).append(" requests, ").append(profile.issues.get()).append(" issues, ").append(profile.millis.get()).append(" ms");
+        }//end for
+        return statistics.toString();
+    }//end method
+
+}//end enum
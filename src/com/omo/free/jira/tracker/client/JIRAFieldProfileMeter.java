@@ -0,0 +1,164 @@
+package com.omo.free.jira.tracker.client;
+
+import java.io.Console;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.util.JiraUtil;
+
+import gov.doc.isu.simple.fx.managers.UIPropertiesMgr;
+
+/**
+ * This JIRAFieldProfileMeter class is used to measure the bytes the JIRA website sends for one page of a JQL search with each {@link JIRAFieldProfile}.
+ *
+ * <p>The rest client does not report the size of its responses so the meter sends the same search straight to the REST api with the fields and expand parameters of each profile and counts the bytes of each response as they come over the wire (gzip is accepted just as the rest client does).  The default fields (*navigable, what a search without fields returns) are measured first for comparison.  The issue profiles (details and send) are measured through the search as well, which returns each issue as an issue request would.</p>
+ *
+ * <p>The credentials saved by the connection settings are used as the application uses them, a user id or password that was not saved is read from the console so that it is never given on the command line.  For example:</p>
+ *
+ * <pre>
+ * java -Djavax.net.ssl.trustStore=jiraTrustStore -cp JIRAShopTrackerUI.jar;lib/* com.omo.free.jira.tracker.client.JIRAFieldProfileMeter "project = MOCIS ORDER BY created DESC" 100
+ * </pre>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRAFieldProfileMeter {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.client.JIRAFieldProfileMeter";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final String SEARCH_PATH = "/rest/api/2/search";
+    public static final String DEFAULT_FIELDS = "*navigable";
+
+    /**
+     * Default constructor used to create an instance of the JIRAFieldProfileMeter class.
+     */
+    private JIRAFieldProfileMeter() {    }//end constructor
+
+    /**
+     * This method will run the {@code searchQuery} once with the default fields and once for each profile and return the number of bytes received for each, keyed by {@link #DEFAULT_FIELDS} or the profile name.
+     *
+     * @param user the JIRA user id
+     * @param pass the JIRA password
+     * @param searchQuery the JQL to execute
+     * @param maxResults the number of issues to retrieve
+     * @return bytesByProfile the bytes received for the default fields and each profile
+     * @throws IOException if an error occurs while sending a search
+     */
+    public static Map<String, Long> measure(String user, String pass, String searchQuery, int maxResults) throws IOException {
+        myLogger.entering(MY_CLASS_NAME, "measure", new Object[]{searchQuery, maxResults});
+
+        String authorization = "Basic " + Base64.getEncoder().encodeToString((user + ":" + pass).getBytes(StandardCharsets.UTF_8));
+        Map<String, Long> bytesByProfile = new LinkedHashMap<>();
+        bytesByProfile.put(DEFAULT_FIELDS, measure(authorization, searchQuery, maxResults, DEFAULT_FIELDS, ""));
+        for(JIRAFieldProfile profile : JIRAFieldProfile.values()){
+            bytesByProfile.put(profile.name(), measure(authorization, searchQuery, maxResults, profile.getFieldsParameter(), profile.getExpandParameter()));
+        }//end for
+
+        myLogger.exiting(MY_CLASS_NAME, "measure", bytesByProfile);
+        return bytesByProfile;
+    }//end method
+
+    /**
+     * This method will run the {@code searchQuery} with the {@code fields} and {@code expand} parameters and return the number of bytes received.
+     *
+     * @param authorization the value of the Authorization header
+     * @param searchQuery the JQL to execute
+     * @param maxResults the number of issues to retrieve
+     * @param fields the value of the fields parameter
+     * @param expand the value of the expand parameter, empty for none
+     * @return bytes the number of bytes received
+     * @throws IOException if an error occurs while sending the search
+     */
+    private static long measure(String authorization, String searchQuery, int maxResults, String fields, String expand) throws IOException {
+        StringBuilder url = new StringBuilder(JIRAConstants.JIRA_URL).append(SEARCH_PATH);
+        url.append("?jql=").append(URLEncoder.encode(searchQuery, "UTF-8"));
+        url.append("&maxResults=").append(maxResults);
+        url.append("&fields=").append(URLEncoder.encode(fields, "UTF-8"));
+        if(!expand.isEmpty()){
+            url.append("&expand=").append(URLEncoder.encode(expand, "UTF-8"));
+        }//end if
+
+        long start = System.currentTimeMillis();
+        long bytes = countResponseBytes(url.toString(), authorization);
+        myLogger.info("received " + bytes + " bytes in " + (System.currentTimeMillis() - start) + " ms for fields " + fields + " and expand " + expand);
+        return bytes;
+    }//end method
+
+    /**
+     * This method will send a GET request to the {@code url} and return the number of bytes of the response body as received.
+     *
+     * @param url the url
+     * @param authorization the value of the Authorization header
+     * @return bytes the number of bytes received
+     * @throws IOException if an error occurs while sending the request
+     */
+    private static long countResponseBytes(String url, String authorization) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestProperty("Authorization", authorization);
+        connection.setRequestProperty("Accept", "application/json");
+        connection.setRequestProperty("Accept-Encoding", "gzip");//not decompressed by HttpURLConnection so the wire bytes are counted
+        long bytes = 0L;
+        try{
+            if(connection.getResponseCode() != HttpURLConnection.HTTP_OK){
+                throw new IOException("JIRA website returned " + connection.getResponseCode() + " " + connection.getResponseMessage() + " for " + url);
+            }//end if
+            try(InputStream in = connection.getInputStream()){
+                byte[] buffer = new byte[8192];
+                for(int read = in.read(buffer); read != -1; read = in.read(buffer)){
+                    bytes += read;
+                }//end for
+            }//end try
+        }catch(IOException e){
+            myLogger.log(Level.SEVERE, "IOException occurred while trying to measure the response of " + url + ".  Error message is: " + e.getMessage(), e);
+            throw e;
+        }finally{
+            connection.disconnect();
+        }//end try...catch...finally
+        return bytes;
+    }//end method
+
+    /**
+     * This method will measure the bytes of each profile and print them.  The saved {@code jira.user} and {@code jira.pass} connection settings are decrypted and used, the ones not saved are read from the console.
+     *
+     * @param args the JQL and optionally the number of issues, 100 by default
+     * @throws IOException if an error occurs while sending a search
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 1){
+            System.out.println("usage: JIRAFieldProfileMeter <jql> [maxResults]");
+            return;
+        }//end if
+        Properties props = UIPropertiesMgr.getInstance().getProperties();
+        String user = JiraUtil.decrypt(props.getProperty("jira.user"));
+        String pass = JiraUtil.decrypt(props.getProperty("jira.pass"));
+        Console console = System.console();
+        if(console != null && (user == null || "".equals(user.trim()))){
+            user = console.readLine("JIRA user id: ");
+        }//end if
+        if(console != null && user != null && (pass == null || "".equals(pass))){
+            char[] password = console.readPassword("JIRA password for %s: ", user);
+            pass = password == null ? null : new String(password);
+        }//end if
+        if(user == null || pass == null){
+            System.out.println("The JIRA user id and password were not saved by the connection settings and could not be read from the console.");
+            return;
+        }//end if
+        Map<String, Long> bytesByProfile = measure(user, pass, args[0], args.length > 1 ? Integer.parseInt(args[1]) : JQLPageIterator.DEFAULT_PAGE_SIZE);
+        long defaultBytes = Math.max(1L, bytesByProfile.get(DEFAULT_FIELDS));
+        for(Map.Entry<String, Long> entry : bytesByProfile.entrySet()){
+            System.out.println(String.format("%-12s %,12d bytes  %5.1f%% of %s", entry.getKey(), entry.getValue(), entry.getValue() * 100D / defaultBytes, DEFAULT_FIELDS));
+        }//end for
+    }//end method
+
+}//end class
@@ -0,0 +1,189 @@
+package com.omo.free.jira.tracker.client;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.atlassian.jira.rest.client.api.SearchRestClient;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+import com.atlassian.util.concurrent.Promise;
+
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
+
+/**
+ * This JQLPageIterator class is used to page through the results of a JQL search one page of {@code Issue}'s at a time.
+ *
+ * <p>The request for the next page is sent as soon as the current page is returned so that the next page is downloading while the caller is busy working with the current page.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JQLPageIterator implements Iterator<List<Issue>> {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.client.JQLPageIterator";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    /* page size used when the jira.search.page.size property is not set */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private SearchRestClient searchClient;
+    private String searchQuery;
+    private int pageSize;
+    private Set<String> fields;
+    private JIRAFieldProfile profile;
+
+    private Promise<SearchResult> nextPage;
+    private long nextPageSentAt;
+    private int pageNumber;
+    private int total = -1;
+
+    /**
+     * Constructor used to create an instance of the JQLPageIterator class.  The request for the first page is sent right away.
+     *
+     * @param searchClient the search client used to execute the JQL
+     * @param searchQuery the JQL to execute
+     * @param pageSize the number of issues to retrieve per page
+     * @param fields the fields to retrieve, null for the default fields
+     */
+    public JQLPageIterator(SearchRestClient searchClient, String searchQuery, int pageSize, Set<String> fields) {
+        myLogger.entering(MY_CLASS_NAME, "JQLPageIterator", new Object[]{searchQuery, pageSize, fields});
+
+        this.searchClient = searchClient;
+        this.searchQuery = searchQuery;
+        this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        this.fields = fields;
+        this.nextPageSentAt = System.currentTimeMillis();
+        this.nextPage = searchClient.searchJql(searchQuery, this.pageSize, 0, fields);
+
+        myLogger.exiting(MY_CLASS_NAME, "JQLPageIterator");
+    }//end constructor
+
+    /**
+     * Constructor used to create an instance of the JQLPageIterator class which will retrieve the fields of the {@code profile}.  Each page is counted by the profile.
+     *
+     * @param searchClient the search client used to execute the JQL
+     * @param searchQuery the JQL to execute
+     * @param pageSize the number of issues to retrieve per page
+     * @param profile the fields to retrieve
+     */
+    public JQLPageIterator(SearchRestClient searchClient, String searchQuery, int pageSize, JIRAFieldProfile profile) {
+        this(searchClient, searchQuery, pageSize, profile.getFields());
+        this.profile = profile;
+    }//end constructor
+
+    /**
+     * Constructor used to create an instance of the JQLPageIterator class which will retrieve the default fields.
+     *
+     * @param searchClient the search client used to execute the JQL
+     * @param searchQuery the JQL to execute
+     * @param pageSize the number of issues to retrieve per page
+     */
+    public JQLPageIterator(SearchRestClient searchClient, String searchQuery, int pageSize) {
+        this(searchClient, searchQuery, pageSize, (Set<String>) null);
+    }//end constructor
+
+    /**
+     * This method will return true if there is another page of issues to retrieve.
+     *
+     * @return true if another page exists
+     */
+    @Override
+    public boolean hasNext() {
+        return nextPage != null;
+    }//end method
+
+    /**
+     * This method will wait on the current page to be returned from the JIRA website and then send the request for the following page before returning the current page.
+     *
+     * @return page the list of issues within the current page
+     */
+    @Override
+    public List<Issue> next() {
+        myLogger.entering(MY_CLASS_NAME, "next");
+
+        if(nextPage == null){
+            throw new NoSuchElementException("There are no more pages for query " + searchQuery);
+        }//end if
+
+        SearchResult result = nextPage.claim();
+        List<Issue> page = new ArrayList<>();
+        Iterator<Issue> it = result.getIssues().iterator();
+        while(it.hasNext()){
+            page.add(it.next());
+        }//end while
+
+        total = result.getTotal();
+        int nextStartAt = result.getStartIndex() + page.size();
+        pageNumber++;
+        if(profile != null){
+            profile.recordRequest(page.size(), System.currentTimeMillis() - nextPageSentAt);
+        }//end if
+
+        //the server may cap maxResults below the requested page size so always advance by what was returned
+        if(page.isEmpty() || nextStartAt >= total){
+            nextPage = null;
+        }else{
+            nextPageSentAt = System.currentTimeMillis();
+            nextPage = searchClient.searchJql(searchQuery, pageSize, nextStartAt, fields);//prefetch next page
+        }//end if...else
+
+        myLogger.info("retrieved page " + pageNumber + " containing " + page.size() + " issues (" + nextStartAt + " of " + total + ") for query: " + searchQuery);
+        myLogger.exiting(MY_CLASS_NAME, "next");
+        return page;
+    }//end method
+
+    /**
+     * This method will cancel the request for the next page if one is outstanding.  No more pages will be returned after this method is called.
+     */
+    public void cancel() {
+        myLogger.entering(MY_CLASS_NAME, "cancel");
+
+        if(nextPage != null){
+            try{
+                nextPage.cancel(true);
+            }catch(Exception e){
+                myLogger.log(Level.WARNING, "Exception occurred while trying to cancel the next page request.  Error message is: " + e.getMessage(), e);
+            }//end try...catch
+            nextPage = null;
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "cancel");
+    }//end method
+
+    /**
+     * @return the total number of issues matching the query, -1 if no page has been retrieved yet
+     */
+    public int getTotal() {
+        return total;
+    }//end method
+
+    /**
+     * @return the number of pages retrieved so far
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }//end method
+
+    /**
+     * This method will return the page size set by the jira.search.page.size property or the {@link #DEFAULT_PAGE_SIZE} if the property is not set or invalid.
+     *
+     * @return pageSize the configured page size
+     */
+    public static int getConfiguredPageSize() {
+        int pageSize = DEFAULT_PAGE_SIZE;
+        try{
+            String value = PropertiesMgr.getInstance().getProperties().getProperty("jira.search.page.size");
+            if(value != null && !"".equals(value.trim())){
+                pageSize = Integer.parseInt(value.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the jira.search.page.size property, using default page size of " + DEFAULT_PAGE_SIZE + ".  Error message is: " + e.getMessage());
+        }//end try...catch
+        return pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+    }//end method
+
+}//end class
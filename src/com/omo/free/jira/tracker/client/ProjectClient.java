@@ -5,14 +5,18 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.atlassian.jira.rest.client.api.JiraRestClient;
 import com.atlassian.jira.rest.client.api.domain.BasicProject;
 import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.util.concurrent.Promise;
+import com.omo.free.jira.tracker.model.JIRAProjectEligibility;
 
-import gov.doc.isu.com.util.AppUtil;
 import gov.doc.isu.simple.fx.managers.UIPropertiesMgr;
 
 /**
@@ -30,7 +34,17 @@ public class ProjectClient extends AbstractClient{
     /* project fields that will be always be used ... can add more if needed here */
     private static List<String> KNOWN_PROJECT_KEY_LIST = Arrays.asList("COIH", "DOCARB", "DOCLENS", "DOCMSHP", "DOCOIM", "OPII", "DOCTMS", "IRISBATCH", "JSTUI", "MOCIS", "MODOCFEES", "PANDA", "TABEBATCH");
 
-    private List<String> projects;
+    /* number of projects checked at the same time when the jira.project.check.concurrent property is not set */
+    private static final int DEFAULT_MAX_CONCURRENT_PROJECT_CHECKS = 8;
+
+    private volatile List<String> projects;//an unmodifiable sorted list replaced rather than changed as it is read by the user interface
+    private final Object projectsLock = new Object();
+    private volatile Consumer<List<String>> projectsListener;
+    private final ExecutorService revalidator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jira-project-revalidator");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Default constructor used to create an instance of the ProjectClient class.
@@ -48,40 +62,57 @@ public class ProjectClient extends AbstractClient{
 
     /**
      * This method will connect to the JIRA web site to retrieve all projects and set {@code projects} variable.
+     *
+     * <p>Projects that are not within the known list are listed when one of their issue types contains "DOC ".  The eligibility of each project is remembered by the {@code JIRAProjectEligibility} so the projects are listed right away.  Projects that have never been checked are checked in the background, several at the same time, and the eligible ones are added to the {@code projects} and handed to the projects listener when the check is done.  Projects checked before are revalidated in the background and any change is used the next time the projects are set.</p>
      */
     public void setProjects() {
         myLogger.entering(MY_CLASS_NAME, "setProjects");
 
-        if(projects == null){
-            projects = new ArrayList<>();
-        }else{
-            projects.clear();
-        }// end if
-
+        //the list is built here and published once it is complete
+        List<String> projects = new ArrayList<>();
         JiraRestClient client = null;
 
         myLogger.info("Making call to jira client to retrieve projects");
         try{
             client = client();
             Iterator<BasicProject> it = client.getProjectClient().getAllProjects().claim().iterator();
-            Project proj = null;
+            JIRAProjectEligibility eligibility = JIRAProjectEligibility.getInstance();
+            List<String> allKeys = new ArrayList<>();
+            List<String> uncheckedKeys = new ArrayList<>();
+            List<String> checkedKeys = new ArrayList<>();
             String key = null;
             while(it.hasNext()){
                 //JSTUI-7 select project field...Richard Salas - added functionality in hopes of helping to drop off some of the selection options
                 key = String.valueOf(it.next().getKey());
+                allKeys.add(key);
                 if(KNOWN_PROJECT_KEY_LIST.contains(key.trim())){
                     projects.add(key);
                 }else{
                     //do a check to see if there are any more projects based on issue types...
-                    proj = client.getProjectClient().getProject(key).claim();
-                    if(String.valueOf(proj.getIssueTypes()).contains("DOC ")) {
-                        projects.add(key);
-                        myLogger.info("size of project list is: " + projects.size());
-                        myLogger.info("adding following project: " + String.valueOf(proj));
-                    }//end if
+                    Boolean isEligible = eligibility.isEligible(key);
+                    if(isEligible == null){
+                        uncheckedKeys.add(key);
+                    }else{
+                        checkedKeys.add(key);
+                        if(isEligible){
+                            projects.add(key);
+                        }//end if
+                    }//end if...else
                 }//end if...else
             }// end while
+            eligibility.retainAll(allKeys);
+            publishProjects(projects);
+
+            if(!uncheckedKeys.isEmpty()){
+                myLogger.info("checking the issue types of " + uncheckedKeys.size() + " projects that have not been checked before in the background.");
+                checkNewProjects(uncheckedKeys);
+            }//end if
+            myLogger.info("size of project list is: " + projects.size() + ", " + checkedKeys.size() + " projects were already checked.");
+            if(!checkedKeys.isEmpty()){
+                revalidateProjects(checkedKeys);
+            }//end if
         }catch(Exception e){
+            publishProjects(Collections.<String>emptyList());
             myLogger.log(Level.SEVERE, "Exception occurred while trying to retrieve list of jira projects.  Error is: " + e.getMessage(), e);
             if(e.getMessage() != null && e.getMessage().contains("Unauthorized (401)")){
                 myLogger.warning("User is not authorized!  User is: " + String.valueOf(UIPropertiesMgr.getInstance().getProperties().getProperty("jira.user")));
@@ -94,17 +125,140 @@ public class ProjectClient extends AbstractClient{
     }// end method
 
     /**
-     * This method will return a list of JIRA projects (known as project key).
+     * This method will retrieve the projects of the {@code projectKeys} from the JIRA website, a limited number at the same time, and record the eligibility of each one.  A project that could not be retrieved is skipped and checked again the next time.
+     *
+     * @param client the jira rest client
+     * @param projectKeys the keys of the projects to check
+     * @return eligibleKeys the keys of the eligible projects
+     */
+    private List<String> checkProjects(JiraRestClient client, List<String> projectKeys) {
+        myLogger.entering(MY_CLASS_NAME, "checkProjects", projectKeys.size());
+
+        long start = System.currentTimeMillis();
+        List<String> eligibleKeys = new ArrayList<>();
+        JIRAProjectEligibility eligibility = JIRAProjectEligibility.getInstance();
+        int maxConcurrent = getIntProperty("jira.project.check.concurrent", DEFAULT_MAX_CONCURRENT_PROJECT_CHECKS);
+        List<Promise<Project>> checksInProgress = new ArrayList<>();
+        try{
+            int nextCheck = 0;
+            for(int i = 0, j = projectKeys.size(); i < j; i++){
+                while(nextCheck < j && checksInProgress.size() < maxConcurrent){//keep the limit of checks running
+                    checksInProgress.add(client.getProjectClient().getProject(projectKeys.get(nextCheck)));
+                    nextCheck++;
+                }//end while
+
+                Promise<Project> check = checksInProgress.remove(0);
+                try{
+                    Project proj = check.claim();
+                    if(eligibility.update(proj)){
+                        eligibleKeys.add(projectKeys.get(i));
+                        myLogger.info("adding following project: " + String.valueOf(proj.getKey()));
+                    }//end if
+                }catch(Exception e){
+                    myLogger.warning("Could not check the issue types of project " + projectKeys.get(i) + ", it will be checked again later.  Error message is: " + e.getMessage());
+                }//end try...catch
+            }//end for
+        }finally{
+            for(int i = 0, j = checksInProgress.size(); i < j; i++){
+                checksInProgress.get(i).cancel(true);
+            }//end for
+        }//end try...finally
+
+        myLogger.info("checked " + projectKeys.size() + " projects in " + (System.currentTimeMillis() - start) + " ms.");
+        myLogger.exiting(MY_CLASS_NAME, "checkProjects", eligibleKeys.size());
+        return eligibleKeys;
+    }// end method
+
+    /**
+     * This method will check the projects of the {@code projectKeys} that have never been checked on a background thread and save the results.  The eligible projects are added to the {@code projects} and handed to the projects listener, so the first start up does not wait on every project to be checked.
+     *
+     * @param projectKeys the keys of the projects never checked
+     */
+    private void checkNewProjects(List<String> projectKeys) {
+        revalidator.execute(() -> {
+            try{
+                List<String> eligibleKeys = checkProjects(client(), projectKeys);
+                JIRAProjectEligibility.getInstance().save();
+
+                List<String> addedKeys = new ArrayList<>();
+                synchronized(projectsLock){//added to the projects current at this time so that a refresh done meanwhile is kept
+                    List<String> allProjects = projects == null ? new ArrayList<>() : new ArrayList<>(projects);
+                    for(String key : eligibleKeys){
+                        if(!allProjects.contains(key)){
+                            allProjects.add(key);
+                            addedKeys.add(key);
+                        }//end if
+                    }//end for
+                    publishProjects(allProjects);
+                }//end synchronized
+
+                Consumer<List<String>> listener = projectsListener;
+                if(listener != null && !addedKeys.isEmpty()){
+                    listener.accept(addedKeys);
+                }//end if
+            }catch(Exception e){
+                myLogger.log(Level.WARNING, "Exception occurred while trying to check the eligibility of new projects.  Error message is: " + e.getMessage(), e);
+            }//end try...catch
+        });
+    }// end method
+
+    /**
+     * This method will check the projects of the {@code projectKeys} again on a background thread and save the results, so that a change in the issue types of a project is picked up without making the user wait.
+     *
+     * @param projectKeys the keys of the projects checked before
+     */
+    private void revalidateProjects(List<String> projectKeys) {
+        revalidator.execute(() -> {
+            try{
+                checkProjects(client(), projectKeys);
+                JIRAProjectEligibility.getInstance().save();
+            }catch(Exception e){
+                myLogger.log(Level.WARNING, "Exception occurred while trying to revalidate the project eligibility.  Error message is: " + e.getMessage(), e);
+            }//end try...catch
+        });
+    }// end method
+
+    /**
+     * This method will set the {@code projects} variable using the project keys read from the warm-start snapshot without connecting to the JIRA web site.
+     *
+     * @param projectKeys the project keys read from the snapshot
+     */
+    public void restoreProjects(List<String> projectKeys) {
+        myLogger.entering(MY_CLASS_NAME, "restoreProjects", projectKeys);
+        publishProjects(projectKeys);
+        myLogger.exiting(MY_CLASS_NAME, "restoreProjects");
+    }// end method
+
+    /**
+     * This method will replace the {@code projects} with an unmodifiable copy of the {@code projectKeys} sorted by key.
+     *
+     * @param projectKeys the project keys
+     */
+    private void publishProjects(List<String> projectKeys) {
+        List<String> sortedKeys = new ArrayList<>(projectKeys);
+        Collections.sort(sortedKeys);//JIRA ISSUE JSTUI 2 Sort the Select Project List
+        synchronized(projectsLock){
+            projects = Collections.unmodifiableList(sortedKeys);
+        }//end synchronized
+    }// end method
+
+    /**
+     * This method will set the listener handed the keys of the projects found eligible by the background check of new projects.  The listener is called on the background thread.
+     *
+     * @param projectsListener the listener, null for none
+     */
+    public void setProjectsListener(Consumer<List<String>> projectsListener) {
+        this.projectsListener = projectsListener;
+    }// end method
+
+    /**
+     * This method will return a list of JIRA projects (known as project key).  The list is sorted and can not be changed.
      *
      * @return projects the list of project names (keys)
      */
     public List<String> getProjects() {
+        List<String> projects = this.projects;
         myLogger.info("all available projects:" + String.valueOf(projects));
-
-        if(!AppUtil.isEmpty(projects)){//JIRA ISSUE JSTUI 2 Sort the Select Project List
-            Collections.sort(projects);
-        }//end if
-
         return projects;
     }// end method
 
@@ -3,8 +3,13 @@ package com.omo.free.jira.tracker.client;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -12,8 +17,10 @@ import org.apache.commons.lang.StringUtils;
 
 import com.atlassian.jira.rest.client.api.JiraRestClient;
 import com.atlassian.jira.rest.client.api.domain.Issue;
-
-import gov.doc.isu.com.util.AppUtil;
+import com.omo.free.jira.tracker.model.IssueRow;
+import com.omo.free.jira.tracker.model.IssueSummary;
+import com.omo.free.jira.tracker.model.JIRAIssueNumberIndex;
+import com.omo.free.jira.tracker.model.JIRATextIndex;
 
 /**
  * This client class is used for searching for JIRA {@code Issue}'s instances and retrieving them from JIRA web site.  The JIRA {@code Issue}'s are modeled here using the JIRA Atlassian API.
@@ -29,8 +36,11 @@ public class SearchClient extends AbstractClient{
 
     private static final SearchClient INSTANCE = new SearchClient();
 
-    private List<Issue> issuesSearchedFor;
-    private String searchStr;
+    /* default number of consecutive issue numbers that are retrieved with one range query instead of listing their keys */
+    private static final int DEFAULT_RANGE_MIN_LENGTH = 20;
+
+    /* the last search, replaced as a whole so its issues and search string always go together */
+    private volatile SearchResult searchResult;
 
     /**
      * Default constructor used to create an instance of the SearchClient class.
@@ -49,170 +59,355 @@ public class SearchClient extends AbstractClient{
     /**
      * This method will search for an issue based on the {@code issueKey} passed into this method.
      *
-     * <p>NOTE:  this method will just add the issue to the existing {@code issuesSearchedFor} list, therefore this may need to be updated.
-     *
      * @param issueKey the issue key to searh for
-     * @return isTracked whether or not the issue is tracked
+     * @param projectKey the project to search within
      */
     public void searchForAndAddIssue(String issueKey, String projectKey) {
-        myLogger.entering(MY_CLASS_NAME, "searchForAndAddIssue", issueKey);
+        searchForAndAddIssue(issueKey, projectKey, null);
+    }//end method
 
-        if(issuesSearchedFor == null){
-            this.issuesSearchedFor = new ArrayList<>();
-        }//end if
+    /**
+     * This method will search for an issue based on the {@code issueKey} passed into this method.
+     *
+     * <p>The issue numbers that match the {@code issueKey} are first resolved against the issues held by the {@code JIRACacheManager} and handed to the {@code pageListener} as the first page, only the issue numbers that are not cached and not known to be missing by the {@code JIRAIssueNumberIndex} are then searched for on the JIRA website and each query's issues are handed to the {@code pageListener} as they arrive.  When the listener returns false the outstanding requests are cancelled and the issues searched for are left as they were.</p>
+     *
+     * @param issueKey the issue key to searh for
+     * @param projectKey the project to search within
+     * @param pageListener the listener notified of each page of issues found, may be null
+     */
+    public synchronized void searchForAndAddIssue(String issueKey, String projectKey, IssuePageListener pageListener) {
+        myLogger.entering(MY_CLASS_NAME, "searchForAndAddIssue", issueKey);
 
-        //clear search list...
-        this.issuesSearchedFor.clear();
+        //a new list is used for each search so that a cancelled search never changes the results of the last search
+        List<Issue> found = new ArrayList<>();
 
         //declaring some variables to use here
-        String searchQuery = null;
-        String inFunctionQueryStr = null;
-        Iterable<Issue> iterable = null;
         JiraRestClient client = null;
         int maxKey = 0;
-        //retrieve the greatest one
+        boolean isCancelled = false;
+        String searchStr = issueKey;
         try{
-            searchQuery = "project = " + projectKey + " AND created < now() ORDER BY created desc";// need to explain this thoroughly...
-
             client = client();
-            iterable = client.getSearchClient().searchJql(searchQuery, 1, 0, null).claim().getIssues();
-            if(iterable != null){
-                Issue issue = iterable.iterator().next();
-                myLogger.info("The issue that was retrieved is: " + issue.getKey());
-
-                myLogger.info("Going to parse the number from the key and use it for the top number.");
-                maxKey = Integer.valueOf(issue.getKey().substring(issue.getKey().indexOf("-")+1));
-                inFunctionQueryStr = processSearchStr(issueKey, projectKey, Integer.valueOf(issue.getKey().substring(issue.getKey().indexOf("-")+1)));
-                if(AppUtil.isNullOrEmpty(inFunctionQueryStr)){
-                    myLogger.warning("There was no search string built based off of the search string using the max key id of " + maxKey);
-                }else{
-                    searchQuery = "project = " + projectKey + " AND issueKey IN ( " + inFunctionQueryStr + ")";// need to explain this thoroughly...
-                    myLogger.info("Running search JQL to retrieve issues from JIRA website.  Executing the following searchQuery: " + searchQuery);
-                    iterable = client.getSearchClient().searchJql(searchQuery, 100, 0, null).claim().getIssues();
-                    Iterator<Issue> it = iterable.iterator();
-                    while(it.hasNext()){
-                        Issue i = it.next();
-                        if(i.getKey().contains(projectKey)){//if the issue does
-                            this.issuesSearchedFor.add(i);
-                        }//end if
-                    }// end while
+            JIRAIssueNumberIndex index = JIRAIssueNumberIndex.getInstance();
+
+            //use the tracked greatest issue number, when it is out of date the issues created after it are searched for along with the rest
+            maxKey = index.getMaxIssueNumber(projectKey);
+            boolean isMaxKeyCurrent = index.isMaxIssueNumberCurrent(projectKey);
+            if(maxKey <= 0){
+                maxKey = retrieveMaxIssueNumber(client, projectKey);
+                index.setMaxIssueNumber(projectKey, maxKey);
+                isMaxKeyCurrent = true;
+            }else{
+                myLogger.info("Using the tracked max key id of " + maxKey + " for project " + projectKey + ", current=" + isMaxKeyCurrent);
+            }//end if...else
+
+            if(maxKey > 0){
+                IssueNumberPattern pattern = processSearchStr(issueKey, projectKey);
+                searchStr = pattern.searchStr;
+
+                //resolve what is cached first
+                Map<Integer, Issue> cachedIssues = index.findCachedIssues(projectKey, pattern);
+                List<Issue> localIssues = new ArrayList<>(cachedIssues.values());
+                found.addAll(localIssues);
+                IssueRow.prepare(localIssues);
+                isCancelled = pageListener != null && !pageListener.pageLoaded(0, localIssues, Collections.<Issue>emptyList());
+
+                List<Integer> unresolved = new ArrayList<>();
+                pattern.forEachCandidate(maxKey, n -> {
+                    if(!cachedIssues.containsKey(n) && !index.isMissing(projectKey, n)){
+                        unresolved.add(n);
+                    }//end if
+                });
+                myLogger.info(found.size() + " issues were resolved from the cache, " + unresolved.size() + " issue numbers up to the max key id of " + maxKey + " are left to search for.");
+                if(!isCancelled && (!unresolved.isEmpty() || !isMaxKeyCurrent)){
+                    isCancelled = !searchForIssueNumbers(client, projectKey, pattern, unresolved, isMaxKeyCurrent ? -1 : maxKey, found, pageListener);
                 }//end if
             }//end if
         }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception trying to get issues.  Error message is: " + e.getMessage());
-            throw e;
+            if(isInterruption(e)){//cancelled by the user, nothing is searched for again and the last results are kept
+                myLogger.info("Search for " + issueKey + " was interrupted.");
+                isCancelled = true;
+            }else{
+                myLogger.log(Level.SEVERE, "Exception trying to get issues.  Error message is: " + e.getMessage());
+                throw e;
+            }//end if...else
         }// end try...catch
 
+        if(isCancelled){
+            myLogger.info("Search for " + issueKey + " was cancelled.");
+        }else{
+            sortByIssueNumber(found);//sort per JSTUI-14 Issue Number Search
+            this.searchResult = new SearchResult(found, searchStr);
+        }//end if...else
+
         myLogger.exiting(MY_CLASS_NAME, "searchForAndAddIssue");
     }//end method
 
     /**
-     * This method will parse the passed in issueSearchKey into a listing of issues to search for using the projectKey.
+     * This method will search the issues held locally for the {@code projectKey} by the words, prefixes and "phrases" of the {@code query}.  No connection to the JIRA website is made, so this can be called from the JavaFX Application Thread.  The issues found are kept in the order of best match first.
+     *
+     * @param query the words to search for
+     * @param projectKey the project to search within
+     */
+    public void searchCachedIssues(String query, String projectKey) {
+        myLogger.entering(MY_CLASS_NAME, "searchCachedIssues", new Object[]{query, projectKey});
+
+        SearchResult result = new SearchResult(JIRATextIndex.getInstance().search(projectKey, query), query);
+        IssueRow.prepare(result.issues);//the cached issues were prepared when they were retrieved, so this only makes the rows of issues that were not
+        this.searchResult = result;
+
+        myLogger.exiting(MY_CLASS_NAME, "searchCachedIssues", result.issues.size());
+    }//end method
+
+    /**
+     * This method will search the JIRA website for the {@code issueNumbers} of the {@code projectKey}.  Runs of consecutive issue numbers are retrieved with one range query and the rest are retrieved in chunks of {@code key in (...)} queries, a limited number of queries run at the same time.
+     *
+     * <p>The issues found are added to the {@code JIRAIssueNumberIndex} and the issue numbers that were not found are remembered as missing.  When {@code maxKey} is given the issues created after it are retrieved by one more query, in the same round trip, to bring the tracked greatest issue number up to date.</p>
+     *
+     * @param client the jira rest client
+     * @param projectKey the project key
+     * @param pattern the issue number pattern used to filter the results
+     * @param issueNumbers the issue numbers to search for in ascending order
+     * @param maxKey the tracked greatest issue number to search after, -1 when it is current
+     * @param found the list the issues found are added to
+     * @param pageListener the listener notified of the issues found by each query, may be null
+     * @return false if the listener asked to stop searching or the search was interrupted
+     */
+    private boolean searchForIssueNumbers(JiraRestClient client, String projectKey, IssueNumberPattern pattern, List<Integer> issueNumbers, int maxKey, List<Issue> found, IssuePageListener pageListener) {
+        myLogger.entering(MY_CLASS_NAME, "searchForIssueNumbers", new Object[]{projectKey, issueNumbers.size()});
+
+        //split into range queries and key queries
+        List<IssueNumberQuery> queries = new ArrayList<>();
+        List<Integer> keyNumbers = new ArrayList<>();
+        int minRunLength = getIntProperty("jira.search.range.min.length", DEFAULT_RANGE_MIN_LENGTH);
+        for(int start = 0, j = issueNumbers.size(); start < j;){
+            int end = start;
+            while(end + 1 < j && issueNumbers.get(end + 1) == issueNumbers.get(end) + 1){
+                end++;
+            }//end while
+            if(end - start + 1 >= minRunLength){
+                queries.add(new IssueNumberQuery(buildRangeSearchQuery(projectKey, issueNumbers.get(start), issueNumbers.get(end)), issueNumbers.subList(start, end + 1)));
+            }else{
+                keyNumbers.addAll(issueNumbers.subList(start, end + 1));
+            }//end if...else
+            start = end + 1;
+        }//end for
+        int chunkSize = getIntProperty("jira.search.key.chunk.size", DEFAULT_KEY_CHUNK_SIZE);
+        for(int start = 0, j = keyNumbers.size(); start < j; start += chunkSize){
+            List<Integer> numbers = keyNumbers.subList(start, Math.min(start + chunkSize, j));
+            List<String> keys = new ArrayList<>(numbers.size());
+            for(int i = 0, k = numbers.size(); i < k; i++){
+                keys.add(projectKey + "-" + numbers.get(i));
+            }//end for
+            for(List<String> chunk : chunkIssueKeys(keys, chunkSize)){//also keeps the query length under the limit
+                List<Integer> chunkNumbers = new ArrayList<>(chunk.size());
+                for(int i = 0, k = chunk.size(); i < k; i++){
+                    chunkNumbers.add(JIRAIssueNumberIndex.getIssueNumber(projectKey, chunk.get(i)));
+                }//end for
+                queries.add(new IssueNumberQuery("project = " + projectKey + " AND " + buildKeySearchQuery(chunk), chunkNumbers));
+            }//end for
+        }//end for
+        if(maxKey > 0){
+            queries.add(0, new IssueNumberQuery("project = " + projectKey + " AND key > " + projectKey + "-" + maxKey, Collections.<Integer>emptyList()));
+        }//end if
+        myLogger.info("searching for " + issueNumbers.size() + " issue numbers using " + queries.size() + " queries.");
+
+        boolean isContinue = true;
+        JIRAIssueNumberIndex index = JIRAIssueNumberIndex.getInstance();
+        int maxConcurrent = getIntProperty("jira.search.max.concurrent", DEFAULT_MAX_CONCURRENT_SEARCHES);
+        int pageSize = JQLPageIterator.getConfiguredPageSize();
+        List<JQLPageIterator> queriesInProgress = new ArrayList<>();
+        try{
+            int nextQuery = 0;
+            for(int queryNumber = 0, j = queries.size(); queryNumber < j && isContinue && !Thread.currentThread().isInterrupted(); queryNumber++){
+                while(nextQuery < j && queriesInProgress.size() < maxConcurrent){//keep the limit of queries running
+                    queriesInProgress.add(new JQLPageIterator(client.getSearchClient(), queries.get(nextQuery).searchQuery, pageSize, JIRAFieldProfile.LIST));
+                    nextQuery++;
+                }//end while
+
+                IssueNumberQuery query = queries.get(queryNumber);
+                JQLPageIterator pages = queriesInProgress.remove(0);
+                List<Issue> queryIssues = new ArrayList<>();
+                try{
+                    while(pages.hasNext()){
+                        queryIssues.addAll(IssueSummary.of(pages.next()));//only the summaries are listed
+                    }//end while
+                }catch(Exception e){
+                    if(isInterruption(e)){//cancelled, the outstanding queries are cancelled below and nothing is searched for again
+                        myLogger.info("Query " + queryNumber + " of the issue number search was interrupted, the search is stopped.");
+                        pages.cancel();
+                        break;
+                    }//end if
+                    if(query.issueNumbers.isEmpty()){//the max key query, it is checked again on the next search
+                        myLogger.log(Level.WARNING, "Could not retrieve the issues created after " + projectKey + "-" + maxKey + ".  Error message is: " + e.getMessage());
+                        continue;
+                    }//end if
+                    //a key that no longer exists fails the whole key query, the range of the chunk is searched instead and filtered here
+                    myLogger.log(Level.WARNING, "Query " + queryNumber + " of the issue number search failed, searching the range of its issue numbers instead.  Error message is: " + e.getMessage());
+                    queryIssues.clear();
+                    JQLPageIterator rangePages = new JQLPageIterator(client.getSearchClient(), buildRangeSearchQuery(projectKey, query.issueNumbers.get(0), query.issueNumbers.get(query.issueNumbers.size() - 1)), pageSize, JIRAFieldProfile.LIST);
+                    while(rangePages.hasNext()){
+                        queryIssues.addAll(IssueSummary.of(rangePages.next()));
+                    }//end while
+                }//end try...catch
+
+                Set<Integer> missing = new HashSet<>(query.issueNumbers);
+                List<Issue> matched = new ArrayList<>();
+                int greatest = 0;
+                for(int i = 0, k = queryIssues.size(); i < k; i++){
+                    Issue issue = queryIssues.get(i);
+                    int number = JIRAIssueNumberIndex.getIssueNumber(projectKey, issue.getKey());
+                    greatest = Math.max(greatest, number);
+                    if(number > 0 && pattern.test(number)){//moved issues come back under another project
+                        matched.add(issue);
+                        missing.remove(number);
+                    }//end if
+                }//end for
+                found.addAll(matched);
+                IssueRow.prepare(matched);
+                index.addIssues(projectKey, matched);
+                index.addMissingIssueNumbers(projectKey, missing);
+                if(query.issueNumbers.isEmpty()){
+                    myLogger.info(queryIssues.size() + " issues were created after " + projectKey + "-" + maxKey);
+                    index.setMaxIssueNumber(projectKey, Math.max(maxKey, greatest));
+                }//end if
+                if(pageListener != null && !matched.isEmpty()){
+                    isContinue = pageListener.pageLoaded(queryNumber + 1, matched, Collections.<Issue>emptyList());
+                }//end if
+            }//end for
+        }finally{
+            for(int i = 0, j = queriesInProgress.size(); i < j; i++){
+                queriesInProgress.get(i).cancel();
+            }//end for
+        }//end try...finally
+        isContinue = isContinue && !Thread.currentThread().isInterrupted();
+
+        myLogger.exiting(MY_CLASS_NAME, "searchForIssueNumbers", isContinue);
+        return isContinue;
+    }//end method
+
+    /**
+     * This method will retrieve the greatest issue number of the {@code projectKey} from the JIRA website.
+     *
+     * @param client the jira rest client
+     * @param projectKey the project key
+     * @return maxKey the greatest issue number or 0 if the project has no issues
+     */
+    private int retrieveMaxIssueNumber(JiraRestClient client, String projectKey) {
+        myLogger.entering(MY_CLASS_NAME, "retrieveMaxIssueNumber", projectKey);
+
+        int maxKey = 0;
+        String searchQuery = "project = " + projectKey + " AND created < now() ORDER BY created desc";// need to explain this thoroughly...
+        Iterator<Issue> it = client.getSearchClient().searchJql(searchQuery, 1, 0, JIRAFieldProfile.LIST.getFields()).claim().getIssues().iterator();
+        if(it.hasNext()){
+            Issue issue = it.next();
+            myLogger.info("The issue that was retrieved is: " + issue.getKey());
+
+            myLogger.info("Going to parse the number from the key and use it for the top number.");
+            maxKey = Integer.valueOf(issue.getKey().substring(issue.getKey().indexOf("-")+1));
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "retrieveMaxIssueNumber", maxKey);
+        return maxKey;
+    }//end method
+
+    /**
+     * This method will build the JQL used to retrieve the issues of the {@code projectKey} numbered {@code from} through {@code to}.
+     *
+     * @param projectKey the project key
+     * @param from the first issue number
+     * @param to the last issue number
+     * @return searchQuery the JQL
+     */
+    private String buildRangeSearchQuery(String projectKey, int from, int to) {
+        return "project = " + projectKey + " AND key >= " + projectKey + "-" + from + " AND key <= " + projectKey + "-" + to;
+    }//end method
+
+    /**
+     * This method will parse the passed in issueSearchKey into the pattern used to match issue numbers.
      *
      * @param issueSearchKey the string that will be parsed for example (*886)
-     * @param projectKey the key used to build the search string
-     * @param maxNum the maximum key number
-     * @return the search string
+     * @param projectKey the key of the project being searched
+     * @return the issue number pattern
      */
-    private String processSearchStr(String issueSearchKey, String projectKey, int maxNum){
+    private IssueNumberPattern processSearchStr(String issueSearchKey, String projectKey){
         myLogger.entering(MY_CLASS_NAME, "processSearchStr", new Object[]{issueSearchKey, projectKey});
 
         myLogger.info("issueSearchKey=" + issueSearchKey + "; projectKey=" + projectKey);
         int wildCards = StringUtils.countMatches(issueSearchKey, "*");
         String cleanedFilterStr = null;
+        String searchStr = null;
 
-        boolean startsWith = false;
-        boolean endsWith = false;
-        boolean contains = false;
-
-        StringBuilder searchBuilder = new StringBuilder();
+        int mode = IssueNumberPattern.EQUALS;
         if(wildCards == 2 && (!issueSearchKey.endsWith("*") || !issueSearchKey.startsWith("*"))){
             //correct it here....
-            //cleanedFilterStr = searchStr.replace("*", "");
-            this.searchStr = issueSearchKey.replace("*", "");
-            this.searchStr = "*" + this.searchStr + "*";
-            contains = true;
+            searchStr = issueSearchKey.replace("*", "");
+            searchStr = "*" + searchStr + "*";
+            mode = IssueNumberPattern.CONTAINS;
         }else if(wildCards == 2){
-            contains = true;
-            this.searchStr = issueSearchKey;
+            mode = IssueNumberPattern.CONTAINS;
+            searchStr = issueSearchKey;
         }else if(wildCards == 1 && (issueSearchKey.endsWith("*") || issueSearchKey.startsWith("*"))){
             //everything is good here just set text
-            startsWith = issueSearchKey.endsWith("*");
-            endsWith = issueSearchKey.startsWith("*");
-            this.searchStr = issueSearchKey;
+            mode = issueSearchKey.endsWith("*") ? IssueNumberPattern.STARTS_WITH : IssueNumberPattern.ENDS_WITH;
+            searchStr = issueSearchKey;
         }else if(wildCards == 1){
             //correct it the one here
-            this.searchStr = issueSearchKey.replace("*", "");
-            this.searchStr = "*" + this.searchStr;
-            startsWith = true;
+            searchStr = issueSearchKey.replace("*", "");
+            searchStr = "*" + searchStr;
+            mode = IssueNumberPattern.STARTS_WITH;
         }else{
             //good one here
-            this.searchStr = issueSearchKey;
-            cleanedFilterStr = issueSearchKey;
+            searchStr = issueSearchKey;
         }//end if...else
 
         cleanedFilterStr = issueSearchKey.replace("*", "");
 
         myLogger.info("cleanedFilterStr=" + cleanedFilterStr);
+        IssueNumberPattern pattern = new IssueNumberPattern(mode, cleanedFilterStr, searchStr);
 
-        List<String> searchKeys = new ArrayList<>();
-        for(int i = 1; i <= maxNum; i++){
-            if(contains && String.valueOf(i).contains(cleanedFilterStr)){
-                searchKeys.add(projectKey + "-" + i);
-            }else if(endsWith && String.valueOf(i).endsWith(cleanedFilterStr)){
-                searchKeys.add(projectKey + "-" + i);
-            }else if(startsWith && String.valueOf(i).startsWith(cleanedFilterStr)){
-                searchKeys.add(projectKey + "-" + i);
-            }else if(String.valueOf(i).equals(cleanedFilterStr)){
-                searchKeys.add(projectKey + "-" + i);
-                break;
-            }//end if...else
-        }//end for
-
-        myLogger.info("searchKeys.size()="+ searchKeys.size());
-        //build the search string here
-        Iterator<String> keys = searchKeys.iterator();
-        while(keys.hasNext()){
-            searchBuilder.append(keys.next());
-            if(keys.hasNext()){
-                searchBuilder.append(",");
-            }//end if
-        }//end while
-
-        myLogger.exiting(MY_CLASS_NAME, "processSearchStr", searchBuilder);
-        return searchBuilder.toString();
+        myLogger.exiting(MY_CLASS_NAME, "processSearchStr", pattern);
+        return pattern;
     }//end method
 
     /**
-     * This method will return the list of issues in ascending order that were retrieved from a search.
+     * This method will return the list of issues that were retrieved from a search, in ascending order for an issue number search and in order of best match for a word search.
      *
      * @return list of issues that were searched for
      */
     public List<Issue> getIssuesSearchedFor(){
         myLogger.entering(MY_CLASS_NAME, "getIssuesSearchedFor");
 
-        if(!AppUtil.isEmpty(issuesSearchedFor)){//sort per JSTUI-14 Issue Number Search
-            //sorting the issues that are tracked
-            Collections.sort(issuesSearchedFor, new Comparator<Issue>(){
-                @Override
-                public int compare(Issue o1, Issue o2) {
-                    int result = 0;
-                    try{
-                        Integer key1 = Integer.valueOf(o1.getKey().substring(o1.getKey().indexOf("-") + 1));
-                        Integer key2 = Integer.valueOf(o2.getKey().substring(o2.getKey().indexOf("-") + 1));
-                        result = key1.compareTo(key2);
-                    }catch(Exception e){
-                        myLogger.warning("Exception occurred while trying to parse issue key. o1 key is:  " + String.valueOf(o1.getKey()) + "; o2 key is: " + String.valueOf(o2.getKey()) + ".  Error message is: " + e.getMessage());
-                    }//end try...catch
-                    return result;
-                }//end method
-            });
-        }//end if
+        SearchResult result = this.searchResult;
+        List<Issue> issuesSearchedFor = result == null ? null : result.issues;
 
         myLogger.exiting(MY_CLASS_NAME, "getIssuesSearchedFor", issuesSearchedFor);
         return issuesSearchedFor;
     }//end method
 
+    /**
+     * This method will sort the {@code issues} in ascending order of issue number.
+     *
+     * @param issues the issues to sort
+     */
+    private void sortByIssueNumber(List<Issue> issues){
+        //sorting the issues that are tracked
+        Collections.sort(issues, new Comparator<Issue>(){
+            @Override
+            public int compare(Issue o1, Issue o2) {
+                int result = 0;
+                try{
+                    Integer key1 = Integer.valueOf(o1.getKey().substring(o1.getKey().indexOf("-") + 1));
+                    Integer key2 = Integer.valueOf(o2.getKey().substring(o2.getKey().indexOf("-") + 1));
+                    result = key1.compareTo(key2);
+                }catch(Exception e){
+                    myLogger.warning("Exception occurred while trying to parse issue key. o1 key is:  " + String.valueOf(o1.getKey()) + "; o2 key is: " + String.valueOf(o2.getKey()) + ".  Error message is: " + e.getMessage());
+                }//end try...catch
+                return result;
+            }//end method
+        });
+    }//end method
+
     /**
      * Search for issues...not used at this time...maybe it will later This will be a custom search.....
      *
@@ -244,7 +439,174 @@ public class SearchClient extends AbstractClient{
      * @return the searchStr
      */
     public String getSearchStr() {
-        return searchStr;
+        SearchResult result = this.searchResult;
+        return result == null ? null : result.searchStr;
     }//end method
 
+    /**
+     * This IssueNumberPattern class is used to match issue numbers against the digits of a search string using arithmetic so that no string is built per issue number.
+     */
+    private static final class IssueNumberPattern implements IntPredicate {
+
+        static final int EQUALS = 0;
+        static final int STARTS_WITH = 1;
+        static final int ENDS_WITH = 2;
+        static final int CONTAINS = 3;
+
+        private final int mode;
+        private final String digits;
+        private final String searchStr;
+        private final boolean isValid;
+        private final boolean isLeadingZero;
+        private final long value;
+        private final long modulus;
+
+        /**
+         * Constructor used to create an instance of the IssueNumberPattern class.
+         *
+         * @param mode one of EQUALS, STARTS_WITH, ENDS_WITH or CONTAINS
+         * @param digits the digits to match, anything other than digits matches nothing
+         * @param searchStr the search string as shown with the search results, for example *886
+         */
+        IssueNumberPattern(int mode, String digits, String searchStr) {
+            this.mode = mode;
+            this.digits = digits;
+            this.searchStr = searchStr;
+            this.isValid = digits.length() <= 10 && digits.chars().allMatch(Character::isDigit);
+            this.isLeadingZero = isValid && digits.startsWith("0");
+            this.value = isValid && !digits.isEmpty() ? Long.parseLong(digits) : 0;
+            long m = 1;
+            for(int i = 0; isValid && i < digits.length(); i++){
+                m *= 10;
+            }//end for
+            this.modulus = m;
+        }//end constructor
+
+        /**
+         * This method will return true if the {@code issueNumber} matches this pattern.
+         *
+         * @param issueNumber the issue number
+         * @return true if matched
+         */
+        @Override
+        public boolean test(int issueNumber) {
+            boolean isMatch = false;
+            if(!isValid || issueNumber <= 0){
+                isMatch = false;
+            }else if(digits.isEmpty()){
+                isMatch = mode != EQUALS;
+            }else if(mode == EQUALS){
+                isMatch = !isLeadingZero && issueNumber == value;
+            }else if(mode == STARTS_WITH){
+                for(long n = issueNumber; !isLeadingZero && n >= value && !isMatch; n /= 10){
+                    isMatch = n == value;
+                }//end for
+            }else if(mode == ENDS_WITH){
+                isMatch = endsWith(issueNumber);
+            }else{
+                for(long n = issueNumber; n > 0 && !isMatch; n /= 10){
+                    isMatch = endsWith(n);
+                }//end for
+            }//end if...else
+            return isMatch;
+        }//end method
+
+        /**
+         * This method will return true if the digits of {@code n} end with the digits of this pattern.
+         *
+         * @param n the number
+         * @return true if matched
+         */
+        private boolean endsWith(long n) {
+            return n % modulus == value && (!isLeadingZero || n >= modulus);
+        }//end method
+
+        /**
+         * This method will pass each issue number from 1 through {@code maxNum} that matches this pattern to the {@code consumer} in ascending order.  Starts with, ends with and equals candidates are generated directly, contains candidates are found by testing each number.
+         *
+         * @param maxNum the greatest issue number
+         * @param consumer the consumer of the matching issue numbers
+         */
+        void forEachCandidate(int maxNum, IntConsumer consumer) {
+            if(!isValid){
+                return;
+            }else if(mode == EQUALS || mode == CONTAINS || digits.isEmpty()){
+                if(mode == EQUALS && !digits.isEmpty()){
+                    if(!isLeadingZero && value >= 1 && value <= maxNum){
+                        consumer.accept((int) value);
+                    }//end if
+                }else{
+                    for(int n = 1; n <= maxNum; n++){
+                        if(test(n)){
+                            consumer.accept(n);
+                        }//end if
+                    }//end for
+                }//end if...else
+            }else if(mode == STARTS_WITH){
+                for(long start = value, width = 1; !isLeadingZero && start <= maxNum; start *= 10, width *= 10){
+                    for(long n = start, end = Math.min(start + width - 1, maxNum); n <= end; n++){
+                        consumer.accept((int) n);
+                    }//end for
+                }//end for
+            }else{
+                for(long n = isLeadingZero ? modulus + value : value; n <= maxNum; n += modulus){
+                    if(n > 0){
+                        consumer.accept((int) n);
+                    }//end if
+                }//end for
+            }//end if...else
+        }//end method
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "IssueNumberPattern [mode=" + mode + ", digits=" + digits + "]";
+        }//end method
+
+    }//end class
+
+    /**
+     * This IssueNumberQuery class holds a JQL query and the issue numbers it searches for.
+     */
+    private static final class IssueNumberQuery {
+
+        private final String searchQuery;
+        private final List<Integer> issueNumbers;
+
+        /**
+         * Constructor used to create an instance of the IssueNumberQuery class.
+         *
+         * @param searchQuery the JQL
+         * @param issueNumbers the issue numbers searched for
+         */
+        IssueNumberQuery(String searchQuery, List<Integer> issueNumbers) {
+            this.searchQuery = searchQuery;
+            this.issueNumbers = issueNumbers;
+        }//end constructor
+
+    }//end class
+
+    /**
+     * This SearchResult class holds the issues found by a search and the search string shown with them.  It is never changed once created.
+     */
+    private static final class SearchResult {
+
+        private final List<Issue> issues;
+        private final String searchStr;
+
+        /**
+         * Constructor used to create an instance of the SearchResult class.
+         *
+         * @param issues the issues found
+         * @param searchStr the search string
+         */
+        SearchResult(List<Issue> issues, String searchStr) {
+            this.issues = Collections.unmodifiableList(issues);
+            this.searchStr = searchStr;
+        }//end constructor
+
+    }//end class
+
 }//end class
@@ -0,0 +1,670 @@
+package com.omo.free.jira.tracker.dao;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
+import gov.doc.isu.simple.fx.tools.CreateConnection;
+
+/**
+ * This JIRAConnectionPool class is used to hand out connections to the HSQL DB tracker database so that the database files on the network share are not opened and validated again for every DAO operation.
+ *
+ * <p>Connections are created using {@code CreateConnection.getHSQLConnection()}.  No more than {@code hsql.pool.max.total} connections are handed out at the same time, a caller waits up to {@code hsql.pool.borrow.timeout.seconds} for one to be handed back before an {@code SQLException} is thrown.  Closing a connection returned by this pool hands it back to the pool, where up to {@code hsql.pool.max.idle} connections are kept.  Connections idle longer than {@code hsql.pool.idle.timeout.seconds} are closed down to {@code hsql.pool.min.idle}.  A connection is validated before it is handed out again.</p>
+ *
+ * <p>When {@code hsql.jdbc.url} is a {@code jdbc:hsqldb:file:} url the database runs within this application, so no idle connection is kept and idle connections are closed after {@value #DEFAULT_FILE_IDLE_TIMEOUT_SECONDS} seconds by default, so that the database is shut down between uses and the changes of other users are read again.  Keeping it open would also let this application write its copy of the database over the changes of other users.  Only a server url such as {@code jdbc:hsqldb:hsql://} keeps {@value #DEFAULT_SERVER_MIN_IDLE} idle connection by default.</p>
+ *
+ * <p>Each pooled connection keeps up to {@code hsql.pool.statement.cache.size} prepared statements by sql.  Closing a prepared statement clears its parameters and batch and hands it back to the cache of its connection.</p>
+ *
+ * <p>A second pool is kept for the local tracker replica (see {@link #getReplicaInstance()}), it is configured with the {@code hsql.replica.pool} properties and keeps one idle connection by default so the local database stays open.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRAConnectionPool implements DataSource {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.dao.JIRAConnectionPool";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    /* defaults used when the hsql.pool properties are not set */
+    private static final int DEFAULT_SERVER_MIN_IDLE = 1;
+    private static final int DEFAULT_FILE_IDLE_TIMEOUT_SECONDS = 5;
+    private static final int DEFAULT_MAX_IDLE = 2;
+    private static final int DEFAULT_MAX_TOTAL = 8;
+    private static final int DEFAULT_BORROW_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 20;
+    private static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private static final JIRAConnectionPool INSTANCE = createSharedPool();
+
+    private final String name;
+    private final Callable<Connection> connectionSource;
+    private final int minIdle;
+    private final int maxIdle;
+    private final int maxTotal;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final int statementCacheSize;
+    private final int validationTimeoutSeconds;
+
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+    /* one permit for each connection that can be handed out */
+    private final Semaphore permits;
+    private final ScheduledExecutorService reaper;
+    private boolean isShutdown;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong statementsReused = new AtomicLong();
+
+    private PrintWriter logWriter;
+
+    /**
+     * Constructor used to create an instance of the JIRAConnectionPool class.
+     *
+     * @param name the name of the pool used for logging
+     * @param propertyPrefix the prefix of the pool properties, for example hsql.pool.
+     * @param defaultMinIdle the minimum number of idle connections when the min.idle property is not set
+     * @param defaultIdleTimeoutSeconds the seconds an idle connection is kept when the idle.timeout.seconds property is not set
+     * @param isMinIdleAllowed false if no idle connection may be kept whatever the min.idle property is set to
+     * @param connectionSource creates the physical connections
+     */
+    private JIRAConnectionPool(String name, String propertyPrefix, int defaultMinIdle, int defaultIdleTimeoutSeconds, boolean isMinIdleAllowed, Callable<Connection> connectionSource) {
+        this.name = name;
+        this.connectionSource = connectionSource;
+        int configuredMinIdle = getIntProperty(propertyPrefix + "min.idle", defaultMinIdle, 0);
+        if(!isMinIdleAllowed && configuredMinIdle > 0){
+            myLogger.warning("ignoring " + propertyPrefix + "min.idle=" + configuredMinIdle + ", no idle " + name + " connection is kept for a file database so the changes of other users are read again.");
+            configuredMinIdle = 0;
+        }//end if
+        this.minIdle = configuredMinIdle;
+        this.maxIdle = Math.max(minIdle, getIntProperty(propertyPrefix + "max.idle", Math.max(defaultMinIdle, DEFAULT_MAX_IDLE), 0));
+        this.maxTotal = Math.max(Math.max(1, maxIdle), getIntProperty(propertyPrefix + "max.total", DEFAULT_MAX_TOTAL, 1));
+        this.borrowTimeoutMillis = TimeUnit.SECONDS.toMillis(getIntProperty(propertyPrefix + "borrow.timeout.seconds", DEFAULT_BORROW_TIMEOUT_SECONDS, 1));
+        this.permits = new Semaphore(maxTotal, true);
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(getIntProperty(propertyPrefix + "idle.timeout.seconds", defaultIdleTimeoutSeconds, 1));
+        this.statementCacheSize = getIntProperty(propertyPrefix + "statement.cache.size", DEFAULT_STATEMENT_CACHE_SIZE, 0);
+        this.validationTimeoutSeconds = getIntProperty(propertyPrefix + "validation.timeout.seconds", DEFAULT_VALIDATION_TIMEOUT_SECONDS, 1);
+
+        this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name.toLowerCase() + "-pool-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        this.reaper.scheduleWithFixedDelay(this::closeIdleConnections, period, period, TimeUnit.MILLISECONDS);
+        myLogger.info("created " + name + " connection pool with minIdle=" + minIdle + ", maxIdle=" + maxIdle + ", maxTotal=" + maxTotal + ", borrowTimeoutMillis=" + borrowTimeoutMillis + ", idleTimeoutMillis=" + idleTimeoutMillis + ", statementCacheSize=" + statementCacheSize);
+    }//end constructor
+
+    /**
+     * This method will create the pool of the shared database, when {@code hsql.jdbc.url} is a file url no idle connection is kept and idle connections are closed sooner.
+     *
+     * @return the shared pool
+     */
+    private static JIRAConnectionPool createSharedPool(){
+        boolean isFileDatabase = isFileUrl("hsql.jdbc.url");
+        return new JIRAConnectionPool("HSQL", "hsql.pool.", isFileDatabase ? 0 : DEFAULT_SERVER_MIN_IDLE, isFileDatabase ? DEFAULT_FILE_IDLE_TIMEOUT_SECONDS : DEFAULT_IDLE_TIMEOUT_SECONDS, !isFileDatabase, CreateConnection::getHSQLConnection);
+    }//end method
+
+    /**
+     * This method will return true if the url of the property named {@code name} is a {@code jdbc:hsqldb:file:} url or can not be read.
+     *
+     * @param name the property name
+     * @return true for a file database
+     */
+    private static boolean isFileUrl(String name){
+        boolean isFile = true;
+        try{
+            String url = PropertiesMgr.getInstance().getProperties().getProperty(name);
+            isFile = url == null || url.trim().toLowerCase().startsWith("jdbc:hsqldb:file:");
+        }catch(Exception e){
+            myLogger.warning("Could not read the " + name + " property, treating the database as a file database.  Error message is: " + e.getMessage());
+        }//end try...catch
+        return isFile;
+    }//end method
+
+    /**
+     * This method will return the single instance of the JIRAConnectionPool class.
+     *
+     * @return INSTANCE the JIRAConnectionPool class
+     */
+    public static JIRAConnectionPool getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will return the pool of connections to the local tracker replica database.  The pool is created the first time it is requested.
+     *
+     * @return the replica pool
+     */
+    public static JIRAConnectionPool getReplicaInstance(){
+        return ReplicaHolder.REPLICA_INSTANCE;
+    }//end method
+
+    /**
+     * This method will return the JDBC url of the local tracker replica read from the hsql.replica.url property or a file database within the JIRA resources directory.
+     *
+     * @return the replica url
+     */
+    static String getReplicaUrl(){
+        String url = PropertiesMgr.getInstance().getProperties().getProperty("hsql.replica.url");
+        if(url == null || "".equals(url.trim())){
+            url = "jdbc:hsqldb:file:" + Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, "replica", "JIRATrackerReplica").toAbsolutePath();
+        }//end if
+        return url.trim();
+    }//end method
+
+    /**
+     * This method will return a connection to the database of this pool.  When the maximum number of connections are in use this method waits for one to be handed back.  An idle connection is handed out when one is valid otherwise a new connection is created.
+     *
+     * @return the connection, closing it hands it back to the pool
+     * @throws SQLException can be thrown while trying to get a db connection or when no connection is handed back within the borrow timeout
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        myLogger.entering(MY_CLASS_NAME, "getConnection");
+
+        acquirePermit();
+        PooledConnection pooled = null;
+        try{
+            while(pooled == null){
+                synchronized(this){
+                    if(isShutdown){
+                        throw new SQLException("The " + name + " connection pool has been shut down.");
+                    }//end if
+                    pooled = idleConnections.pollFirst();
+                }//end synchronized
+                if(pooled == null){
+                    break;
+                }else if(!pooled.isValid()){
+                    myLogger.info("discarding an idle " + name + " connection that is no longer valid.");
+                    pooled.closePhysical();
+                    pooled = null;
+                }//end if...else
+            }//end while
+
+            if(pooled == null){
+                pooled = new PooledConnection(createPhysicalConnection());
+                created.incrementAndGet();
+            }else{
+                reused.incrementAndGet();
+            }//end if...else
+        }catch(SQLException e){
+            permits.release();
+            myLogger.log(Level.SEVERE, "SQLException occurred while trying to get a " + name + " connection.  Error message is: " + e.getMessage(), e);
+            throw e;
+        }//end try...catch
+        pooled.isInUse = true;
+
+        myLogger.exiting(MY_CLASS_NAME, "getConnection");
+        return pooled.proxy;
+    }//end method
+
+    /**
+     * This method will wait up to the borrow timeout for one of the connections of this pool to become available.
+     *
+     * @throws SQLException if no connection became available within the borrow timeout or the wait was interrupted
+     */
+    private void acquirePermit() throws SQLException {
+        try{
+            if(!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)){
+                SQLException e = new SQLException("Timed out after " + borrowTimeoutMillis + " ms waiting for one of the " + maxTotal + " " + name + " connections to be handed back.");
+                myLogger.log(Level.SEVERE, e.getMessage(), e);
+                throw e;
+            }//end if
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            myLogger.log(Level.SEVERE, "InterruptedException occurred while waiting for a " + name + " connection.  Error message is: " + e.getMessage(), e);
+            throw new SQLException("Interrupted while waiting for a " + name + " connection.", e);
+        }//end try...catch
+    }//end method
+
+    /**
+     * This method will create a new physical connection using the connection source of this pool.
+     *
+     * @return the physical connection
+     * @throws SQLException can be thrown while trying to get a db connection
+     */
+    private Connection createPhysicalConnection() throws SQLException {
+        try{
+            return connectionSource.call();
+        }catch(SQLException e){
+            throw e;
+        }catch(Exception e){
+            throw new SQLException("Could not create a " + name + " connection.  Error message is: " + e.getMessage(), e);
+        }//end try...catch
+    }//end method
+
+    /**
+     * This method will hand the {@code pooled} connection back to the pool or close it when the pool is shut down, full or the connection can not be reused.
+     *
+     * @param pooled the pooled connection
+     */
+    private void release(PooledConnection pooled) {
+        pooled.isInUse = false;
+        try{
+            boolean isReusable = pooled.reset();
+            synchronized(this){
+                if(isReusable && !isShutdown && idleConnections.size() < maxIdle){
+                    pooled.lastUsed = System.currentTimeMillis();
+                    idleConnections.addFirst(pooled);
+                    return;
+                }//end if
+            }//end synchronized
+            pooled.closePhysical();
+        }finally{
+            permits.release();
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will close the connections that have been idle longer than the idle timeout keeping at least the minimum number of idle connections.
+     */
+    private void closeIdleConnections() {
+        long expiredBefore = System.currentTimeMillis() - idleTimeoutMillis;
+        Deque<PooledConnection> expired = new ArrayDeque<>();
+        synchronized(this){
+            Iterator<PooledConnection> it = idleConnections.descendingIterator();//least recently used first
+            while(it.hasNext() && idleConnections.size() > minIdle){
+                PooledConnection pooled = it.next();
+                if(pooled.lastUsed < expiredBefore){
+                    it.remove();
+                    expired.add(pooled);
+                }//end if
+            }//end while
+        }//end synchronized
+        for(PooledConnection pooled : expired){
+            pooled.closePhysical();
+        }//end for
+        if(!expired.isEmpty()){
+            myLogger.fine("closed " + expired.size() + " idle " + name + " connections.");
+        }//end if
+    }//end method
+
+    /**
+     * This method will close all idle connections and stop the pool.  Connections still in use are closed when they are handed back.
+     */
+    public void shutdown() {
+        myLogger.entering(MY_CLASS_NAME, "shutdown");
+
+        Deque<PooledConnection> toClose;
+        synchronized(this){
+            if(isShutdown){
+                return;
+            }//end if
+            isShutdown = true;
+            toClose = new ArrayDeque<>(idleConnections);
+            idleConnections.clear();
+        }//end synchronized
+        reaper.shutdownNow();
+        for(PooledConnection pooled : toClose){
+            pooled.closePhysical();
+        }//end for
+        myLogger.info(name + " connection pool shut down, " + getStatistics());
+
+        myLogger.exiting(MY_CLASS_NAME, "shutdown");
+    }//end method
+
+    /**
+     * This method will return the connection and statement counts of the pool for logging.
+     *
+     * @return the statistics of the pool
+     */
+    public String getStatistics() {
+        synchronized(this){
+            return "connections created=" + created.get() + ", connections reused=" + reused.get() + ", statements reused=" + statementsReused.get() + ", idle=" + idleConnections.size() + ", in use=" + (maxTotal - permits.availablePermits());
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return the name of the pool.
+     *
+     * @return the name of the pool
+     */
+    @Override
+    public String toString() {
+        return name + " connection pool";
+    }//end method
+
+    /**
+     * This method is not supported as the user and password are set by the connection source of the pool.
+     *
+     * @param username the user name
+     * @param password the password
+     * @return nothing
+     * @throws SQLException always
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("The " + name + " connection pool uses the user and password of its connection source.");
+    }//end method
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return logWriter;
+    }//end method
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        this.logWriter = out;
+    }//end method
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setLoginTimeout");
+    }//end method
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return 0;
+    }//end method
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return myLogger;
+    }//end method
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if(iface.isInstance(this)){
+            return iface.cast(this);
+        }//end if
+        throw new SQLException("JIRAConnectionPool does not wrap " + iface.getName());
+    }//end method
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }//end method
+
+    /**
+     * This method will return the int value of the property named {@code name} or the {@code defaultValue} if the property is not set or is below {@code minValue}.
+     *
+     * @param name the property name
+     * @param defaultValue the default value
+     * @param minValue the smallest accepted value
+     * @return the property value
+     */
+    private static int getIntProperty(String name, int defaultValue, int minValue) {
+        int value = defaultValue;
+        try{
+            String property = PropertiesMgr.getInstance().getProperties().getProperty(name);
+            if(property != null && !"".equals(property.trim())){
+                value = Integer.parseInt(property.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the " + name + " property, using default value of " + defaultValue + ".  Error message is: " + e.getMessage());
+        }//end try...catch
+        return value >= minValue ? value : defaultValue;
+    }//end method
+
+    /**
+     * This method will call {@code method} on {@code target} unwrapping the exception thrown by the method.
+     *
+     * @param target the object the method is called on
+     * @param method the method
+     * @param args the arguments
+     * @return the result of the method
+     * @throws Throwable the exception thrown by the method
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try{
+            return method.invoke(target, args);
+        }catch(InvocationTargetException e){
+            throw e.getCause();
+        }//end try...catch
+    }//end method
+
+    /**
+     * This ReplicaHolder class creates the replica pool the first time it is used.
+     */
+    private static final class ReplicaHolder {
+        private static final JIRAConnectionPool REPLICA_INSTANCE = new JIRAConnectionPool("Replica", "hsql.replica.pool.", 1, DEFAULT_IDLE_TIMEOUT_SECONDS, true, () -> DriverManager.getConnection(getReplicaUrl(), "SA", ""));
+    }//end class
+
+    /**
+     * This PooledConnection class holds one physical connection, its statement cache and the proxy handed out to the DAOs.
+     */
+    private final class PooledConnection implements InvocationHandler {
+
+        private final Connection physical;
+        private final Connection proxy;
+        /* idle prepared statements by sql, least recently used first */
+        private final LinkedHashMap<String, PreparedStatement> statementCache = new LinkedHashMap<>(16, 0.75f, true);
+        private volatile boolean isInUse;
+        private long lastUsed;
+
+        /**
+         * Constructor used to create an instance of the PooledConnection class.
+         *
+         * @param physical the physical connection
+         */
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }//end constructor
+
+        @Override
+        public Object invoke(Object proxyObj, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if(method.getDeclaringClass() == Object.class){
+                return method.invoke(this, args);
+            }else if("close".equals(name)){
+                if(isInUse){
+                    release(this);
+                }//end if
+                return null;
+            }else if("isClosed".equals(name)){
+                return !isInUse || physical.isClosed();
+            }else if(!isInUse){
+                throw new SQLException("Connection has been handed back to the pool.");
+            }else if("prepareStatement".equals(name) && isCacheable(args)){
+                return prepareStatement(args);
+            }//end if...else
+            return JIRAConnectionPool.invoke(physical, method, args);
+        }//end method
+
+        /**
+         * This method will return true if the prepareStatement call with the {@code args} can use the statement cache.  Only statements prepared with the sql alone or with a result set type and concurrency are cached.
+         *
+         * @param args the prepareStatement arguments
+         * @return true if cacheable
+         */
+        private boolean isCacheable(Object[] args) {
+            return statementCacheSize > 0 && (args.length == 1 || (args.length == 3 && args[1] instanceof Integer && args[2] instanceof Integer));
+        }//end method
+
+        /**
+         * This method will return a cached prepared statement for the {@code args} or prepare a new one.
+         *
+         * @param args the prepareStatement arguments
+         * @return the prepared statement, closing it hands it back to the cache
+         * @throws SQLException can be thrown while preparing the statement
+         */
+        private PreparedStatement prepareStatement(Object[] args) throws SQLException {
+            String cacheKey = args.length == 1 ? (String) args[0] : args[1] + "|" + args[2] + "|" + args[0];
+            PreparedStatement statement;
+            synchronized(statementCache){
+                statement = statementCache.remove(cacheKey);
+            }//end synchronized
+            if(statement == null){
+                statement = args.length == 1 ? physical.prepareStatement((String) args[0]) : physical.prepareStatement((String) args[0], (Integer) args[1], (Integer) args[2]);
+            }else{
+                statementsReused.incrementAndGet();
+            }//end if...else
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, new CachedStatement(this, cacheKey, statement));
+        }//end method
+
+        /**
+         * This method will hand the {@code statement} back to the statement cache closing the least recently used statement when the cache is full.
+         *
+         * @param cacheKey the cache key
+         * @param statement the prepared statement
+         */
+        private void returnStatement(String cacheKey, PreparedStatement statement) {
+            PreparedStatement toClose = null;
+            synchronized(statementCache){
+                if(statementCache.containsKey(cacheKey)){
+                    toClose = statement;//the same sql is already cached
+                }else{
+                    statementCache.put(cacheKey, statement);
+                    if(statementCache.size() > statementCacheSize){
+                        Iterator<Map.Entry<String, PreparedStatement>> it = statementCache.entrySet().iterator();
+                        toClose = it.next().getValue();
+                        it.remove();
+                    }//end if
+                }//end if...else
+            }//end synchronized
+            closeQuietly(toClose);
+        }//end method
+
+        /**
+         * This method will return true if the physical connection is still usable.
+         *
+         * @return true if valid
+         */
+        private boolean isValid() {
+            try{
+                return !physical.isClosed() && physical.isValid(validationTimeoutSeconds);
+            }catch(SQLException e){
+                myLogger.warning("Could not validate an idle " + name + " connection.  Error message is: " + e.getMessage());
+                return false;
+            }//end try...catch
+        }//end method
+
+        /**
+         * This method will put the physical connection back into its default state before it is pooled.
+         *
+         * @return true if the connection can be reused
+         */
+        private boolean reset() {
+            try{
+                if(physical.isClosed()){
+                    return false;
+                }//end if
+                if(!physical.getAutoCommit()){
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }//end if
+                physical.clearWarnings();
+                return true;
+            }catch(SQLException e){
+                myLogger.warning("Could not reset a " + name + " connection, it will be closed.  Error message is: " + e.getMessage());
+                return false;
+            }//end try...catch
+        }//end method
+
+        /**
+         * This method will close the cached statements and the physical connection.
+         */
+        private void closePhysical() {
+            synchronized(statementCache){
+                for(PreparedStatement statement : statementCache.values()){
+                    closeQuietly(statement);
+                }//end for
+                statementCache.clear();
+            }//end synchronized
+            try{
+                physical.close();
+            }catch(SQLException e){
+                myLogger.log(Level.WARNING, "Exception occurred while trying to close a " + name + " connection.  Error message is: " + e.getMessage(), e);
+            }//end try...catch
+        }//end method
+
+        /**
+         * This method will close the {@code statement} logging any exception.
+         *
+         * @param statement the statement to close, may be null
+         */
+        private void closeQuietly(PreparedStatement statement) {
+            if(statement != null){
+                try{
+                    statement.close();
+                }catch(SQLException e){
+                    myLogger.warning("Could not close a cached prepared statement.  Error message is: " + e.getMessage());
+                }//end try...catch
+            }//end if
+        }//end method
+
+    }//end class
+
+    /**
+     * This CachedStatement class is the handler of a prepared statement handed out from the statement cache of a pooled connection.
+     */
+    private static final class CachedStatement implements InvocationHandler {
+
+        private final PooledConnection owner;
+        private final String cacheKey;
+        private final PreparedStatement statement;
+        private boolean isClosed;
+
+        /**
+         * Constructor used to create an instance of the CachedStatement class.
+         *
+         * @param owner the pooled connection the statement belongs to
+         * @param cacheKey the cache key
+         * @param statement the physical prepared statement
+         */
+        private CachedStatement(PooledConnection owner, String cacheKey, PreparedStatement statement) {
+            this.owner = owner;
+            this.cacheKey = cacheKey;
+            this.statement = statement;
+        }//end constructor
+
+        @Override
+        public Object invoke(Object proxyObj, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if(method.getDeclaringClass() == Object.class){
+                return method.invoke(this, args);
+            }else if("close".equals(name)){
+                if(!isClosed){
+                    isClosed = true;
+                    try{
+                        statement.clearParameters();
+                        statement.clearBatch();
+                        statement.clearWarnings();
+                        owner.returnStatement(cacheKey, statement);
+                    }catch(SQLException e){
+                        myLogger.warning("Could not reset a prepared statement, it will be closed.  Error message is: " + e.getMessage());
+                        owner.closeQuietly(statement);
+                    }//end try...catch
+                }//end if
+                return null;
+            }else if("isClosed".equals(name)){
+                return isClosed || statement.isClosed();
+            }else if("getConnection".equals(name)){
+                return owner.proxy;
+            }else if(isClosed){
+                throw new SQLException("Statement has been closed.");
+            }//end if...else
+            return JIRAConnectionPool.invoke(statement, method, args);
+        }//end method
+
+    }//end class
+
+}//end class
@@ -53,7 +53,7 @@ public class JIRAEnhancementDAO {
         PreparedStatement ps = null;
 
         try{
-            conn = CreateConnection.getHSQLConnection();
+            conn = JIRAConnectionPool.getInstance().getConnection();
             ps = StatementFactory.getStatement(conn, CREATE, DebugLevel.ON);
             ps.execute();
         }catch(SQLException e){
@@ -76,7 +76,7 @@ public class JIRAEnhancementDAO {
         PreparedStatement ps = null;
         Connection conn = null;
         try{
-            conn = CreateConnection.getHSQLConnection();
+            conn = JIRAConnectionPool.getInstance().getConnection();
             ps = StatementFactory.getStatement(conn, INSERT, DebugLevel.ON);
 
             ps.setString(1, enhancement.getType());
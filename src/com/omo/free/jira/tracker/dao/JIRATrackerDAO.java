@@ -5,6 +5,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -14,7 +15,9 @@ import com.junderground.jdbc.DebugLevel;
 import com.junderground.jdbc.StatementFactory;
 import com.omo.free.jira.tracker.constants.JIRAConstants;
 import com.omo.free.jira.tracker.model.JIRATrackedIssue;
+import com.omo.free.jira.tracker.model.JIRATrackedIssueIndex;
 
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
 import gov.doc.isu.simple.fx.tools.CreateConnection;
 
 
@@ -23,6 +26,12 @@ import gov.doc.isu.simple.fx.tools.CreateConnection;
  *
  * A HSQL DB table named JIRA_TRACKED_ISSUES is the keeper of all the jira issues that have been sent to the shop.
  *
+ * <p>Reads are answered by a local replica of the JIRA_TRACKED_ISSUES table once the {@code JIRATrackerSyncEngine} has synchronized it with the shared database, and writes are made to the replica and its change log which the sync engine pushes to the shared database in the background.  When the replica is disabled or cannot be opened the shared database is used directly.</p>
+ *
+ * <p>Changes to the shared tables are applied as numbered schema upgrades that are recorded within the JIRA_TRACKER_SCHEMA_VERSION table so that each upgrade runs once.</p>
+ *
+ * <p>Every write sets the SYNC_SEQ column of the record to the next value of the JIRA_TRACKER_SYNC_SEQ sequence of the database written to, so that the {@code JIRATrackerSyncEngine} pulls the records changed since its last pull by sequence rather than by the clock of the user who changed them.</p>
+ *
  * <p>NOTE:  I have added a Bug/Enhancement Tracker Table to this DAO for tracking bugs within the JIRA shop tracker that the user may come across during their use of this application.  It is called JIRA_TRACKER_ENHANCEMENTS.</p>
  *
  * @author Richard Salas, April 17, 2019
@@ -35,12 +44,41 @@ public class JIRATrackerDAO {
     /* Basic SQL queries used by this DAO */
     private static final String CREATE = "CREATE CACHED TABLE IF NOT EXISTS JIRA_TRACKED_ISSUES(ISSUE_KEY VARCHAR(40) PRIMARY KEY, PROJECT_KEY VARCHAR(20), SUMMARY VARCHAR(250), SENT_TS TIMESTAMP(0), LAST_SENT_TS TIMESTAMP(0) DEFAULT NULL, SENT_BY_USER_ID VARCHAR(30), DELETE_IND CHAR(1))";
 
-    private static final String SELECT = "SELECT * FROM JIRA_TRACKED_ISSUES where PROJECT_KEY = ? AND DELETE_IND = 'N'";
-    private static final String INSERT = "INSERT INTO JIRA_TRACKED_ISSUES(ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, SENT_BY_USER_ID, DELETE_IND) values (?, ?, ?, CURRENT_TIMESTAMP, ?, 'N')";
-    private static final String UPDATE = "UPDATE JIRA_TRACKED_ISSUES SET LAST_SENT_TS = CURRENT_TIMESTAMP WHERE ISSUE_KEY = ?";
-    private static final String DELETE = "UPDATE JIRA_TRACKED_ISSUES SET DELETE_IND = 'Y', LAST_SENT_TS = CURRENT_TIMESTAMP WHERE ISSUE_KEY = ?";
+    private static final String SELECT = "SELECT ISSUE_KEY FROM JIRA_TRACKED_ISSUES where PROJECT_KEY = ? AND DELETE_IND = 'N'";
+    private static final String INSERT = "INSERT INTO JIRA_TRACKED_ISSUES(ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, SENT_BY_USER_ID, DELETE_IND, SYNC_SEQ) values (?, ?, ?, CURRENT_TIMESTAMP, ?, 'N', NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ)";
+    private static final String UPDATE = "UPDATE JIRA_TRACKED_ISSUES SET LAST_SENT_TS = CURRENT_TIMESTAMP, SYNC_SEQ = NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ WHERE ISSUE_KEY = ?";
+    private static final String DELETE = "UPDATE JIRA_TRACKED_ISSUES SET DELETE_IND = 'Y', LAST_SENT_TS = CURRENT_TIMESTAMP, SYNC_SEQ = NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ WHERE ISSUE_KEY = ?";
+    private static final String UPSERT = "MERGE INTO JIRA_TRACKED_ISSUES T USING (VALUES(CAST(? AS VARCHAR(40)), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(250)), CAST(? AS VARCHAR(30)))) AS S(ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_BY_USER_ID) ON T.ISSUE_KEY = S.ISSUE_KEY"
+        + " WHEN MATCHED THEN UPDATE SET T.SUMMARY = S.SUMMARY, T.LAST_SENT_TS = CURRENT_TIMESTAMP, T.DELETE_IND = 'N', T.SYNC_SEQ = NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ"
+        + " WHEN NOT MATCHED THEN INSERT (ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, SENT_BY_USER_ID, DELETE_IND, SYNC_SEQ) VALUES (S.ISSUE_KEY, S.PROJECT_KEY, S.SUMMARY, CURRENT_TIMESTAMP, S.SENT_BY_USER_ID, 'N', NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ)";
+
+    /* operations written to the JIRA_TRACKED_ISSUES table and recorded within the change log of the replica */
+    public static final String OPERATION_INSERT = "INSERT";
+    public static final String OPERATION_UPSERT = "UPSERT";
+    public static final String OPERATION_UPDATE = "UPDATE";
+    public static final String OPERATION_DELETE = "DELETE";
+
+    /* number of statements executed and committed in one batch when the hsql.commit.interval property is not set */
+    private static final int DEFAULT_COMMIT_INTERVAL = 500;
     //private static final String SELECT_ISSUE = "SELECT * FROM JIRA_TRACKED_ISSUES where PROJECT_KEY = ? AND ISSUE_KEY = ?";
 
+    /* schema version table and the upgrades applied in order, SCHEMA_UPGRADES[0] is version 1, each upgrade is its statement and the query counting the object it creates */
+    private static final String CREATE_SCHEMA_VERSION = "CREATE CACHED TABLE IF NOT EXISTS JIRA_TRACKER_SCHEMA_VERSION(VERSION INTEGER PRIMARY KEY, APPLIED_TS TIMESTAMP(0), APPLIED_BY_USER_ID VARCHAR(30))";
+    private static final String SELECT_SCHEMA_VERSION = "SELECT MAX(VERSION) FROM JIRA_TRACKER_SCHEMA_VERSION";
+    private static final String INSERT_SCHEMA_VERSION = "INSERT INTO JIRA_TRACKER_SCHEMA_VERSION(VERSION, APPLIED_TS, APPLIED_BY_USER_ID) values (?, CURRENT_TIMESTAMP, ?)";
+    private static final String SELECT_INDEX = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO where TABLE_NAME = 'JIRA_TRACKED_ISSUES' AND INDEX_NAME = ";
+    private static final String PROJECT_INDEX_NAME = "JIRA_TRACKED_ISSUES_PROJECT_IDX";
+    private static final String SYNC_SEQ_INDEX_NAME = "JIRA_TRACKED_ISSUES_SYNC_SEQ_IDX";
+    private static final String[][] SCHEMA_UPGRADES = {
+        {"CREATE INDEX " + PROJECT_INDEX_NAME + " ON JIRA_TRACKED_ISSUES(PROJECT_KEY, DELETE_IND)", SELECT_INDEX + "'" + PROJECT_INDEX_NAME + "'"},
+        {"CREATE SEQUENCE JIRA_TRACKER_SYNC_SEQ AS BIGINT START WITH 1", "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SEQUENCES where SEQUENCE_NAME = 'JIRA_TRACKER_SYNC_SEQ'"},
+        {"ALTER TABLE JIRA_TRACKED_ISSUES ADD COLUMN SYNC_SEQ BIGINT DEFAULT 0", "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS where TABLE_NAME = 'JIRA_TRACKED_ISSUES' AND COLUMN_NAME = 'SYNC_SEQ'"},
+        {"CREATE INDEX " + SYNC_SEQ_INDEX_NAME + " ON JIRA_TRACKED_ISSUES(SYNC_SEQ)", SELECT_INDEX + "'" + SYNC_SEQ_INDEX_NAME + "'"}
+    };
+
+    /* index of tracked issue keys by project kept in sync with the inserts, updates and deletes of this DAO */
+    private JIRATrackedIssueIndex trackedIssueIndex = new JIRATrackedIssueIndex();
+
     /**
      * Constructor used to create an instance of the JIRATrackerDAO class.
      *
@@ -53,18 +91,32 @@ public class JIRATrackerDAO {
     }//end constructor
 
     /**
-     * This method will create the JIRA_TRACKED_ISSUES table and the JIRA_TRACKER_ENHANCEMENTS table if it does not exist.
+     * This method will create the JIRA_TRACKED_ISSUES table and the JIRA_TRACKER_ENHANCEMENTS table if it does not exist, start the synchronization of the local replica and start the write queue.
      *
      * @throws Exception can be thrown while attempting to create the JIRA_TRACKED_ISSUES table and the JIRA_TRACKER_ENHANCEMENTS table
      */
     public void create() throws Exception{
         myLogger.entering(MY_CLASS_NAME, "create");
+        create(JIRAConnectionPool.getInstance());
+        JIRATrackerSyncEngine.getInstance().start(this);
+        JIRATrackerWriteQueue.getInstance().start(this);
+        myLogger.exiting(MY_CLASS_NAME, "create");
+    }//end method
+
+    /**
+     * This method will create the JIRA_TRACKED_ISSUES table within the database of the {@code pool} if it does not exist and apply the schema upgrades.
+     *
+     * @param pool the shared database pool or the replica pool
+     * @throws Exception can be thrown while attempting to create the JIRA_TRACKED_ISSUES table
+     */
+    void create(JIRAConnectionPool pool) throws Exception{
+        myLogger.entering(MY_CLASS_NAME, "create", pool);
 
         Connection conn = null;
         PreparedStatement ps = null;
 
         try{
-            conn = CreateConnection.getHSQLConnection();
+            conn = pool.getConnection();
             ps = StatementFactory.getStatement(conn, CREATE, DebugLevel.ON);
             ps.execute();
         }catch(SQLException e){
@@ -76,11 +128,108 @@ public class JIRATrackerDAO {
         }finally{
             CreateConnection.destroyObjects(conn, ps, null);
         }// end try...catch
+        upgradeSchema(pool);
         myLogger.exiting(MY_CLASS_NAME, "create");
     }//end method
 
     /**
-     * This method will return a list of {@code JIRAIssue}'s based on the {@code projectKey} passed into this method.
+     * This method will apply the {@code SCHEMA_UPGRADES} that have not been applied to the shared database yet and record each one within the JIRA_TRACKER_SCHEMA_VERSION table.
+     *
+     * <p>An upgrade that fails is logged and skipped as the tables can still be used without it, it will be tried again the next time the application starts.  An upgrade that was applied by another user at the same time is recorded as applied.</p>
+     */
+    public void upgradeSchema() {
+        upgradeSchema(JIRAConnectionPool.getInstance());
+    }//end method
+
+    /**
+     * This method will apply the {@code SCHEMA_UPGRADES} to the database of the {@code pool}.
+     *
+     * @param pool the shared database pool or the replica pool
+     */
+    void upgradeSchema(JIRAConnectionPool pool) {
+        myLogger.entering(MY_CLASS_NAME, "upgradeSchema", pool);
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        int version = 0;
+        try{
+            conn = pool.getConnection();
+            ps = StatementFactory.getStatement(conn, CREATE_SCHEMA_VERSION, DebugLevel.ON);
+            ps.execute();
+            ps.close();
+            ps = null;
+
+            ps = StatementFactory.getStatement(conn, SELECT_SCHEMA_VERSION, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            rs = ps.executeQuery();
+            if(rs.next()){
+                version = rs.getInt(1);
+            }//end if
+            rs.close();
+            rs = null;
+            ps.close();
+            ps = null;
+            myLogger.info("schema version of the tracker database is " + version + ", latest version is " + SCHEMA_UPGRADES.length);
+
+            for(; version < SCHEMA_UPGRADES.length; version++){
+                ps = StatementFactory.getStatement(conn, SCHEMA_UPGRADES[version][0], DebugLevel.ON);
+                try{
+                    ps.execute();
+                }catch(SQLException e){
+                    if(!isUpgradeApplied(conn, SCHEMA_UPGRADES[version][1])){//an upgrade applied by another user fails because its object exists
+                        throw e;
+                    }//end if
+                    myLogger.info("schema upgrade " + (version + 1) + " was already applied by another user.");
+                }finally{
+                    ps.close();
+                    ps = null;
+                }//end try...catch
+
+                ps = StatementFactory.getStatement(conn, INSERT_SCHEMA_VERSION, DebugLevel.ON);
+                ps.setInt(1, version + 1);
+                ps.setString(2, JIRAConstants.JIRA_USER_ID);
+                ps.executeUpdate();
+                ps.close();
+                ps = null;
+                myLogger.info("applied schema upgrade " + (version + 1) + ": " + SCHEMA_UPGRADES[version][0]);
+            }//end for
+        }catch(SQLException e){
+            myLogger.log(Level.SEVERE, "SQLException occured while trying to apply schema upgrade " + (version + 1) + " to the tracker database. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
+        }catch(Exception e){
+            myLogger.log(Level.SEVERE, "Exception occured while trying to apply schema upgrade " + (version + 1) + " to the tracker database. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
+        }finally{
+            CreateConnection.destroyObjects(conn, ps, rs);
+        }// end try...catch
+        myLogger.exiting(MY_CLASS_NAME, "upgradeSchema", version);
+    }//end method
+
+    /**
+     * This method will return true if the object created by a schema upgrade exists, that is when the {@code countSql} of the upgrade counts more than zero.
+     *
+     * @param conn the connection
+     * @param countSql the query counting the object created by the upgrade
+     * @return true if the upgrade was applied
+     * @throws SQLException can be thrown while reading the database catalog
+     */
+    private boolean isUpgradeApplied(Connection conn, String countSql) throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try{
+            ps = StatementFactory.getStatement(conn, countSql, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            rs = ps.executeQuery();
+            return rs.next() && rs.getInt(1) > 0;
+        }finally{
+            if(rs != null){
+                rs.close();
+            }//end if
+            if(ps != null){
+                ps.close();
+            }//end if
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will return a list of {@code JIRAIssue}'s based on the {@code projectKey} passed into this method.  The tracked issue index of the project is reloaded with the selected issue keys.
      *
      * @param projectKey the project key passed into this method
      * @return jiraIssues the list of JIRAIssues
@@ -96,14 +245,14 @@ public class JIRATrackerDAO {
         ResultSet rs = null;
         JIRATrackedIssue issue = null;
         try{
-            conn = CreateConnection.getHSQLConnection();
+            conn = getReadPool().getConnection();
             ps = StatementFactory.getStatement(conn, SELECT, DebugLevel.ON, ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_FORWARD_ONLY);
             ps.setString(1, projectKey);
             rs = ps.executeQuery();
             while(rs.next()){
                 issue = new JIRATrackedIssue();
                 //issue.setProjectKey(rs.getString("PROJECT_KEY"));only need issue_key value here
-                issue.setIssueKey(rs.getString("ISSUE_KEY"));
+                issue.setIssueKey(rs.getString(1));
                 jiraIssues.add(issue);
             }//end if
         }catch(SQLException e){
@@ -116,8 +265,15 @@ public class JIRATrackerDAO {
             CreateConnection.destroyObjects(conn, ps, rs);
         }// end try...catch
 
-        myLogger.info("selected records are: " + String.valueOf(jiraIssues));
-        myLogger.exiting(MY_CLASS_NAME, "getJIRAIssuesByProjectKey", jiraIssues);
+        List<String> issueKeys = new ArrayList<>(jiraIssues.size());
+        for(int i = 0, j = jiraIssues.size(); i < j; i++){
+            issueKeys.add(jiraIssues.get(i).getIssueKey());
+        }//end for
+        trackedIssueIndex.load(projectKey, issueKeys);
+        JIRATrackerWriteQueue.getInstance().applyPending(trackedIssueIndex);//changes still queued are not in the database yet
+
+        myLogger.info("number of selected records is: " + jiraIssues.size());
+        myLogger.exiting(MY_CLASS_NAME, "getJIRAIssuesByProjectKey", jiraIssues.size());
         return jiraIssues;
     }//end method
 
@@ -129,48 +285,26 @@ public class JIRATrackerDAO {
      */
     public void insert(List<JIRATrackedIssue> issues) throws Exception{
         myLogger.entering(MY_CLASS_NAME, "insert", issues);
-        PreparedStatement ps = null;
-        Connection conn = null;
-        JIRATrackedIssue issue = null;
-        int counter = 0;
-        int[] inserts = null;
-        try{
-            conn = CreateConnection.getHSQLConnection();
-            ps = StatementFactory.getStatement(conn, INSERT, DebugLevel.ON);
-
-            for(int i = 0, j = issues.size(); i < j; i++){
-                if(counter >= 50){
-                    inserts = ps.executeBatch();
-                    myLogger.info(logRowUpdateNumbersFromBatchStatements(inserts, INSERT));
-                    counter = 0;
-                }//end if
-
-                issue = issues.get(i);
-                ps.setString(1, issue.getIssueKey());
-                ps.setString(2, issue.getProjectKey());
-                ps.setString(3, issue.getSummary());
-                ps.setString(4, JIRAConstants.JIRA_USER_ID);
-                ps.addBatch();
-                counter++;
-            }//end for
-
-            if(counter > 0){
-                inserts = ps.executeBatch();
-                myLogger.info(logRowUpdateNumbersFromBatchStatements(inserts, INSERT));
-            }//end if
-
-        }catch(SQLException e){
-            myLogger.log(Level.SEVERE, "SQLException occured while trying to insert records into the JIRA_TRACKED_ISSUES table. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
-            throw new Exception("SQLException occured while trying to insert records into the JIRA_TRACKED_ISSUES table.", e);
-        }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occured while trying to insert records into the JIRA_TRACKED_ISSUES table. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
-            throw new Exception("Exception occured while trying to insert records into the JIRA_TRACKED_ISSUES table.", e);
-        }finally{
-            CreateConnection.destroyObjects(conn, ps, null);
-        }// end try...catch
+        write(OPERATION_INSERT, issues);
+        trackedIssueIndex.add(issues);
         myLogger.exiting(MY_CLASS_NAME, "insert");
     }//end method
 
+    /**
+     * This method will track the list of JIRA issues that were sent to the shop within the JIRA_TRACKED_ISSUES table using one MERGE statement per issue.  Issues that are not tracked yet are inserted with their SENT_TS set, issues that are already tracked (or were deleted) have their LAST_SENT_TS set and are tracked again.
+     *
+     * <p>The statements are executed in batches of {@code hsql.commit.interval} issues within one transaction that is rolled back if any batch fails.</p>
+     *
+     * @param issues the issues to track within the JIRA_TRACKED_ISSUES table
+     * @throws Exception can be thrown while trying to merge a record into the JIRA_TRACKED_ISSUES table
+     */
+    public void upsert(List<JIRATrackedIssue> issues) throws Exception{
+        myLogger.entering(MY_CLASS_NAME, "upsert", issues);
+        write(OPERATION_UPSERT, issues);
+        trackedIssueIndex.add(issues);
+        myLogger.exiting(MY_CLASS_NAME, "upsert");
+    }//end method
+
     /**
      * This method will update the list of JIRA issues passed into this method within the JIRA_TRACKED_ISSUES table.
      *
@@ -179,88 +313,199 @@ public class JIRATrackerDAO {
      */
     public void update(List<JIRATrackedIssue> issues) throws Exception{
         myLogger.entering(MY_CLASS_NAME, "update", issues);
-        PreparedStatement ps = null;
-        Connection conn = null;
-        JIRATrackedIssue issue = null;
-        int counter = 0;
-        int[] updates = null;
-        try{
-            conn = CreateConnection.getHSQLConnection();
-            ps = StatementFactory.getStatement(conn, UPDATE, DebugLevel.ON);
-
-            for(int i = 0,j = issues.size(); i < j; i++){
-                if(counter >= 50){
-                    updates = ps.executeBatch();
-                    myLogger.info(logRowUpdateNumbersFromBatchStatements(updates, UPDATE));
-                    counter = 0;
-                }//end if
+        write(OPERATION_UPDATE, issues);
+        trackedIssueIndex.add(issues);
+        myLogger.exiting(MY_CLASS_NAME, "update");
+    }//end method
 
-                issue = issues.get(i);
-                ps.setString(1, issue.getIssueKey());
-                ps.addBatch();
-                counter++;
-            }//end for
+    /**
+     * This method will delete the list of JIRA issues passed into this method within the JIRA_TRACKED_ISSUES table.
+     *
+     * @param issues the issues to delete into the JIRA_TRACKED_ISSUES table
+     * @throws Exception can be thrown while trying to delete a record into the JIRA_TRACKED_ISSUES table
+     */
+    public void delete(List<JIRATrackedIssue> issues) throws Exception{
+        myLogger.entering(MY_CLASS_NAME, "delete", issues);
+        write(OPERATION_DELETE, issues);
+        trackedIssueIndex.remove(issues);
+        myLogger.exiting(MY_CLASS_NAME, "delete");
+    }//end method
 
-            if(counter > 0){
-                updates = ps.executeBatch();
-                myLogger.info(logRowUpdateNumbersFromBatchStatements(updates, UPDATE));
+    /**
+     * This method will write the {@code issues} within one transaction.  When the local replica is in use the changes are written to the replica and appended to its change log, which the {@code JIRATrackerSyncEngine} pushes to the shared database in the background.  Otherwise the changes are written to the shared database.
+     *
+     * @param operation the operation, one of the OPERATION constants
+     * @param issues the issues to write
+     * @throws Exception can be thrown while trying to write the records
+     */
+    private void write(String operation, List<JIRATrackedIssue> issues) throws Exception{
+        JIRATrackerSyncEngine syncEngine = JIRATrackerSyncEngine.getInstance();
+        boolean isReplicated = syncEngine.isStarted();
+        String action = operation.toLowerCase();
+        Connection conn = null;
+        try{
+            conn = (isReplicated ? JIRAConnectionPool.getReplicaInstance() : JIRAConnectionPool.getInstance()).getConnection();
+            conn.setAutoCommit(false);
+            //the replica may already hold a pulled record of a new issue
+            applyChanges(conn, isReplicated && OPERATION_INSERT.equals(operation) ? OPERATION_UPSERT : operation, issues);
+            if(isReplicated){
+                syncEngine.appendChanges(conn, operation, issues);
             }//end if
+            conn.commit();
         }catch(SQLException e){
-            myLogger.log(Level.SEVERE, "SQLException occured while trying to update records into the JIRA_TRACKED_ISSUES table. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
-            throw new Exception("SQLException occured while trying to update records into the JIRA_TRACKED_ISSUES table.", e);
+            rollback(conn);
+            myLogger.log(Level.SEVERE, "SQLException occured while trying to " + action + " records into the JIRA_TRACKED_ISSUES table. Error is: " + e.getMessage(), e);
+            throw new Exception("SQLException occured while trying to " + action + " records into the JIRA_TRACKED_ISSUES table.", e);
         }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occured while trying to update records into the JIRA_TRACKED_ISSUES table. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
-            throw new Exception("Exception occured while trying to insert update into the JIRA_TRACKED_ISSUES table.", e);
+            rollback(conn);
+            myLogger.log(Level.SEVERE, "Exception occured while trying to " + action + " records into the JIRA_TRACKED_ISSUES table. Error is: " + e.getMessage(), e);
+            throw new Exception("Exception occured while trying to " + action + " records into the JIRA_TRACKED_ISSUES table.", e);
         }finally{
-            CreateConnection.destroyObjects(conn, ps, null);
+            CreateConnection.destroyObjects(conn, null, null);
         }// end try...catch
-        myLogger.exiting(MY_CLASS_NAME, "update");
+        if(isReplicated){
+            syncEngine.requestSync();
+        }//end if
     }//end method
 
     /**
-     * This method will delete the list of JIRA issues passed into this method within the JIRA_TRACKED_ISSUES table.
+     * This method will execute the {@code operation} for each of the {@code issues} using the {@code conn} in batches of {@code hsql.commit.interval} statements.  The caller owns the transaction.
      *
-     * @param issues the issues to delete into the JIRA_TRACKED_ISSUES table
-     * @throws Exception can be thrown while trying to delete a record into the JIRA_TRACKED_ISSUES table
+     * @param conn the connection to the shared database or the replica
+     * @param operation the operation, one of the OPERATION constants
+     * @param issues the issues
+     * @throws SQLException can be thrown while executing the statements
      */
-    public void delete(List<JIRATrackedIssue> issues) throws Exception{
-        myLogger.entering(MY_CLASS_NAME, "delete", issues);
+    void applyChanges(Connection conn, String operation, List<JIRATrackedIssue> issues) throws SQLException{
+        myLogger.entering(MY_CLASS_NAME, "applyChanges", new Object[]{operation, issues.size()});
+        String sql = getSql(operation);
+        boolean isInsert = OPERATION_INSERT.equals(operation) || OPERATION_UPSERT.equals(operation);
         PreparedStatement ps = null;
-        Connection conn = null;
         JIRATrackedIssue issue = null;
         int counter = 0;
-        int[] deletes = null;
+        int[] changes = null;
+        int commitInterval = getCommitInterval();
         try{
-            conn = CreateConnection.getHSQLConnection();
-            ps = StatementFactory.getStatement(conn, DELETE, DebugLevel.ON);
+            ps = StatementFactory.getStatement(conn, sql, DebugLevel.ON);
 
-            for(int i = 0,j = issues.size(); i < j; i++){
-                if(counter >= 50){
-                    deletes = ps.executeBatch();
-                    myLogger.info(logRowUpdateNumbersFromBatchStatements(deletes, DELETE));
+            for(int i = 0, j = issues.size(); i < j; i++){
+                if(counter >= commitInterval){
+                    changes = ps.executeBatch();
+                    myLogger.info(logRowUpdateNumbersFromBatchStatements(changes, sql));
                     counter = 0;
                 }//end if
 
                 issue = issues.get(i);
                 ps.setString(1, issue.getIssueKey());
+                if(isInsert){
+                    ps.setString(2, issue.getProjectKey());
+                    ps.setString(3, issue.getSummary());
+                    ps.setString(4, JIRAConstants.JIRA_USER_ID);
+                }//end if
                 ps.addBatch();
                 counter++;
             }//end for
 
             if(counter > 0){
-                deletes = ps.executeBatch();
-                myLogger.info(logRowUpdateNumbersFromBatchStatements(deletes, DELETE));
+                changes = ps.executeBatch();
+                myLogger.info(logRowUpdateNumbersFromBatchStatements(changes, sql));
             }//end if
-        }catch(SQLException e){
-            myLogger.log(Level.SEVERE, "SQLException occured while trying to delete records into the JIRA_TRACKED_ISSUES table. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
-            throw new Exception("SQLException occured while trying to delete records into the JIRA_TRACKED_ISSUES table.", e);
-        }catch(Exception e){
-            myLogger.log(Level.SEVERE, "Exception occured while trying to delete records into the JIRA_TRACKED_ISSUES table. ps=" + String.valueOf(ps) + " Error is: " + e.getMessage(), e);
-            throw new Exception("Exception occured while trying to insert delete into the JIRA_TRACKED_ISSUES table.", e);
         }finally{
-            CreateConnection.destroyObjects(conn, ps, null);
-        }// end try...catch
-        myLogger.exiting(MY_CLASS_NAME, "delete");
+            if(ps != null){
+                ps.close();
+            }//end if
+        }//end try...finally
+        myLogger.exiting(MY_CLASS_NAME, "applyChanges");
+    }//end method
+
+    /**
+     * This method will return the sql of the {@code operation}.
+     *
+     * @param operation the operation, one of the OPERATION constants
+     * @return the sql
+     */
+    private String getSql(String operation){
+        String sql = null;
+        if(OPERATION_INSERT.equals(operation)){
+            sql = INSERT;
+        }else if(OPERATION_UPSERT.equals(operation)){
+            sql = UPSERT;
+        }else if(OPERATION_UPDATE.equals(operation)){
+            sql = UPDATE;
+        }else if(OPERATION_DELETE.equals(operation)){
+            sql = DELETE;
+        }else{
+            throw new IllegalArgumentException("Unknown operation " + operation);
+        }//end if...else
+        return sql;
+    }//end method
+
+    /**
+     * This method will reload the tracked issue index of each of the {@code projectKeys} that is loaded.  It is called after changes of other users were pulled into the replica.
+     *
+     * @param projectKeys the keys of the projects that changed
+     */
+    void reloadTrackedIssueIndex(Collection<String> projectKeys){
+        for(String projectKey : projectKeys){
+            if(trackedIssueIndex.isLoaded(projectKey)){
+                try{
+                    getJIRAIssuesByProjectKey(projectKey);
+                }catch(Exception e){
+                    myLogger.warning("Could not reload the tracked issues of project " + projectKey + ".  Error message is: " + e.getMessage());
+                }//end try...catch
+            }//end if
+        }//end for
+    }//end method
+
+    /**
+     * This method will return the pool that is read from, the local replica once it has been synchronized with the shared database otherwise the shared database.
+     *
+     * @return the pool to read from
+     */
+    private JIRAConnectionPool getReadPool(){
+        return JIRATrackerSyncEngine.getInstance().isReplicaReady() ? JIRAConnectionPool.getReplicaInstance() : JIRAConnectionPool.getInstance();
+    }//end method
+
+    /**
+     * This method will return the index of tracked issue keys by project.  A project is only in the index after {@link #getJIRAIssuesByProjectKey(String)} has been called for it.
+     *
+     * @return trackedIssueIndex the tracked issue index
+     */
+    public JIRATrackedIssueIndex getTrackedIssueIndex() {
+        return trackedIssueIndex;
+    }//end method
+
+    /**
+     * This method will roll back the current transaction of the {@code conn} logging any exception.
+     *
+     * @param conn the connection, may be null
+     */
+    private void rollback(Connection conn) {
+        if(conn != null){
+            try{
+                conn.rollback();
+            }catch(SQLException e){
+                myLogger.log(Level.WARNING, "SQLException occured while trying to roll back the transaction.  Error is: " + e.getMessage(), e);
+            }//end try...catch
+        }//end if
+    }//end method
+
+    /**
+     * This method will return the number of statements executed in one batch read from the hsql.commit.interval property or the default value if the property is not set or invalid.
+     *
+     * @return commitInterval the number of statements per batch
+     */
+    static int getCommitInterval() {
+        int commitInterval = DEFAULT_COMMIT_INTERVAL;
+        try{
+            String property = PropertiesMgr.getInstance().getProperties().getProperty("hsql.commit.interval");
+            if(property != null && !"".equals(property.trim())){
+                commitInterval = Integer.parseInt(property.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the hsql.commit.interval property, using default value of " + DEFAULT_COMMIT_INTERVAL + ".  Error message is: " + e.getMessage());
+        }//end try...catch
+        return commitInterval > 0 ? commitInterval : DEFAULT_COMMIT_INTERVAL;
     }//end method
 
     /**
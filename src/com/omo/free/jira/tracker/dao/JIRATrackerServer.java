@@ -0,0 +1,69 @@
+package com.omo.free.jira.tracker.dao;
+
+import java.util.logging.Logger;
+
+import org.hsqldb.server.Server;
+
+/**
+ * This JIRATrackerServer class is used to run the tracker database as an HSQLDB server instead of opening the database file on the network share from every desktop.
+ *
+ * <p>The application uses the server when the {@code hsql.jdbc.url} property is set to {@code jdbc:hsqldb:hsql://<host>:<port>/jiradb}.  The server can also be started on the local machine to stand in for the shared database while testing, for example:</p>
+ *
+ * <pre>
+ * java -cp hsqldb-2.3.2.jar;JIRAShopTrackerUI.jar com.omo.free.jira.tracker.dao.JIRATrackerServer C:/temp/jiradb/JIRATrackerDB 9001
+ * </pre>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATrackerServer {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.dao.JIRATrackerServer";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    /* name of the database used within the server url */
+    public static final String DATABASE_NAME = "jiradb";
+    public static final int DEFAULT_PORT = 9001;
+
+    /**
+     * Default constructor used to create an instance of the JIRATrackerServer class.
+     */
+    private JIRATrackerServer() {    }//end constructor
+
+    /**
+     * This method will start an HSQLDB server for the tracker database file at {@code databasePath} listening on {@code port}.
+     *
+     * @param databasePath the path of the database files without extension, for example C:/temp/jiradb/JIRATrackerDB
+     * @param port the port the server listens on
+     * @return server the started server, call {@code server.stop()} to stop it
+     */
+    public static Server start(String databasePath, int port) {
+        myLogger.entering(MY_CLASS_NAME, "start", new Object[]{databasePath, port});
+
+        Server server = new Server();
+        server.setDatabaseName(0, DATABASE_NAME);
+        server.setDatabasePath(0, "file:" + databasePath);
+        server.setPort(port);
+        server.setSilent(true);
+        server.setTrace(false);
+        server.setNoSystemExit(true);
+        server.start();
+        myLogger.info("tracker database server started, url is jdbc:hsqldb:hsql://localhost:" + port + "/" + DATABASE_NAME);
+
+        myLogger.exiting(MY_CLASS_NAME, "start");
+        return server;
+    }//end method
+
+    /**
+     * This method will start the tracker database server.
+     *
+     * @param args the database path and optionally the port, 9001 by default
+     */
+    public static void main(String[] args) {
+        if(args.length < 1){
+            System.out.println("usage: JIRATrackerServer <database path> [port]");
+            return;
+        }//end if
+        start(args[0], args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT);
+    }//end method
+
+}//end class
@@ -0,0 +1,514 @@
+package com.omo.free.jira.tracker.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.junderground.jdbc.DebugLevel;
+import com.junderground.jdbc.StatementFactory;
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.model.JIRATrackedIssue;
+
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
+import gov.doc.isu.simple.fx.tools.CreateConnection;
+
+/**
+ * This JIRATrackerSyncEngine class is used to keep the local replica of the JIRA_TRACKED_ISSUES table in sync with the shared database on the network share.
+ *
+ * <p>Writes made by the {@code JIRATrackerDAO} are applied to the replica and appended to the JIRA_TRACKER_CHANGE_LOG table of the replica within the same transaction.  Every {@code hsql.sync.interval.seconds}, and soon after each write, the sync engine pushes the change log to the shared database in the order it was written and removes the pushed entries.  Each change is written with the time it was made, not the time it was pushed, and a change is skipped when the shared record was already changed after it, so pushing the same entries again after a failure changes nothing.  Every pushed record is given the next value of the JIRA_TRACKER_SYNC_SEQ sequence of the shared database in its SYNC_SEQ column.  The sync engine then pulls the records whose SYNC_SEQ is greater than the greatest one it has pulled, so a change is pulled by the order it reached the shared database and not by the clock of the user who made it.  The first pull after the application starts, and the pull after a push that skipped a change, copies every record.  Pulled records of issues that still have local changes waiting to be pushed are skipped by the merge itself, so a change written while the pull runs is never overwritten.</p>
+ *
+ * <p>Pushes and pulls that fail are logged and tried again on the next sync, the change log is kept until it has been pushed.  The replica is used for reads once it has been pulled from the shared database at least once.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATrackerSyncEngine {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.dao.JIRATrackerSyncEngine";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final JIRATrackerSyncEngine INSTANCE = new JIRATrackerSyncEngine();
+
+    /* defaults used when the hsql.sync properties are not set */
+    private static final int DEFAULT_SYNC_INTERVAL_SECONDS = 60;
+    private static final int DEFAULT_SHUTDOWN_WAIT_SECONDS = 10;
+
+    /* change log and sync state tables of the replica */
+    private static final String CREATE_CHANGE_LOG = "CREATE CACHED TABLE IF NOT EXISTS JIRA_TRACKER_CHANGE_LOG(CHANGE_ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, OPERATION VARCHAR(10), ISSUE_KEY VARCHAR(40), PROJECT_KEY VARCHAR(20), SUMMARY VARCHAR(250), CHANGE_TS TIMESTAMP(0), CHANGED_BY_USER_ID VARCHAR(30))";
+    private static final String INSERT_CHANGE_LOG = "INSERT INTO JIRA_TRACKER_CHANGE_LOG(OPERATION, ISSUE_KEY, PROJECT_KEY, SUMMARY, CHANGE_TS, CHANGED_BY_USER_ID) values (?, ?, ?, ?, CURRENT_TIMESTAMP, ?)";
+    private static final String SELECT_CHANGE_LOG = "SELECT CHANGE_ID, OPERATION, ISSUE_KEY, PROJECT_KEY, SUMMARY, CHANGE_TS, CHANGED_BY_USER_ID FROM JIRA_TRACKER_CHANGE_LOG ORDER BY CHANGE_ID";
+    private static final String DELETE_CHANGE_LOG = "DELETE FROM JIRA_TRACKER_CHANGE_LOG where CHANGE_ID <= ?";
+    private static final String CREATE_SYNC_STATE = "CREATE CACHED TABLE IF NOT EXISTS JIRA_TRACKER_SYNC_STATE(NAME VARCHAR(30) PRIMARY KEY, VALUE_TS TIMESTAMP(3))";
+    private static final String SELECT_LAST_PULL = "SELECT VALUE_TS FROM JIRA_TRACKER_SYNC_STATE where NAME = 'LAST_PULL'";
+    private static final String MERGE_LAST_PULL = "MERGE INTO JIRA_TRACKER_SYNC_STATE T USING (VALUES('LAST_PULL', CAST(? AS TIMESTAMP(3)))) AS S(NAME, VALUE_TS) ON T.NAME = S.NAME WHEN MATCHED THEN UPDATE SET T.VALUE_TS = S.VALUE_TS WHEN NOT MATCHED THEN INSERT (NAME, VALUE_TS) VALUES (S.NAME, S.VALUE_TS)";
+
+    /* push of the change log to the shared database, a change is skipped when the shared record was changed after it */
+    private static final String PUSH_UPSERT = "MERGE INTO JIRA_TRACKED_ISSUES T USING (SELECT * FROM (VALUES(CAST(? AS VARCHAR(40)), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(250)), CAST(? AS VARCHAR(30)), CAST(? AS TIMESTAMP(0))))"
+        + " AS V(ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_BY_USER_ID, CHANGE_TS) WHERE NOT EXISTS (SELECT 1 FROM JIRA_TRACKED_ISSUES X where X.ISSUE_KEY = V.ISSUE_KEY AND COALESCE(X.LAST_SENT_TS, X.SENT_TS) > V.CHANGE_TS)) AS S ON T.ISSUE_KEY = S.ISSUE_KEY"
+        + " WHEN MATCHED THEN UPDATE SET T.SUMMARY = S.SUMMARY, T.LAST_SENT_TS = S.CHANGE_TS, T.DELETE_IND = 'N', T.SYNC_SEQ = NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ"
+        + " WHEN NOT MATCHED THEN INSERT (ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, SENT_BY_USER_ID, DELETE_IND, SYNC_SEQ) VALUES (S.ISSUE_KEY, S.PROJECT_KEY, S.SUMMARY, S.CHANGE_TS, S.SENT_BY_USER_ID, 'N', NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ)";
+    private static final String PUSH_UPDATE = "UPDATE JIRA_TRACKED_ISSUES SET LAST_SENT_TS = ?, SYNC_SEQ = NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ WHERE ISSUE_KEY = ? AND COALESCE(LAST_SENT_TS, SENT_TS, CAST(? AS TIMESTAMP(0))) <= ?";
+    private static final String PUSH_DELETE = "UPDATE JIRA_TRACKED_ISSUES SET DELETE_IND = 'Y', LAST_SENT_TS = ?, SYNC_SEQ = NEXT VALUE FOR JIRA_TRACKER_SYNC_SEQ WHERE ISSUE_KEY = ? AND COALESCE(LAST_SENT_TS, SENT_TS, CAST(? AS TIMESTAMP(0))) <= ?";
+
+    /* pull from the shared database into the replica, by the sequence value each record was given when it was last written */
+    private static final String SELECT_SHARED = "SELECT ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, LAST_SENT_TS, SENT_BY_USER_ID, DELETE_IND, SYNC_SEQ FROM JIRA_TRACKED_ISSUES";
+    private static final String SELECT_SHARED_CHANGED = SELECT_SHARED + " where SYNC_SEQ > ?";
+    private static final String MERGE_REPLICA = "MERGE INTO JIRA_TRACKED_ISSUES T USING (SELECT * FROM (VALUES(CAST(? AS VARCHAR(40)), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(250)), CAST(? AS TIMESTAMP(0)), CAST(? AS TIMESTAMP(0)), CAST(? AS VARCHAR(30)), CAST(? AS CHAR(1))))"
+        + " AS V(ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, LAST_SENT_TS, SENT_BY_USER_ID, DELETE_IND) WHERE NOT EXISTS (SELECT 1 FROM JIRA_TRACKER_CHANGE_LOG C where C.ISSUE_KEY = V.ISSUE_KEY)) AS S ON T.ISSUE_KEY = S.ISSUE_KEY"
+        + " WHEN MATCHED THEN UPDATE SET T.PROJECT_KEY = S.PROJECT_KEY, T.SUMMARY = S.SUMMARY, T.SENT_TS = S.SENT_TS, T.LAST_SENT_TS = S.LAST_SENT_TS, T.SENT_BY_USER_ID = S.SENT_BY_USER_ID, T.DELETE_IND = S.DELETE_IND"
+        + " WHEN NOT MATCHED THEN INSERT (ISSUE_KEY, PROJECT_KEY, SUMMARY, SENT_TS, LAST_SENT_TS, SENT_BY_USER_ID, DELETE_IND) VALUES (S.ISSUE_KEY, S.PROJECT_KEY, S.SUMMARY, S.SENT_TS, S.LAST_SENT_TS, S.SENT_BY_USER_ID, S.DELETE_IND)";
+
+    private JIRATrackerDAO dao;
+    private ScheduledExecutorService syncExecutor;
+    private volatile boolean isStarted;
+    private volatile boolean isReplicaReady;
+    private boolean isFullPullDone;
+    private long lastPulledSeq;
+    private final AtomicBoolean isSyncRequested = new AtomicBoolean();
+
+    /**
+     * Default constructor used to create an instance of the JIRATrackerSyncEngine class.
+     */
+    private JIRATrackerSyncEngine() {    }//end constructor
+
+    /**
+     * This method will return the single instance of the JIRATrackerSyncEngine class.
+     *
+     * @return INSTANCE the JIRATrackerSyncEngine class
+     */
+    public static JIRATrackerSyncEngine getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will open the local replica, create its tables and schedule the synchronization with the shared database.  Nothing is started when the hsql.replica.enabled property is false.  If the replica cannot be opened the {@code dao} keeps using the shared database directly.
+     *
+     * @param dao the DAO whose tracked issue index is reloaded after a pull
+     */
+    public synchronized void start(JIRATrackerDAO dao) {
+        myLogger.entering(MY_CLASS_NAME, "start");
+
+        if(isStarted){
+            myLogger.info("sync engine is already started.");
+        }else if(!"true".equalsIgnoreCase(String.valueOf(PropertiesMgr.getInstance().getProperties().getProperty("hsql.replica.enabled", "true")).trim())){
+            myLogger.info("local tracker replica is disabled, the shared database is used directly.");
+        }else{
+            Connection conn = null;
+            PreparedStatement ps = null;
+            ResultSet rs = null;
+            try{
+                dao.create(JIRAConnectionPool.getReplicaInstance());
+                conn = JIRAConnectionPool.getReplicaInstance().getConnection();
+                ps = StatementFactory.getStatement(conn, CREATE_CHANGE_LOG, DebugLevel.ON);
+                ps.execute();
+                ps.close();
+                ps = StatementFactory.getStatement(conn, CREATE_SYNC_STATE, DebugLevel.ON);
+                ps.execute();
+                ps.close();
+                ps = StatementFactory.getStatement(conn, SELECT_LAST_PULL, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                rs = ps.executeQuery();
+                isReplicaReady = rs.next() && rs.getTimestamp(1) != null;
+
+                this.dao = dao;
+                long syncIntervalSeconds = getIntProperty("hsql.sync.interval.seconds", DEFAULT_SYNC_INTERVAL_SECONDS);
+                syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "jira-tracker-sync");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                syncExecutor.scheduleWithFixedDelay(this::sync, 0, syncIntervalSeconds, TimeUnit.SECONDS);
+                isStarted = true;
+                myLogger.info("local tracker replica opened at " + JIRAConnectionPool.getReplicaUrl() + ", replica ready=" + isReplicaReady + ", sync interval is " + syncIntervalSeconds + " seconds.");
+            }catch(Exception e){
+                myLogger.log(Level.SEVERE, "Exception occured while trying to open the local tracker replica, the shared database is used directly. Error is: " + e.getMessage(), e);
+            }finally{
+                CreateConnection.destroyObjects(conn, ps, rs);
+            }// end try...catch
+        }//end if...else
+
+        myLogger.exiting(MY_CLASS_NAME, "start", isStarted);
+    }//end method
+
+    /**
+     * This method will return true if the local replica is open and receives the writes of the {@code JIRATrackerDAO}.
+     *
+     * @return true if started
+     */
+    public boolean isStarted() {
+        return isStarted;
+    }//end method
+
+    /**
+     * This method will return true if the local replica has been pulled from the shared database at least once and can be read from.
+     *
+     * @return true if the replica is ready
+     */
+    public boolean isReplicaReady() {
+        return isStarted && isReplicaReady;
+    }//end method
+
+    /**
+     * This method will append the {@code issues} written by the {@code operation} to the change log using the transaction of the {@code conn}.
+     *
+     * @param conn the replica connection of the write
+     * @param operation the operation, one of the JIRATrackerDAO OPERATION constants
+     * @param issues the issues written
+     * @throws SQLException can be thrown while inserting into the change log
+     */
+    void appendChanges(Connection conn, String operation, List<JIRATrackedIssue> issues) throws SQLException {
+        PreparedStatement ps = null;
+        try{
+            ps = StatementFactory.getStatement(conn, INSERT_CHANGE_LOG, DebugLevel.ON);
+            for(int i = 0, j = issues.size(); i < j; i++){
+                JIRATrackedIssue issue = issues.get(i);
+                ps.setString(1, operation);
+                ps.setString(2, issue.getIssueKey());
+                ps.setString(3, issue.getProjectKey());
+                ps.setString(4, issue.getSummary());
+                ps.setString(5, JIRAConstants.JIRA_USER_ID);
+                ps.addBatch();
+            }//end for
+            ps.executeBatch();
+        }finally{
+            if(ps != null){
+                ps.close();
+            }//end if
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will ask the sync engine to synchronize soon.  Requests made while a synchronization is waiting to run are combined.
+     */
+    public void requestSync() {
+        if(isStarted && isSyncRequested.compareAndSet(false, true)){
+            try{
+                syncExecutor.execute(this::sync);
+            }catch(Exception e){
+                isSyncRequested.set(false);
+                myLogger.warning("Could not request a sync of the tracker replica.  Error message is: " + e.getMessage());
+            }//end try...catch
+        }//end if
+    }//end method
+
+    /**
+     * This method will push the change log to the shared database and then pull the changes of other users into the replica.
+     */
+    private void sync() {
+        myLogger.entering(MY_CLASS_NAME, "sync");
+        isSyncRequested.set(false);
+        try{
+            push();
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Exception occured while trying to push the tracker change log to the shared database, it will be tried again on the next sync. Error is: " + e.getMessage(), e);
+        }//end try...catch
+        try{
+            pull();
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Exception occured while trying to pull the tracked issues from the shared database, it will be tried again on the next sync. Error is: " + e.getMessage(), e);
+        }//end try...catch
+        myLogger.exiting(MY_CLASS_NAME, "sync");
+    }//end method
+
+    /**
+     * This method will apply the entries of the change log to the shared database within one transaction and remove them from the change log.  Consecutive entries of the same operation are applied as one batch, each with the time it was made.  New issues are merged and entries older than the shared record are skipped, so that an entry pushed twice does not fail or undo a later change.  When an entry is skipped the next pull copies every record, as the later shared record may have been skipped by a pull while the entry was waiting.
+     *
+     * @throws Exception can be thrown while reading the change log or writing to the shared database
+     */
+    private void push() throws Exception {
+        Connection replicaConn = null;
+        Connection sharedConn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try{
+            replicaConn = JIRAConnectionPool.getReplicaInstance().getConnection();
+            ps = StatementFactory.getStatement(replicaConn, SELECT_CHANGE_LOG, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            rs = ps.executeQuery();
+            List<String> operations = new ArrayList<>();
+            List<List<JIRATrackedIssue>> groups = new ArrayList<>();
+            long lastChangeId = -1;
+            int changeCount = 0;
+            while(rs.next()){
+                lastChangeId = rs.getLong(1);
+                String operation = rs.getString(2);
+                if(JIRATrackerDAO.OPERATION_INSERT.equals(operation)){
+                    operation = JIRATrackerDAO.OPERATION_UPSERT;
+                }//end if
+                if(operations.isEmpty() || !operation.equals(operations.get(operations.size() - 1))){
+                    operations.add(operation);
+                    groups.add(new ArrayList<>());
+                }//end if
+                JIRATrackedIssue change = new JIRATrackedIssue(rs.getString(4), rs.getString(3), rs.getString(5));
+                change.setLastDateTimeSent(rs.getTimestamp(6));
+                change.setUserId(rs.getString(7));
+                groups.get(groups.size() - 1).add(change);
+                changeCount++;
+            }//end while
+            rs.close();
+            rs = null;
+            ps.close();
+            ps = null;
+
+            if(changeCount > 0){
+                long start = System.currentTimeMillis();
+                sharedConn = JIRAConnectionPool.getInstance().getConnection();
+                sharedConn.setAutoCommit(false);
+                int skipped = 0;
+                try{
+                    for(int i = 0, j = groups.size(); i < j; i++){
+                        skipped += pushChanges(sharedConn, operations.get(i), groups.get(i));
+                    }//end for
+                    sharedConn.commit();
+                }catch(SQLException e){
+                    sharedConn.rollback();
+                    throw e;
+                }//end try...catch
+
+                ps = StatementFactory.getStatement(replicaConn, DELETE_CHANGE_LOG, DebugLevel.ON);
+                ps.setLong(1, lastChangeId);
+                ps.executeUpdate();
+                if(skipped > 0){
+                    isFullPullDone = false;
+                }//end if
+                myLogger.info("pushed " + changeCount + " tracker changes to the shared database in " + (System.currentTimeMillis() - start) + " ms, " + skipped + " were older than the shared records.");
+            }//end if
+        }finally{
+            CreateConnection.destroyObjects(sharedConn, null, null);
+            CreateConnection.destroyObjects(replicaConn, ps, rs);
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will write the {@code changes} of the {@code operation} to the shared database using the {@code sharedConn} in batches of {@code hsql.commit.interval} statements.  The caller owns the transaction.
+     *
+     * @param sharedConn the connection to the shared database
+     * @param operation the operation, one of the JIRATrackerDAO OPERATION constants other than insert
+     * @param changes the changes, the time of each change is held as its last date time sent
+     * @return skipped the number of changes that were older than the shared record
+     * @throws SQLException can be thrown while executing the statements
+     */
+    private int pushChanges(Connection sharedConn, String operation, List<JIRATrackedIssue> changes) throws SQLException {
+        boolean isUpsert = JIRATrackerDAO.OPERATION_UPSERT.equals(operation);
+        String sql = isUpsert ? PUSH_UPSERT : JIRATrackerDAO.OPERATION_DELETE.equals(operation) ? PUSH_DELETE : PUSH_UPDATE;
+        int commitInterval = JIRATrackerDAO.getCommitInterval();
+        int skipped = 0;
+        int counter = 0;
+        PreparedStatement ps = null;
+        try{
+            ps = StatementFactory.getStatement(sharedConn, sql, DebugLevel.ON);
+            for(int i = 0, j = changes.size(); i < j; i++){
+                JIRATrackedIssue change = changes.get(i);
+                if(isUpsert){
+                    ps.setString(1, change.getIssueKey());
+                    ps.setString(2, change.getProjectKey());
+                    ps.setString(3, change.getSummary());
+                    ps.setString(4, change.getUserId());
+                    ps.setTimestamp(5, change.getLastDateTimeSent());
+                }else{
+                    ps.setTimestamp(1, change.getLastDateTimeSent());
+                    ps.setString(2, change.getIssueKey());
+                    ps.setTimestamp(3, change.getLastDateTimeSent());
+                    ps.setTimestamp(4, change.getLastDateTimeSent());
+                }//end if...else
+                ps.addBatch();
+                if(++counter >= commitInterval || i == j - 1){
+                    for(int count : ps.executeBatch()){
+                        skipped += count == 0 ? 1 : 0;
+                    }//end for
+                    counter = 0;
+                }//end if
+            }//end for
+        }finally{
+            if(ps != null){
+                ps.close();
+            }//end if
+        }//end try...finally
+        return skipped;
+    }//end method
+
+    /**
+     * This method will merge the records of the shared database whose SYNC_SEQ is greater than the greatest one pulled before into the replica.  The first pull after the application starts copies every record.  Records of issues with changes waiting to be pushed are skipped.
+     *
+     * @throws Exception can be thrown while reading the shared database or writing to the replica
+     */
+    private void pull() throws Exception {
+        Connection replicaConn = null;
+        Connection sharedConn = null;
+        PreparedStatement ps = null;
+        PreparedStatement replicaPs = null;
+        ResultSet rs = null;
+        try{
+            long start = System.currentTimeMillis();
+            replicaConn = JIRAConnectionPool.getReplicaInstance().getConnection();
+            Timestamp lastPull = null;
+            ps = StatementFactory.getStatement(replicaConn, SELECT_LAST_PULL, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            rs = ps.executeQuery();
+            if(rs.next()){
+                lastPull = rs.getTimestamp(1);
+            }//end if
+            rs.close();
+            rs = null;
+            ps.close();
+            ps = null;
+
+            sharedConn = JIRAConnectionPool.getInstance().getConnection();
+            boolean isFullPull = lastPull == null || !isFullPullDone;
+            if(isFullPull){
+                ps = StatementFactory.getStatement(sharedConn, SELECT_SHARED, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            }else{
+                ps = StatementFactory.getStatement(sharedConn, SELECT_SHARED_CHANGED, DebugLevel.ON, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setLong(1, lastPulledSeq);
+            }//end if...else
+            rs = ps.executeQuery();
+
+            replicaConn.setAutoCommit(false);
+            replicaPs = StatementFactory.getStatement(replicaConn, MERGE_REPLICA, DebugLevel.ON);
+            Set<String> changedProjects = new HashSet<>();
+            int commitInterval = JIRATrackerDAO.getCommitInterval();
+            int counter = 0;
+            int pulled = 0;
+            long maxSeq = isFullPull ? 0L : lastPulledSeq;
+            while(rs.next()){
+                replicaPs.setString(1, rs.getString(1));
+                replicaPs.setString(2, rs.getString(2));
+                replicaPs.setString(3, rs.getString(3));
+                replicaPs.setTimestamp(4, rs.getTimestamp(4));
+                replicaPs.setTimestamp(5, rs.getTimestamp(5));
+                replicaPs.setString(6, rs.getString(6));
+                replicaPs.setString(7, rs.getString(7));
+                replicaPs.addBatch();
+                changedProjects.add(rs.getString(2));
+                maxSeq = Math.max(maxSeq, rs.getLong(8));
+                if(++counter >= commitInterval){
+                    pulled += countMerged(replicaPs.executeBatch());
+                    counter = 0;
+                }//end if
+            }//end while
+            if(counter > 0){
+                pulled += countMerged(replicaPs.executeBatch());
+            }//end if
+            replicaPs.close();
+
+            replicaPs = StatementFactory.getStatement(replicaConn, MERGE_LAST_PULL, DebugLevel.ON);
+            replicaPs.setTimestamp(1, new Timestamp(start));
+            replicaPs.executeUpdate();
+            replicaConn.commit();
+            isReplicaReady = true;
+            isFullPullDone = true;
+            lastPulledSeq = maxSeq;
+            myLogger.info("pulled " + pulled + " tracked issues of " + changedProjects.size() + " projects from the shared database in " + (System.currentTimeMillis() - start) + " ms, last pull was " + lastPull + ", greatest sync sequence pulled is " + lastPulledSeq);
+
+            dao.reloadTrackedIssueIndex(changedProjects);
+        }catch(Exception e){
+            if(replicaConn != null){
+                replicaConn.rollback();
+            }//end if
+            throw e;
+        }finally{
+            if(replicaPs != null){
+                replicaPs.close();
+            }//end if
+            CreateConnection.destroyObjects(sharedConn, ps, rs);
+            CreateConnection.destroyObjects(replicaConn, null, null);
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will return the number of records merged by a batch, the records of issues with changes waiting to be pushed are not merged.
+     *
+     * @param counts the update counts of the batch
+     * @return merged the number of records merged
+     */
+    private int countMerged(int[] counts) {
+        int merged = 0;
+        for(int count : counts){
+            merged += count == 0 ? 0 : 1;
+        }//end for
+        return merged;
+    }//end method
+
+    /**
+     * This method will push the remaining changes, waiting up to {@code hsql.sync.shutdown.wait.seconds}, then shut down the replica database and its pool.  Changes that could not be pushed stay within the change log and are pushed the next time the application starts.
+     */
+    public void shutdown() {
+        myLogger.entering(MY_CLASS_NAME, "shutdown");
+
+        synchronized(this){
+            if(!isStarted){
+                return;
+            }//end if
+            isStarted = false;
+        }//end synchronized
+        try{
+            syncExecutor.execute(() -> {
+                try{
+                    push();
+                }catch(Exception e){
+                    myLogger.warning("Could not push the tracker change log before shutting down, it will be pushed the next time.  Error message is: " + e.getMessage());
+                }//end try...catch
+            });
+            syncExecutor.shutdown();
+            if(!syncExecutor.awaitTermination(getIntProperty("hsql.sync.shutdown.wait.seconds", DEFAULT_SHUTDOWN_WAIT_SECONDS), TimeUnit.SECONDS)){
+                myLogger.warning("tracker sync did not finish in time, remaining changes will be pushed the next time.");
+                syncExecutor.shutdownNow();
+            }//end if
+        }catch(InterruptedException e){
+            syncExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }//end try...catch
+
+        Connection conn = null;
+        Statement statement = null;
+        try{
+            conn = JIRAConnectionPool.getReplicaInstance().getConnection();
+            statement = conn.createStatement();
+            statement.execute("SHUTDOWN");
+        }catch(SQLException e){
+            myLogger.log(Level.WARNING, "SQLException occured while trying to shut down the local tracker replica. Error is: " + e.getMessage(), e);
+        }finally{
+            try{
+                if(statement != null){
+                    statement.close();
+                }//end if
+            }catch(SQLException e){
+                myLogger.warning("Could not close the replica shutdown statement.  Error message is: " + e.getMessage());
+            }//end try...catch
+            CreateConnection.destroyObjects(conn, null, null);
+        }//end try...finally
+        JIRAConnectionPool.getReplicaInstance().shutdown();
+
+        myLogger.exiting(MY_CLASS_NAME, "shutdown");
+    }//end method
+
+    /**
+     * This method will return the int value of the property named {@code name} or the {@code defaultValue} if the property is not set or invalid.
+     *
+     * @param name the property name
+     * @param defaultValue the default value
+     * @return the property value
+     */
+    static int getIntProperty(String name, int defaultValue) {
+        int value = defaultValue;
+        try{
+            String property = PropertiesMgr.getInstance().getProperties().getProperty(name);
+            if(property != null && !"".equals(property.trim())){
+                value = Integer.parseInt(property.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the " + name + " property, using default value of " + defaultValue + ".  Error message is: " + e.getMessage());
+        }//end try...catch
+        return value > 0 ? value : defaultValue;
+    }//end method
+
+}//end class
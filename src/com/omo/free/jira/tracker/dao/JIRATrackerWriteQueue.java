@@ -0,0 +1,449 @@
+package com.omo.free.jira.tracker.dao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.model.JIRATrackedIssue;
+import com.omo.free.jira.tracker.model.JIRATrackedIssueIndex;
+
+/**
+ * This JIRATrackerWriteQueue class is used to write tracked issues to the {@code JIRATrackerDAO} in the background so that sending issues does not wait on the tracker database.
+ *
+ * <p>Each change is appended to a journal file within the JIRA resources directory before it is queued, and the tracked issue index is updated right away.  A background thread waits {@code hsql.write.behind.delay.millis} for more changes, coalesces the queued changes by issue key and writes them with one DAO call per operation.  The journal is rewritten with the changes that are still queued after each write, and changes left in the journal when the application stops are written the next time it starts.  Failed writes are retried with a delay that doubles up to {@code hsql.write.behind.max.retry.seconds}.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATrackerWriteQueue {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.dao.JIRATrackerWriteQueue";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final JIRATrackerWriteQueue INSTANCE = new JIRATrackerWriteQueue();
+
+    private static final String JOURNAL_FILE_NAME = "tracker-write-queue.journal";
+
+    /* defaults used when the hsql.write.behind properties are not set */
+    private static final int DEFAULT_DELAY_MILLIS = 500;
+    private static final int DEFAULT_MAX_RETRY_SECONDS = 60;
+    private static final int DEFAULT_SHUTDOWN_WAIT_SECONDS = 10;
+
+    /* issue key to the latest queued change of the issue, in the order the issues were first queued */
+    private final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    private JIRATrackerDAO dao;
+    private ScheduledExecutorService writeExecutor;
+    private volatile boolean isStarted;
+    private boolean isFlushScheduled;
+    private long delayMillis;
+    private long maxRetryMillis;
+    private long retryMillis;
+
+    /* metrics */
+    private long writtenCount;
+    private long coalescedCount;
+    private long failureCount;
+    private long lastWriteMillis;
+
+    /**
+     * Default constructor used to create an instance of the JIRATrackerWriteQueue class.
+     */
+    private JIRATrackerWriteQueue() {    }//end constructor
+
+    /**
+     * This method will return the single instance of the JIRATrackerWriteQueue class.
+     *
+     * @return INSTANCE the JIRATrackerWriteQueue class
+     */
+    public static JIRATrackerWriteQueue getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will start the background thread and queue the changes left in the journal by the last run of the application.
+     *
+     * @param dao the DAO the changes are written to
+     */
+    public synchronized void start(JIRATrackerDAO dao) {
+        myLogger.entering(MY_CLASS_NAME, "start");
+
+        if(isStarted){
+            myLogger.info("write queue is already started.");
+        }else{
+            this.dao = dao;
+            this.delayMillis = JIRATrackerSyncEngine.getIntProperty("hsql.write.behind.delay.millis", DEFAULT_DELAY_MILLIS);
+            this.maxRetryMillis = TimeUnit.SECONDS.toMillis(JIRATrackerSyncEngine.getIntProperty("hsql.write.behind.max.retry.seconds", DEFAULT_MAX_RETRY_SECONDS));
+            this.retryMillis = delayMillis;
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "jira-tracker-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);//shutdown writes the queue itself instead of waiting on a retry
+            writeExecutor = executor;
+            replayJournal();
+            isStarted = true;
+            if(!pending.isEmpty()){
+                myLogger.info(pending.size() + " tracked issue changes left in the journal will be written.");
+                scheduleFlush(0);
+            }//end if
+        }//end if...else
+
+        myLogger.exiting(MY_CLASS_NAME, "start");
+    }//end method
+
+    /**
+     * This method will return true if the write queue has been started.
+     *
+     * @return true if started
+     */
+    public boolean isStarted() {
+        return isStarted;
+    }//end method
+
+    /**
+     * This method will journal the change of the {@code issues} and queue it to be written in the background.  The tracked issue index is updated before this method returns.  Inserts are queued as upserts so that writing them again after a failure does not fail on the existing record.
+     *
+     * @param operation the operation, one of the {@code JIRATrackerDAO} OPERATION constants
+     * @param issues the issues that changed
+     * @throws Exception can be thrown when the write queue is not started or the journal cannot be written, the changes are not queued
+     */
+    public void enqueue(String operation, List<JIRATrackedIssue> issues) throws Exception{
+        myLogger.entering(MY_CLASS_NAME, "enqueue", new Object[]{operation, issues.size()});
+
+        String queuedOperation = JIRATrackerDAO.OPERATION_INSERT.equals(operation) ? JIRATrackerDAO.OPERATION_UPSERT : operation;
+        synchronized(this){
+            if(!isStarted){
+                throw new IllegalStateException("The tracker write queue is not started.");
+            }//end if
+            long now = System.currentTimeMillis();
+            StringBuilder lines = new StringBuilder();
+            for(int i = 0, j = issues.size(); i < j; i++){
+                lines.append(toJournalLine(new PendingWrite(queuedOperation, issues.get(i), now)));
+            }//end for
+            try{
+                Files.write(getJournalFile(), lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+            }catch(IOException e){
+                myLogger.log(Level.SEVERE, "IOException occured while trying to journal " + issues.size() + " tracked issue changes to " + getJournalFile() + ". Error is: " + e.getMessage(), e);
+                throw new Exception("IOException occured while trying to journal the tracked issue changes.", e);
+            }//end try...catch
+            for(int i = 0, j = issues.size(); i < j; i++){
+                queue(new PendingWrite(queuedOperation, issues.get(i), now));
+            }//end for
+            scheduleFlush(delayMillis);
+        }//end synchronized
+
+        if(JIRATrackerDAO.OPERATION_DELETE.equals(queuedOperation)){
+            dao.getTrackedIssueIndex().remove(issues);
+        }else{
+            dao.getTrackedIssueIndex().add(issues);
+        }//end if...else
+
+        myLogger.exiting(MY_CLASS_NAME, "enqueue");
+    }//end method
+
+    /**
+     * This method will apply the queued changes to the {@code index}.  It is called after the index of a project was reloaded from the database, which does not contain the queued changes yet.
+     *
+     * @param index the tracked issue index
+     */
+    synchronized void applyPending(JIRATrackedIssueIndex index) {
+        List<JIRATrackedIssue> added = new ArrayList<>();
+        List<JIRATrackedIssue> removed = new ArrayList<>();
+        for(PendingWrite write : pending.values()){
+            (JIRATrackerDAO.OPERATION_DELETE.equals(write.operation) ? removed : added).add(write.issue);
+        }//end for
+        index.add(added);
+        index.remove(removed);
+    }//end method
+
+    /**
+     * This method will return the number of issues with changes waiting to be written.
+     *
+     * @return the queue depth
+     */
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }//end method
+
+    /**
+     * This method will return the number of milliseconds the oldest queued change has been waiting to be written, or 0 if the queue is empty.
+     *
+     * @return the lag in milliseconds
+     */
+    public synchronized long getLagMillis() {
+        long oldest = Long.MAX_VALUE;
+        for(PendingWrite write : pending.values()){
+            oldest = Math.min(oldest, write.queuedMillis);
+        }//end for
+        return pending.isEmpty() ? 0 : System.currentTimeMillis() - oldest;
+    }//end method
+
+    /**
+     * This method will return the statistics of the write queue.
+     *
+     * @return the statistics
+     */
+    public synchronized String getStatistics() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("queue depth=").append(pending.size());
+        builder.append(", lag millis=").append(getLagMillis());
+        builder.append(", written=").append(writtenCount);
+        builder.append(", coalesced=").append(coalescedCount);
+        builder.append(", failures=").append(failureCount);
+        builder.append(", last write millis=").append(lastWriteMillis);
+        return builder.toString();
+    }//end method
+
+    /**
+     * This method will stop the background thread after one last attempt to write the queued changes.  Changes that could not be written stay in the journal.
+     */
+    public void shutdown() {
+        myLogger.entering(MY_CLASS_NAME, "shutdown");
+
+        synchronized(this){
+            if(!isStarted){
+                return;
+            }//end if
+            isStarted = false;
+        }//end synchronized
+        try{
+            writeExecutor.shutdown();
+            if(!writeExecutor.awaitTermination(JIRATrackerSyncEngine.getIntProperty("hsql.sync.shutdown.wait.seconds", DEFAULT_SHUTDOWN_WAIT_SECONDS), TimeUnit.SECONDS)){
+                myLogger.warning("tracker write queue did not finish in time, remaining changes will be written the next time.");
+                writeExecutor.shutdownNow();
+            }//end if
+        }catch(InterruptedException e){
+            writeExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }//end try...catch
+        if(getQueueDepth() > 0){
+            flush();
+        }//end if
+        myLogger.info("write queue statistics: " + getStatistics());
+
+        myLogger.exiting(MY_CLASS_NAME, "shutdown");
+    }//end method
+
+    /**
+     * This method will write the queued changes to the DAO, grouped by operation in the order the issues were queued, and rewrite the journal with the changes that are still queued.  When the write fails it is retried later.
+     *
+     * @return true if the queued changes were written
+     */
+    boolean flush() {
+        myLogger.entering(MY_CLASS_NAME, "flush");
+
+        List<PendingWrite> writes;
+        synchronized(this){
+            isFlushScheduled = false;
+            writes = new ArrayList<>(pending.values());
+        }//end synchronized
+
+        boolean isWritten = true;
+        long start = System.currentTimeMillis();
+        int index = 0;
+        int writtenIndex = 0;
+        try{
+            while(index < writes.size()){
+                String operation = writes.get(index).operation;
+                List<JIRATrackedIssue> issues = new ArrayList<>();
+                for(; index < writes.size() && operation.equals(writes.get(index).operation); index++){
+                    issues.add(writes.get(index).issue);
+                }//end for
+                if(JIRATrackerDAO.OPERATION_UPSERT.equals(operation)){
+                    dao.upsert(issues);
+                }else if(JIRATrackerDAO.OPERATION_UPDATE.equals(operation)){
+                    dao.update(issues);
+                }else{
+                    dao.delete(issues);
+                }//end if...else
+                writtenIndex = index;
+            }//end while
+        }catch(Exception e){
+            isWritten = false;
+            myLogger.log(Level.WARNING, "Exception occured while trying to write " + writes.size() + " queued tracked issue changes, they will be written again. Error is: " + e.getMessage(), e);
+        }//end try...catch
+
+        synchronized(this){
+            //remove the changes that were written unless they changed again while writing
+            for(int i = 0; i < writtenIndex; i++){
+                pending.remove(writes.get(i).issue.getIssueKey(), writes.get(i));
+            }//end for
+            if(isWritten){
+                writtenCount += writes.size();
+                lastWriteMillis = System.currentTimeMillis() - start;
+                retryMillis = delayMillis;
+            }else{
+                failureCount++;
+                retryMillis = Math.min(maxRetryMillis, Math.max(1, retryMillis * 2));
+            }//end if...else
+            rewriteJournal();
+            if(!pending.isEmpty()){
+                scheduleFlush(isWritten ? delayMillis : retryMillis);
+            }//end if
+        }//end synchronized
+
+        myLogger.exiting(MY_CLASS_NAME, "flush", isWritten);
+        return isWritten;
+    }//end method
+
+    /**
+     * This method will queue the {@code write}, coalescing it with the change already queued for the same issue.  An update of an issue that is queued to be upserted or deleted does not change the queued operation, any other change replaces it.
+     *
+     * @param write the change to queue
+     */
+    private void queue(PendingWrite write) {
+        String issueKey = write.issue.getIssueKey();
+        PendingWrite queued = pending.get(issueKey);
+        if(queued == null){
+            pending.put(issueKey, write);
+        }else{
+            coalescedCount++;
+            boolean isUpdate = JIRATrackerDAO.OPERATION_UPDATE.equals(write.operation);
+            String operation = isUpdate && !JIRATrackerDAO.OPERATION_UPDATE.equals(queued.operation) ? queued.operation : write.operation;
+            pending.put(issueKey, new PendingWrite(operation, write.issue, queued.queuedMillis));
+        }//end if...else
+    }//end method
+
+    /**
+     * This method will schedule the queued changes to be written after {@code delay} milliseconds unless a write is already scheduled.
+     *
+     * @param delay the delay in milliseconds
+     */
+    private void scheduleFlush(long delay) {
+        if(isStarted && !isFlushScheduled){
+            isFlushScheduled = true;
+            writeExecutor.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        }//end if
+    }//end method
+
+    /**
+     * This method will read the journal left by the last run of the application into the queue.  Lines that cannot be read, such as a line cut short when the application stopped, are skipped.
+     */
+    private void replayJournal() {
+        Path journalFile = getJournalFile();
+        if(Files.exists(journalFile)){
+            try(BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)){
+                String line = null;
+                while((line = reader.readLine()) != null){
+                    PendingWrite write = fromJournalLine(line);
+                    if(write == null){
+                        myLogger.warning("skipping unreadable line of the tracker write queue journal: " + line);
+                    }else{
+                        queue(write);
+                    }//end if...else
+                }//end while
+            }catch(Exception e){
+                myLogger.log(Level.SEVERE, "Exception occured while trying to read the tracker write queue journal " + journalFile + ". Error is: " + e.getMessage(), e);
+            }//end try...catch
+        }//end if
+    }//end method
+
+    /**
+     * This method will replace the journal with the changes that are still queued.  The journal is written to a temporary file first and then moved into place.
+     */
+    private void rewriteJournal() {
+        Path journalFile = getJournalFile();
+        try{
+            if(pending.isEmpty()){
+                Files.deleteIfExists(journalFile);
+            }else{
+                StringBuilder lines = new StringBuilder();
+                for(PendingWrite write : pending.values()){
+                    lines.append(toJournalLine(write));
+                }//end for
+                Path tempFile = journalFile.resolveSibling(JOURNAL_FILE_NAME + ".tmp");
+                Files.write(tempFile, lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+                Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }//end if...else
+        }catch(IOException e){
+            myLogger.log(Level.WARNING, "IOException occured while trying to rewrite the tracker write queue journal " + journalFile + ", written changes may be written again. Error is: " + e.getMessage(), e);
+        }//end try...catch
+    }//end method
+
+    /**
+     * This method will return the journal line of the {@code write}.  The fields are URL encoded and separated by tabs, a null field is written as an empty field.
+     *
+     * @param write the queued change
+     * @return the journal line
+     * @throws UnsupportedEncodingException never, UTF-8 is always supported
+     */
+    private String toJournalLine(PendingWrite write) throws UnsupportedEncodingException {
+        JIRATrackedIssue issue = write.issue;
+        StringBuilder line = new StringBuilder();
+        line.append(write.queuedMillis).append('\t').append(write.operation);
+        line.append('\t').append(issue.getProjectKey() == null ? "" : URLEncoder.encode(issue.getProjectKey(), "UTF-8"));
+        line.append('\t').append(URLEncoder.encode(issue.getIssueKey(), "UTF-8"));
+        line.append('\t').append(issue.getSummary() == null ? "" : URLEncoder.encode(issue.getSummary(), "UTF-8"));
+        return line.append(System.lineSeparator()).toString();
+    }//end method
+
+    /**
+     * This method will return the queued change of the journal {@code line}, or null if the line cannot be read.
+     *
+     * @param line the journal line
+     * @return the queued change or null
+     */
+    private PendingWrite fromJournalLine(String line) {
+        PendingWrite write = null;
+        String[] fields = line.split("\t", -1);
+        try{
+            if(fields.length == 5){
+                JIRATrackedIssue issue = new JIRATrackedIssue(fields[2].isEmpty() ? null : URLDecoder.decode(fields[2], "UTF-8"), URLDecoder.decode(fields[3], "UTF-8"), fields[4].isEmpty() ? null : URLDecoder.decode(fields[4], "UTF-8"));
+                write = new PendingWrite(fields[1], issue, Long.parseLong(fields[0]));
+            }//end if
+        }catch(Exception e){
+            myLogger.fine("could not read journal line.  Error message is: " + e.getMessage());
+        }//end try...catch
+        return write;
+    }//end method
+
+    /**
+     * This method will return the path of the journal file.
+     *
+     * @return the journal file
+     */
+    private Path getJournalFile() {
+        return Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, JOURNAL_FILE_NAME);
+    }//end method
+
+    /**
+     * This PendingWrite class is used to hold a queued change of a tracked issue.
+     */
+    private static final class PendingWrite {
+        private final String operation;
+        private final JIRATrackedIssue issue;
+        private final long queuedMillis;
+
+        /**
+         * Constructor used to create an instance of the PendingWrite class.
+         *
+         * @param operation the operation
+         * @param issue the issue
+         * @param queuedMillis the time the issue was first queued
+         */
+        private PendingWrite(String operation, JIRATrackedIssue issue, long queuedMillis) {
+            this.operation = operation;
+            this.issue = issue;
+            this.queuedMillis = queuedMillis;
+        }//end constructor
+    }//end class
+
+}//end class
@@ -0,0 +1,202 @@
+package com.omo.free.jira.tracker.model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+/**
+ * This IssueRow class holds what a listing needs to display a JIRA issue so that the cells of a {@code ListView} do not read the JIRA issue every time they are updated.
+ *
+ * <p>Rows are immutable and are prepared by the clients while the issues are retrieved, outside of the JavaFX Application Thread.  A row is cached for the issue instance it was made from (not by key, as {@code Issue.equals} matches every copy of an issue), so a newer copy of the issue gets a new row.  The cache only holds the issues weakly, the row of an issue goes away once the issue is no longer listed or cached.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public final class IssueRow {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.IssueRow";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    /* issue instance to its row, guarded by ROWS */
+    private static final Map<IssueReference, IssueRow> ROWS = new HashMap<>();
+    private static final ReferenceQueue<Issue> COLLECTED_ISSUES = new ReferenceQueue<>();
+
+    private final String key;
+    private final String displayText;
+    private final boolean hasAttachments;
+    private final int issueNumber;
+
+    /**
+     * Constructor used to create an instance of the IssueRow class.
+     *
+     * @param issue the issue
+     */
+    private IssueRow(Issue issue) {
+        this.key = issue.getKey();
+        this.displayText = issue.getKey() + "\n" + issue.getSummary();
+        this.hasAttachments = attachmentsExist(issue);
+        this.issueNumber = parseIssueNumber(issue.getKey());
+    }//end constructor
+
+    /**
+     * This method will make and cache the row of the {@code issue}, the row already made for the issue instance is returned.
+     *
+     * @param issue the issue
+     * @return the row
+     */
+    public static IssueRow prepare(Issue issue) {
+        synchronized(ROWS){
+            removeCollectedRows();
+            IssueRow row = ROWS.get(new IssueReference(issue, null));
+            if(row == null){
+                row = new IssueRow(issue);
+                ROWS.put(new IssueReference(issue, COLLECTED_ISSUES), row);
+            }//end if
+            return row;
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will make and cache the rows of the {@code issues}.
+     *
+     * @param issues the issues
+     */
+    public static void prepare(List<Issue> issues) {
+        for(int i = 0, j = issues.size(); i < j; i++){
+            prepare(issues.get(i));
+        }//end for
+    }//end method
+
+    /**
+     * This method will return the cached row of the {@code issue}.  The rows are prepared when the issues are retrieved, a row is only made here for an issue that was listed without being prepared.
+     *
+     * @param issue the issue
+     * @return the row
+     */
+    public static IssueRow get(Issue issue) {
+        IssueRow row;
+        synchronized(ROWS){
+            row = ROWS.get(new IssueReference(issue, null));
+        }//end synchronized
+        if(row == null){
+            myLogger.fine("the row of " + issue.getKey() + " was not prepared.");
+            row = prepare(issue);
+        }//end if
+        return row;
+    }//end method
+
+    /**
+     * This method will remove the rows of the issues that have been garbage collected.  The caller holds the lock of ROWS.
+     */
+    private static void removeCollectedRows() {
+        for(Object collected = COLLECTED_ISSUES.poll(); collected != null; collected = COLLECTED_ISSUES.poll()){
+            ROWS.remove(collected);
+        }//end for
+    }//end method
+
+    /**
+     * This method will check to see if there are any attachments associated to the JIRA issue.
+     *
+     * @param issue the issue to check for attachments
+     * @return true or false on whether or not an issue is associated with an attachment
+     */
+    private static boolean attachmentsExist(Issue issue) {
+        boolean exists = false;
+        try{
+            Iterable<Attachment> list = issue.getAttachments();
+            if(list != null){
+                exists = list.iterator().hasNext();
+            }//end if
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Exception occurred while trying to see if attachment exists.  Error is " + e.getMessage(), e);
+        }//end try...catch
+        return exists;
+    }//end method
+
+    /**
+     * This method will return the number of the {@code issueKey}, for example 1234 for MOCIS-1234.
+     *
+     * @param issueKey the issue key
+     * @return the issue number or Integer.MAX_VALUE if the key has no number
+     */
+    private static int parseIssueNumber(String issueKey) {
+        String key = String.valueOf(issueKey);
+        try{
+            return Integer.parseInt(key.substring(key.indexOf("-") + 1));
+        }catch(NumberFormatException e){
+            return Integer.MAX_VALUE;
+        }//end try...catch
+    }//end method
+
+    /**
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }//end method
+
+    /**
+     * @return the displayText, the key and summary on two lines
+     */
+    public String getDisplayText() {
+        return displayText;
+    }//end method
+
+    /**
+     * @return true if the issue has attachments
+     */
+    public boolean hasAttachments() {
+        return hasAttachments;
+    }//end method
+
+    /**
+     * @return the issueNumber, Integer.MAX_VALUE if the key has no number
+     */
+    public int getIssueNumber() {
+        return issueNumber;
+    }//end method
+
+    /**
+     * This IssueReference class is the key of a row, a weak reference to an issue that is equal to another reference only when both refer to the same issue instance.
+     */
+    private static final class IssueReference extends WeakReference<Issue> {
+
+        private final int hash;
+
+        /**
+         * Constructor used to create an instance of the IssueReference class.
+         *
+         * @param issue the issue
+         * @param queue the queue the reference is added to once the issue is collected, null for a reference only used to look up a row
+         */
+        private IssueReference(Issue issue, ReferenceQueue<Issue> queue) {
+            super(issue, queue);
+            this.hash = System.identityHashCode(issue);
+        }//end constructor
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }//end method
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj){
+                return true;
+            }//end if
+            if(!(obj instanceof IssueReference)){
+                return false;
+            }//end if
+            Issue issue = get();
+            return issue != null && issue == ((IssueReference) obj).get();
+        }//end method
+
+    }//end class
+
+}//end class
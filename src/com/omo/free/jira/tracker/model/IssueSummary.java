@@ -0,0 +1,127 @@
+package com.omo.free.jira.tracker.model;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.joda.time.DateTime;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.BasicProject;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.Status;
+
+/**
+ * This IssueSummary class is a compact copy of a JIRA issue that holds only what the listings and the cache use (key, summary, dates, status, project and attachments).
+ *
+ * <p>An issue returned by a search holds its fields, comments, users, links and the values of every custom field.  The listings and the {@code JIRACacheManager} keep a summary instead, so the full issue can be collected as soon as its page is read.  The status and project of a summary are shared with every other summary of the same status and project and the attachments only keep their name, size, type, date and content uri.  A summary has no fields, use {@link JIRACacheSnapshot#isRestoredIssue(Issue)} to check if the full issue needs to be retrieved from the JIRA website before it is viewed or sent.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public final class IssueSummary extends Issue {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.IssueSummary";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    /* shared instances so each summary does not hold its own copy */
+    private static final Map<String, Status> STATUSES = new ConcurrentHashMap<>();
+    private static final Map<String, BasicProject> PROJECTS = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor used to create an instance of the IssueSummary class.
+     *
+     * @param summary the summary
+     * @param self the uri of the issue
+     * @param key the issue key
+     * @param id the issue id, may be null
+     * @param project the project, may be null
+     * @param status the status, may be null
+     * @param attachments the attachments
+     * @param creationDate the date the issue was created
+     * @param updateDate the date the issue was last updated
+     */
+    IssueSummary(String summary, URI self, String key, Long id, BasicProject project, Status status, List<Attachment> attachments, DateTime creationDate, DateTime updateDate) {
+        super(summary, self, key, id, shareProject(project), null, shareStatus(status), null, null, null, attachments, null, null, creationDate, updateDate, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    }//end constructor
+
+    /**
+     * This method will return the summary of the {@code issue}, the issue itself is returned if it is already a summary.
+     *
+     * @param issue the issue
+     * @return summary the summary of the issue
+     */
+    public static IssueSummary of(Issue issue) {
+        if(issue instanceof IssueSummary){
+            return (IssueSummary) issue;
+        }//end if
+        List<Attachment> attachments = Collections.emptyList();
+        if(issue.getAttachments() != null){
+            attachments = new ArrayList<>();
+            for(Attachment attachment : issue.getAttachments()){
+                attachments.add(new Attachment(attachment.getContentUri(), attachment.getFilename(), null, attachment.getCreationDate(), attachment.getSize(), attachment.getMimeType(), attachment.getContentUri(), null));
+            }//end for
+        }//end if
+        return new IssueSummary(issue.getSummary(), issue.getSelf(), issue.getKey(), issue.getId(), issue.getProject(), issue.getStatus(), attachments, issue.getCreationDate(), issue.getUpdateDate());
+    }//end method
+
+    /**
+     * This method will return the summaries of the {@code issues} in the same order.
+     *
+     * @param issues the issues
+     * @return summaries the summaries of the issues
+     */
+    public static List<Issue> of(List<Issue> issues) {
+        List<Issue> summaries = new ArrayList<>(issues.size());
+        for(int i = 0, j = issues.size(); i < j; i++){
+            summaries.add(of(issues.get(i)));
+        }//end for
+        return summaries;
+    }//end method
+
+    /**
+     * This method will return the summaries of the {@code issues} after the summary, description and comments of the full issues are handed to the {@code JIRATextIndex}, so the issues can still be found by the words of their description and comments once the full issues are gone.  Use this method for issues that are going to be cached.
+     *
+     * @param issues the issues retrieved from the JIRA website
+     * @return summaries the summaries of the issues
+     */
+    public static List<Issue> summarize(List<Issue> issues) {
+        myLogger.entering(MY_CLASS_NAME, "summarize", "issues.size()=" + issues.size());
+
+        List<Issue> summaries = of(issues);
+        JIRATextIndex.getInstance().indexSummariesLater(issues, summaries);
+
+        myLogger.exiting(MY_CLASS_NAME, "summarize");
+        return summaries;
+    }//end method
+
+    /**
+     * This method will return the shared instance of the {@code status}.
+     *
+     * @param status the status, may be null
+     * @return status the shared status
+     */
+    private static Status shareStatus(Status status) {
+        if(status == null){
+            return null;
+        }//end if
+        return STATUSES.computeIfAbsent(status.getId() + "|" + status.getName(), k -> new Status(status.getSelf(), status.getId(), status.getName(), null, null));
+    }//end method
+
+    /**
+     * This method will return the shared instance of the {@code project}.
+     *
+     * @param project the project, may be null
+     * @return project the shared project
+     */
+    private static BasicProject shareProject(BasicProject project) {
+        if(project == null || project.getKey() == null){
+            return project;
+        }//end if
+        return PROJECTS.computeIfAbsent(project.getKey(), k -> new BasicProject(project.getSelf(), project.getKey(), project.getId(), project.getName()));
+    }//end method
+
+}//end class
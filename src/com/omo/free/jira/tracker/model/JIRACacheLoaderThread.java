@@ -1,13 +1,18 @@
 package com.omo.free.jira.tracker.model;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.joda.time.DateTime;
+
 import com.atlassian.jira.rest.client.api.JiraRestClient;
 import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.omo.free.jira.tracker.client.JIRAFieldProfile;
+import com.omo.free.jira.tracker.client.JQLPageIterator;
 
 /**
  * The JIRACacheLoaderThread handles making a call to the JIRA website to retrieve issues to for loading into the cache.
@@ -51,24 +56,29 @@ public class JIRACacheLoaderThread implements Runnable{
         try{
             myLogger.info("Loading issues with a status of " + status.getValue() + " for cache.");
 
-            String searchQuery = "project = " + String.valueOf(project) + " AND status in (" + String.valueOf(status.getId()) + ")";// need to explain this thoroughly...
+            String searchQuery = "project = " + String.valueOf(project) + " AND status in (" + String.valueOf(status.getId()) + ") ORDER BY created DESC";//a stable order so offset paging does not skip issues, same order as the listings
             myLogger.info("Running search JQL to retrieve issues from JIRA website.  Executing the following searchQuery: " + searchQuery);
 
-            Iterable<Issue> iterable = client.getSearchClient().searchJql(searchQuery, 75, 0, null).claim().getIssues();
-            Iterator<Issue> it = iterable.iterator();
-            while(it.hasNext()){
-                Issue i = it.next();
-                allIssues.add(i);
-                //myLogger.info("attachment uri: " + String.valueOf(i.getAttachmentsUri()));
-//                allIssues.add(client.getIssueClient().getIssue(i.getKey(), Arrays.asList(IssueRestClient.Expandos.CHANGELOG)).claim());
+            DateTime syncStart = new DateTime();
+            JQLPageIterator pages = new JQLPageIterator(client.getSearchClient(), searchQuery, JQLPageIterator.getConfiguredPageSize(), JIRAFieldProfile.INDEXED_LIST);
+            Set<String> keysRetrieved = new HashSet<>();
+            while(pages.hasNext()){
+                for(Issue issue : IssueSummary.summarize(pages.next())){//only the summaries are cached
+                    if(keysRetrieved.add(issue.getKey())){//offset paging can repeat an issue when issues are created between pages
+                        allIssues.add(issue);
+                    }//end if
+                }//end for
             }// end while
+
+            myLogger.info("number of issues retrieved for status of " + status.getValue() + " is " + allIssues.size());
+            JIRACacheManager.getInstance().addUntrackedIssuesToCache(project, status.getId(), allIssues);//only cache complete results
+            JIRACacheManager.getInstance().setLastSync(project, status.getId(), syncStart);
+            JIRACacheManager.getInstance().recordLoadTime(System.currentTimeMillis() - syncStart.getMillis());
+            JIRAIssueNumberIndex.getInstance().addIssues(project, allIssues);
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to load cache.  Exception is: " + e.getMessage(), e);
         }//end try...catcch
 
-        myLogger.info("number of issues retrieved for status of " + status.getValue() + " is " + allIssues.size());
-        JIRACacheManager.getInstance().addUntrackedIssuesToCache(project, status.getId(), allIssues);
-
         myLogger.exiting(MY_CLASS_NAME, "run");
     }//end method
 
@@ -1,32 +1,65 @@
 package com.omo.free.jira.tracker.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import org.joda.time.DateTime;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
+
 /**
  * This JIRACacheManager class is used to contain a cache of the most common data that was retrieved from the JIRA website.
  *
  * This is to give user a better experience during there viewing of the data.
  *
- * <p>Note that this needs to be tested before using</p>
+ * <p>Entries are keyed by project|status and are held in a {@code ConcurrentHashMap} of immutable entries so that reads from the JavaFX Application Thread never wait on a background write.  Writes are serialized with each other, entries expire after the time to live set by the jira.cache.ttl.minutes property and the least recently used entries are evicted once the number of cached issues exceeds the jira.cache.max.issues property.</p>
  */
 public class JIRACacheManager {
 
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.JIRACacheManager";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
     private static volatile JIRACacheManager SINGLETON;
 
-    private Map<String, List<Issue>> untrackedIssuesMap;
-    private Map<String, List<Issue>> trackedIssuesMap;
+    /* minutes subtracted from the sync start time so that clock differences with the JIRA server do not skip changes */
+    private static final int SYNC_OVERLAP_MINUTES = 5;
+
+    /* defaults used when the properties are not set */
+    private static final long DEFAULT_TTL_MINUTES = 30;
+    private static final long DEFAULT_MAX_ISSUES = 20000;
+
+    private final Map<String, CacheEntry> entries;
+    private final Object writeLock = new Object();
+    private final long ttlMillis;
+    private final long maxWeight;
+
+    /* statistics */
+    private final AtomicLong weight = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTimeMillis = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
 
     /**
      * Default constructor used to create an instance of the JIRACacheManager.
      */
     private JIRACacheManager() {
-        untrackedIssuesMap = new HashMap<>();
-        trackedIssuesMap = new HashMap<>();
+        entries = new ConcurrentHashMap<>();
+        ttlMillis = TimeUnit.MINUTES.toMillis(getLongProperty("jira.cache.ttl.minutes", DEFAULT_TTL_MINUTES));
+        maxWeight = getLongProperty("jira.cache.max.issues", DEFAULT_MAX_ISSUES);
     }//end constructor
 
     /**
@@ -45,73 +78,338 @@ public class JIRACacheManager {
         return SINGLETON;
     }//end method
 
+    /**
+     * This method will return true if there is a live (not expired) entry for the project/status.  Lookups are counted as hits or misses.
+     *
+     * @param project the project key
+     * @param statusKey the status key
+     * @return true if the project/status is cached
+     */
     public boolean containsStatusKeyForProject(String project, String statusKey){
-        //validateProject(project);
-        return untrackedIssuesMap.containsKey(project + "|" + statusKey);
+        boolean isCached = getLiveEntry(project + "|" + statusKey) != null;
+        if(isCached){
+            hitCount.increment();
+        }else{
+            missCount.increment();
+        }//end if...else
+        return isCached;
     }//end method
 
     /**
      * This method will add a list of untracked {@code Issue}'s to the cache.
      *
-     * @param statusKey
+     * @param project the project key
+     * @param statusKey the status key
      * @param untrackedIssues list of untracked {@code Issue} instance
      */
-    public synchronized void addUntrackedIssuesToCache(String project, String statusKey, List<Issue> untrackedIssues){
-        //validateProject(project);
-        untrackedIssuesMap.put(project + "|" + statusKey, new ArrayList<Issue>(untrackedIssues));
+    public void addUntrackedIssuesToCache(String project, String statusKey, List<Issue> untrackedIssues){
+        String key = project + "|" + statusKey;
+        List<Issue> copy = Collections.unmodifiableList(new ArrayList<Issue>(untrackedIssues));
+        synchronized(writeLock){
+            CacheEntry old = entries.get(key);
+            putEntry(key, new CacheEntry(copy, old == null ? null : old.trackedIssues, old == null ? null : old.lastSync, System.currentTimeMillis()));
+        }//end synchronized
     }//end method
 
     /**
-     * This method will add a list of untracked {@code Issue}'s to the cache.
+     * This method will add a list of tracked {@code Issue}'s to the cache.
      *
-     * @param projectAndStatusKey the system name
+     * @param project the project key
+     * @param statusKey the status key
      * @param trackedIssues list of tracked {@code Issue}'s
      */
-    public synchronized void addTrackedIssuesToCache(String project, String statusKey, List<Issue> trackedIssues){
-        //validateProject(project);
-        trackedIssuesMap.put(project + "|" + statusKey, new ArrayList<Issue>(trackedIssues));
+    public void addTrackedIssuesToCache(String project, String statusKey, List<Issue> trackedIssues){
+        String key = project + "|" + statusKey;
+        List<Issue> copy = Collections.unmodifiableList(new ArrayList<Issue>(trackedIssues));
+        synchronized(writeLock){
+            CacheEntry old = entries.get(key);
+            putEntry(key, new CacheEntry(old == null ? null : old.untrackedIssues, copy, old == null ? null : old.lastSync, old == null ? System.currentTimeMillis() : old.loadedAt));
+        }//end synchronized
     }//end method
 
     /**
-     * This method will add a list of untracked {@code Issue}'s to the cache.
+     * This method will return the cached list of untracked {@code Issue}'s.
      *
-     * @param statusKey
-     * @param untrackedIssues list of untracked {@code Issue} instance
+     * @param project the project key
+     * @param statusKey the status key
+     * @return the untracked issues or null if not cached
      */
     public List<Issue> getUntrackedIssuesFromCache(String project, String statusKey){
-        //validateProject(project);
-        return untrackedIssuesMap.get(project + "|" + statusKey);
+        CacheEntry entry = getEntry(project + "|" + statusKey);
+        return entry == null ? null : entry.untrackedIssues;
     }//end method
 
     /**
-     * This method will add a list of untracked {@code Issue}'s to the cache.
+     * This method will return the cached list of tracked {@code Issue}'s.
      *
-     * @param projectAndStatusKey the system name
-     * @param trackedIssues list of tracked {@code Issue}'s
+     * @param project the project key
+     * @param statusKey the status key
+     * @return the tracked issues or null if not cached
      */
     public List<Issue> getTrackedIssuesFromCache(String project, String statusKey){
-        //validateProject(project);
-        return trackedIssuesMap.get(project + "|" + statusKey);
+        CacheEntry entry = getEntry(project + "|" + statusKey);
+        return entry == null ? null : entry.trackedIssues;
+    }//end method
+
+    /**
+     * This method will return the high-water mark of the last sync of the project/status with the JIRA website.  Issues updated after this time have not been merged into the cache.
+     *
+     * @param project the project key
+     * @param statusKey the status key
+     * @return the time of the last sync or null if the project/status has not been synced
+     */
+    public DateTime getLastSync(String project, String statusKey){
+        CacheEntry entry = getEntry(project + "|" + statusKey);
+        return entry == null ? null : entry.lastSync;
+    }//end method
+
+    /**
+     * This method will set the high-water mark of the last sync of the project/status with the JIRA website.  The mark is set a few minutes before {@code syncStart} so that changes made while the sync was running are picked up by the next sync.  A synced entry starts a new time to live.
+     *
+     * @param project the project key
+     * @param statusKey the status key
+     * @param syncStart the time the sync started
+     */
+    public void setLastSync(String project, String statusKey, DateTime syncStart){
+        String key = project + "|" + statusKey;
+        synchronized(writeLock){
+            CacheEntry old = entries.get(key);
+            if(old != null){
+                putEntry(key, new CacheEntry(old.untrackedIssues, old.trackedIssues, syncStart.minusMinutes(SYNC_OVERLAP_MINUTES), System.currentTimeMillis()));
+            }//end if
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will record the time it took to load a project/status from the JIRA website.
+     *
+     * @param loadTimeMillis the time the load took in milliseconds
+     */
+    public void recordLoadTime(long loadTimeMillis){
+        loadCount.increment();
+        totalLoadTimeMillis.add(loadTimeMillis);
+    }//end method
+
+    /**
+     * This method will merge issues that were updated on the JIRA website into every cached status of the {@code project}.  Each updated issue is removed from the status lists it no longer belongs to and is placed into the status lists matching its current status, which handles issues moving from one status to another.
+     *
+     * @param project the project key
+     * @param updatedIssues the issues updated since the last sync
+     * @param isTracked used to determine if an issue key has been sent to the shop
+     */
+    public void mergeUpdatedIssues(String project, List<Issue> updatedIssues, Predicate<String> isTracked){
+        if(updatedIssues == null || updatedIssues.isEmpty()){
+            return;
+        }//end if
+
+        Map<String, Issue> updatedByKey = new HashMap<>();
+        for(Issue issue : updatedIssues){
+            updatedByKey.put(issue.getKey(), issue);
+        }//end for
+
+        String prefix = project + "|";
+        synchronized(writeLock){
+            for(String cacheKey : new ArrayList<>(entries.keySet())){
+                CacheEntry old = entries.get(cacheKey);
+                if(!cacheKey.startsWith(prefix) || old == null){
+                    continue;
+                }//end if
+                List<String> statusIds = JIRAStatus.getStatusIdsForKey(cacheKey.substring(prefix.length()));
+
+                List<Issue> untracked = removeIssues(old.untrackedIssues, updatedByKey);
+                List<Issue> tracked = removeIssues(old.trackedIssues, updatedByKey);
+                for(Issue issue : updatedByKey.values()){
+                    if(issue.getStatus() != null && statusIds.contains(String.valueOf(issue.getStatus().getId()))){
+                        if(isTracked.test(issue.getKey())){
+                            tracked.add(issue);
+                        }else{
+                            untracked.add(issue);
+                        }//end if...else
+                    }//end if
+                }//end for
+                putEntry(cacheKey, new CacheEntry(Collections.unmodifiableList(untracked), Collections.unmodifiableList(tracked), old.lastSync, old.loadedAt));
+            }//end for
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return a copy of {@code issues} without the issues whose keys are in {@code updatedByKey}.
+     *
+     * @param issues the cached issues
+     * @param updatedByKey the updated issues by key
+     * @return remaining the cached issues that were not updated
+     */
+    private List<Issue> removeIssues(List<Issue> issues, Map<String, Issue> updatedByKey){
+        List<Issue> remaining = new ArrayList<>();
+        if(issues != null){
+            for(Issue issue : issues){
+                if(!updatedByKey.containsKey(issue.getKey())){
+                    remaining.add(issue);
+                }//end if
+            }//end for
+        }//end if
+        return remaining;
     }//end method
 
-//    /**
-//     * This will validate the project here and if the cache manager has no issues relating to this project the the cache will be cleared.
-//     *
-//     * @param project the project to validate against
-//     */
-//    private void validateProject(String project) {
-//        if(this.project != project){
-//            clearCache();//clear the cache here
-//            this.project = project;//set new project name here
-//        }//end if
-//    }//end if
+    /**
+     * This method will return a snapshot of the cache statistics.
+     *
+     * @return the cache statistics
+     */
+    public JIRACacheStatistics getStatistics(){
+        return new JIRACacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTimeMillis.sum(), evictionCount.sum(), expiredCount.sum(), entries.size(), weight.get());
+    }//end method
 
     /**
      * Clear the cache.
      */
-    public synchronized void clearCache(){
-        untrackedIssuesMap.clear();
-        trackedIssuesMap.clear();
+    public void clearCache(){
+        synchronized(writeLock){
+            entries.clear();
+            weight.set(0);
+            JIRATextIndex.getInstance().clear();
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return a copy of the entries keyed by project|status so that they can be written to the warm-start snapshot.  Entries are not marked as used.
+     *
+     * @return a copy of the entries
+     */
+    Map<String, CacheEntry> getEntries(){
+        return new HashMap<>(entries);
     }//end method
 
+    /**
+     * This method will put an entry read from the warm-start snapshot into the cache.  The entry keeps the time it was originally loaded so that the time to live still applies, and an entry already loaded from the JIRA website is never replaced.
+     *
+     * @param key the project|status key
+     * @param untrackedIssues the untracked issues
+     * @param trackedIssues the tracked issues
+     * @param lastSync the high-water mark of the last sync, may be null
+     * @param loadedAt the time the entry was loaded in milliseconds
+     */
+    void restoreEntry(String key, List<Issue> untrackedIssues, List<Issue> trackedIssues, DateTime lastSync, long loadedAt){
+        synchronized(writeLock){
+            if(!entries.containsKey(key)){
+                putEntry(key, new CacheEntry(Collections.unmodifiableList(untrackedIssues), trackedIssues == null ? null : Collections.unmodifiableList(trackedIssues), lastSync, loadedAt));
+            }//end if
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return the entry for the {@code key} and mark it as recently used.
+     *
+     * @param key the project|status key
+     * @return the entry or null
+     */
+    private CacheEntry getEntry(String key){
+        CacheEntry entry = entries.get(key);
+        if(entry != null){
+            entry.lastAccess = System.nanoTime();
+        }//end if
+        return entry;
+    }//end method
+
+    /**
+     * This method will return the entry for the {@code key} if it has untracked issues and has not expired.  An expired entry is removed from the cache.
+     *
+     * @param key the project|status key
+     * @return the live entry or null
+     */
+    private CacheEntry getLiveEntry(String key){
+        CacheEntry entry = getEntry(key);
+        if(entry != null && System.currentTimeMillis() - entry.loadedAt > ttlMillis){
+            if(entries.remove(key, entry)){
+                weight.addAndGet(-entry.weight);
+                expiredCount.increment();
+                JIRATextIndex.getInstance().removeIssuesLater(entry.untrackedIssues, entry.trackedIssues);
+                myLogger.info("cache entry " + key + " expired and was removed.");
+            }//end if
+            entry = null;
+        }//end if
+        return entry != null && entry.untrackedIssues != null ? entry : null;
+    }//end method
+
+    /**
+     * This method will put the {@code entry} into the cache and then evict the least recently used entries until the cache weight is under the maximum.  Must be called while holding the write lock.
+     *
+     * @param key the project|status key
+     * @param entry the entry to put
+     */
+    private void putEntry(String key, CacheEntry entry){
+        CacheEntry old = entries.put(key, entry);
+        weight.addAndGet(entry.weight - (old == null ? 0 : old.weight));
+        JIRATextIndex.getInstance().indexIssuesLater(entry.untrackedIssues, entry.trackedIssues);
+
+        while(weight.get() > maxWeight && entries.size() > 1){
+            String eldestKey = null;
+            CacheEntry eldest = null;
+            for(Map.Entry<String, CacheEntry> e : entries.entrySet()){
+                if(!e.getKey().equals(key) && (eldest == null || e.getValue().lastAccess < eldest.lastAccess)){
+                    eldestKey = e.getKey();
+                    eldest = e.getValue();
+                }//end if
+            }//end for
+            if(eldest == null || !entries.remove(eldestKey, eldest)){
+                break;
+            }//end if
+            weight.addAndGet(-eldest.weight);
+            evictionCount.increment();
+            JIRATextIndex.getInstance().removeIssuesLater(eldest.untrackedIssues, eldest.trackedIssues);
+            myLogger.info("cache entry " + eldestKey + " was evicted to keep the cache under " + maxWeight + " issues.");
+        }//end while
+    }//end method
+
+    /**
+     * This method will return the long value of the property named {@code name} or the {@code defaultValue} if the property is not set or invalid.
+     *
+     * @param name the property name
+     * @param defaultValue the default value
+     * @return the property value
+     */
+    static long getLongProperty(String name, long defaultValue){
+        long value = defaultValue;
+        try{
+            String property = PropertiesMgr.getInstance().getProperties().getProperty(name);
+            if(property != null && !"".equals(property.trim())){
+                value = Long.parseLong(property.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the " + name + " property, using default value of " + defaultValue + ".  Error message is: " + e.getMessage());
+        }//end try...catch
+        return value;
+    }//end method
+
+    /**
+     * Immutable cache entry holding the issues of one project|status.  Only the last access time changes and it is only used for eviction.
+     */
+    static final class CacheEntry {
+
+        final List<Issue> untrackedIssues;
+        final List<Issue> trackedIssues;
+        final DateTime lastSync;
+        final long loadedAt;
+        private final long weight;
+        private volatile long lastAccess;
+
+        /**
+         * Constructor used to create an instance of the CacheEntry class.
+         *
+         * @param untrackedIssues the untracked issues
+         * @param trackedIssues the tracked issues
+         * @param lastSync the high-water mark of the last sync
+         * @param loadedAt the time the entry was loaded in milliseconds
+         */
+        private CacheEntry(List<Issue> untrackedIssues, List<Issue> trackedIssues, DateTime lastSync, long loadedAt) {
+            this.untrackedIssues = untrackedIssues;
+            this.trackedIssues = trackedIssues;
+            this.lastSync = lastSync;
+            this.loadedAt = loadedAt;
+            this.weight = (untrackedIssues == null ? 0 : untrackedIssues.size()) + (trackedIssues == null ? 0 : trackedIssues.size());
+            this.lastAccess = System.nanoTime();
+        }//end constructor
+
+    }//end class
+
 }//end class
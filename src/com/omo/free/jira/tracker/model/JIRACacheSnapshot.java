@@ -0,0 +1,410 @@
+package com.omo.free.jira.tracker.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.joda.time.DateTime;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.BasicProject;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.Status;
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+
+/**
+ * This JIRACacheSnapshot class is used to write the contents of the {@code JIRACacheManager} to a compact local file so that the next start of the application can display issues right away while the issues are reconciled with the JIRA website in the background.
+ *
+ * <p>The snapshot is a versioned, gzipped binary file.  Each issue is written once along with only the fields needed to list it (key, summary, dates, status, project and attachments) and each cached project|status refers to its issues by position.  Issues read from a snapshot are {@code IssueSummary} copies without fields, use {@link #isRestoredIssue(Issue)} to check if the full issue needs to be retrieved from the JIRA website.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRACacheSnapshot {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.JIRACacheSnapshot";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final JIRACacheSnapshot INSTANCE = new JIRACacheSnapshot();
+
+    /* file name and format version, bump the version when the format changes so old snapshots are ignored */
+    private static final String SNAPSHOT_FILE_NAME = "jira-cache.snapshot";
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private List<String> projects;
+    private String projectKey;
+
+    /**
+     * Default constructor used to create an instance of the JIRACacheSnapshot class.
+     */
+    private JIRACacheSnapshot() {}
+
+    /**
+     * This method will return the single instance of the JIRACacheSnapshot class.
+     *
+     * @return INSTANCE the JIRACacheSnapshot class
+     */
+    public static JIRACacheSnapshot getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will write the project list, the selected project and the cached issues to the snapshot file.  The file is written to a temporary file first and then moved into place so that a crash while writing never leaves a partial snapshot.
+     *
+     * @param projects the list of project keys
+     * @param projectKey the project key currently selected
+     * @return true if the snapshot was written
+     */
+    public synchronized boolean save(List<String> projects, String projectKey){
+        myLogger.entering(MY_CLASS_NAME, "save", projectKey);
+
+        long start = System.currentTimeMillis();
+        Path snapshotFile = getSnapshotFile();
+        Path tempFile = snapshotFile.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+        boolean isSaved = false;
+        int issueCount = 0;
+
+        Map<String, JIRACacheManager.CacheEntry> entries = JIRACacheManager.getInstance().getEntries();
+        Map<String, Integer> issueIndexes = new LinkedHashMap<>();
+        List<Issue> issues = new ArrayList<>();
+        for(JIRACacheManager.CacheEntry entry : entries.values()){
+            indexIssues(entry.untrackedIssues, issueIndexes, issues);
+            indexIssues(entry.trackedIssues, issueIndexes, issues);
+        }//end for
+
+        int entryCount = 0;
+        try{
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))){
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(start);
+                writeString(out, projectKey);
+
+                List<String> projectList = projects == null ? Collections.<String>emptyList() : new ArrayList<>(projects);
+                out.writeInt(projectList.size());
+                for(String project : projectList){
+                    out.writeUTF(project);
+                }//end for
+
+                out.writeInt(issues.size());
+                for(Issue issue : issues){
+                    writeIssue(out, issue);
+                }//end for
+                issueCount = issues.size();
+
+                for(JIRACacheManager.CacheEntry entry : entries.values()){
+                    if(entry.untrackedIssues != null){//only complete entries are written
+                        entryCount++;
+                    }//end if
+                }//end for
+                out.writeInt(entryCount);
+                for(Map.Entry<String, JIRACacheManager.CacheEntry> e : entries.entrySet()){
+                    JIRACacheManager.CacheEntry entry = e.getValue();
+                    if(entry.untrackedIssues == null){
+                        continue;
+                    }//end if
+                    out.writeUTF(e.getKey());
+                    out.writeLong(entry.loadedAt);
+                    out.writeLong(entry.lastSync == null ? -1L : entry.lastSync.getMillis());
+                    writeIssueIndexes(out, entry.untrackedIssues, issueIndexes);
+                    writeIssueIndexes(out, entry.trackedIssues, issueIndexes);
+                }//end for
+            }//end try, the stream is closed here so the gzip trailer is written before the move
+
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            isSaved = true;
+            myLogger.info("wrote snapshot of " + entryCount + " cache entries and " + issueCount + " issues to " + snapshotFile + " in " + (System.currentTimeMillis() - start) + " ms.");
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Exception occurred while trying to write the cache snapshot to " + snapshotFile + ".  Error message is: " + e.getMessage(), e);
+            try{
+                Files.deleteIfExists(tempFile);
+            }catch(IOException ioe){
+                myLogger.warning("Could not delete the temporary snapshot file " + tempFile + ".  Error message is: " + ioe.getMessage());
+            }//end try...catch
+        }//end try...catch
+
+        myLogger.exiting(MY_CLASS_NAME, "save", isSaved);
+        return isSaved;
+    }//end method
+
+    /**
+     * This method will read the snapshot file and put its entries into the {@code JIRACacheManager}.  The project list and selected project are available through {@link #getProjects()} and {@link #getProjectKey()} after a successful restore.
+     *
+     * @return true if a snapshot was read
+     */
+    public synchronized boolean restore(){
+        myLogger.entering(MY_CLASS_NAME, "restore");
+
+        long start = System.currentTimeMillis();
+        Path snapshotFile = getSnapshotFile();
+        boolean isRestored = false;
+
+        if(!Files.exists(snapshotFile)){
+            myLogger.info("No cache snapshot exists at " + snapshotFile);
+            myLogger.exiting(MY_CLASS_NAME, "restore", isRestored);
+            return isRestored;
+        }//end if
+
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(snapshotFile))))){
+            int version = in.readInt();
+            if(version != SNAPSHOT_VERSION){
+                myLogger.warning("Ignoring cache snapshot with version " + version + ", expected version " + SNAPSHOT_VERSION);
+                myLogger.exiting(MY_CLASS_NAME, "restore", isRestored);
+                return isRestored;
+            }//end if
+            long savedAt = in.readLong();
+            String selectedProjectKey = readString(in);
+
+            int projectCount = in.readInt();
+            List<String> projectList = new ArrayList<>(projectCount);
+            for(int i = 0; i < projectCount; i++){
+                projectList.add(in.readUTF());
+            }//end for
+
+            int issueCount = in.readInt();
+            Issue[] issues = new Issue[issueCount];
+            for(int i = 0; i < issueCount; i++){
+                issues[i] = readIssue(in);
+            }//end for
+
+            int entryCount = in.readInt();
+            JIRACacheManager cache = JIRACacheManager.getInstance();
+            for(int i = 0; i < entryCount; i++){
+                String key = in.readUTF();
+                long loadedAt = in.readLong();
+                long lastSync = in.readLong();
+                List<Issue> untrackedIssues = readIssueIndexes(in, issues);
+                List<Issue> trackedIssues = readIssueIndexes(in, issues);
+                cache.restoreEntry(key, untrackedIssues, trackedIssues, lastSync < 0 ? null : new DateTime(lastSync), loadedAt);
+            }//end for
+
+            this.projects = projectList;
+            this.projectKey = selectedProjectKey;
+            isRestored = !projectList.isEmpty();
+            myLogger.info("read snapshot saved at " + new DateTime(savedAt) + " containing " + entryCount + " cache entries and " + issueCount + " issues in " + (System.currentTimeMillis() - start) + " ms.");
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Exception occurred while trying to read the cache snapshot from " + snapshotFile + ", the snapshot will be ignored.  Error message is: " + e.getMessage(), e);
+        }//end try...catch
+
+        myLogger.exiting(MY_CLASS_NAME, "restore", isRestored);
+        return isRestored;
+    }//end method
+
+    /**
+     * This method will return true if the {@code issue} is a summary, read from a snapshot or kept by a listing, and therefore only contains the fields needed to list it.
+     *
+     * @param issue the issue to check
+     * @return true if the full issue needs to be retrieved from the JIRA website
+     */
+    public static boolean isRestoredIssue(Issue issue){
+        return issue instanceof IssueSummary || (issue != null && issue.getFields() == null);
+    }//end method
+
+    /**
+     * @return the projects read from the snapshot
+     */
+    public List<String> getProjects() {
+        return projects;
+    }//end method
+
+    /**
+     * @return the projectKey that was selected when the snapshot was written
+     */
+    public String getProjectKey() {
+        return projectKey;
+    }//end method
+
+    /**
+     * This method will return the path of the snapshot file.
+     *
+     * @return the snapshot file
+     */
+    private Path getSnapshotFile(){
+        return Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, SNAPSHOT_FILE_NAME);
+    }//end method
+
+    /**
+     * This method will add each issue not already indexed to the {@code issues} list, so that an issue cached under more than one status is only written once.
+     *
+     * @param entryIssues the issues of a cache entry, may be null
+     * @param issueIndexes the position of each issue by key
+     * @param issues the distinct issues
+     */
+    private void indexIssues(List<Issue> entryIssues, Map<String, Integer> issueIndexes, List<Issue> issues){
+        if(entryIssues != null){
+            for(Issue issue : entryIssues){
+                if(!issueIndexes.containsKey(issue.getKey())){
+                    issueIndexes.put(issue.getKey(), issues.size());
+                    issues.add(issue);
+                }//end if
+            }//end for
+        }//end if
+    }//end method
+
+    /**
+     * This method will write the positions of the {@code entryIssues}, -1 is written for a null list.
+     *
+     * @param out the output stream
+     * @param entryIssues the issues of a cache entry, may be null
+     * @param issueIndexes the position of each issue by key
+     * @throws IOException if an error occurs while writing
+     */
+    private void writeIssueIndexes(DataOutputStream out, List<Issue> entryIssues, Map<String, Integer> issueIndexes) throws IOException{
+        if(entryIssues == null){
+            out.writeInt(-1);
+        }else{
+            out.writeInt(entryIssues.size());
+            for(Issue issue : entryIssues){
+                out.writeInt(issueIndexes.get(issue.getKey()));
+            }//end for
+        }//end if...else
+    }//end method
+
+    /**
+     * This method will read the positions written by {@link #writeIssueIndexes(DataOutputStream, List, Map)} and return the issues at those positions.
+     *
+     * @param in the input stream
+     * @param issues the distinct issues
+     * @return entryIssues the issues of a cache entry or null
+     * @throws IOException if an error occurs while reading
+     */
+    private List<Issue> readIssueIndexes(DataInputStream in, Issue[] issues) throws IOException{
+        int size = in.readInt();
+        if(size < 0){
+            return null;
+        }//end if
+        List<Issue> entryIssues = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            entryIssues.add(issues[in.readInt()]);
+        }//end for
+        return entryIssues;
+    }//end method
+
+    /**
+     * This method will write the fields of the {@code issue} needed to list it.
+     *
+     * @param out the output stream
+     * @param issue the issue to write
+     * @throws IOException if an error occurs while writing
+     */
+    private void writeIssue(DataOutputStream out, Issue issue) throws IOException{
+        out.writeUTF(issue.getKey());
+        out.writeLong(issue.getId() == null ? -1L : issue.getId());
+        writeString(out, issue.getSelf() == null ? null : issue.getSelf().toString());
+        writeString(out, issue.getSummary());
+        out.writeLong(issue.getCreationDate() == null ? -1L : issue.getCreationDate().getMillis());
+        out.writeLong(issue.getUpdateDate() == null ? -1L : issue.getUpdateDate().getMillis());
+
+        Status status = issue.getStatus();
+        out.writeLong(status == null || status.getId() == null ? -1L : status.getId());
+        writeString(out, status == null ? null : status.getName());
+        writeString(out, issue.getProject() == null ? null : issue.getProject().getKey());
+
+        List<Attachment> attachments = new ArrayList<>();
+        if(issue.getAttachments() != null){
+            for(Attachment attachment : issue.getAttachments()){
+                attachments.add(attachment);
+            }//end for
+        }//end if
+        out.writeInt(attachments.size());
+        for(Attachment attachment : attachments){
+            writeString(out, attachment.getFilename());
+            out.writeInt(attachment.getSize());
+            writeString(out, attachment.getMimeType());
+            writeString(out, attachment.getContentUri() == null ? null : attachment.getContentUri().toString());
+            out.writeLong(attachment.getCreationDate() == null ? -1L : attachment.getCreationDate().getMillis());
+        }//end for
+    }//end method
+
+    /**
+     * This method will read an issue written by {@link #writeIssue(DataOutputStream, Issue)}.
+     *
+     * @param in the input stream
+     * @return issue the issue without fields
+     * @throws IOException if an error occurs while reading
+     */
+    private Issue readIssue(DataInputStream in) throws IOException{
+        String key = in.readUTF();
+        long id = in.readLong();
+        URI self = toURI(readString(in));
+        String summary = readString(in);
+        DateTime created = toDateTime(in.readLong());
+        DateTime updated = toDateTime(in.readLong());
+
+        long statusId = in.readLong();
+        String statusName = readString(in);
+        Status status = statusId < 0 && statusName == null ? null : new Status(null, statusId < 0 ? null : statusId, statusName, null, null);
+        String issueProjectKey = readString(in);
+        BasicProject project = issueProjectKey == null ? null : new BasicProject(null, issueProjectKey, null, null);
+
+        int attachmentCount = in.readInt();
+        List<Attachment> attachments = new ArrayList<>(attachmentCount);
+        for(int i = 0; i < attachmentCount; i++){
+            String filename = readString(in);
+            int size = in.readInt();
+            String mimeType = readString(in);
+            URI contentUri = toURI(readString(in));
+            DateTime attachmentCreated = toDateTime(in.readLong());
+            attachments.add(new Attachment(contentUri, filename, null, attachmentCreated, size, mimeType, contentUri, null));
+        }//end for
+
+        //a summary has no fields which marks the issue as restored from a snapshot
+        return new IssueSummary(summary, self, key, id < 0 ? null : id, project, status, attachments, created, updated);
+    }//end method
+
+    /**
+     * This method will write a string that may be null.
+     *
+     * @param out the output stream
+     * @param value the value to write
+     * @throws IOException if an error occurs while writing
+     */
+    private void writeString(DataOutputStream out, String value) throws IOException{
+        out.writeBoolean(value != null);
+        if(value != null){
+            out.writeUTF(value);
+        }//end if
+    }//end method
+
+    /**
+     * This method will read a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param in the input stream
+     * @return value the value or null
+     * @throws IOException if an error occurs while reading
+     */
+    private String readString(DataInputStream in) throws IOException{
+        return in.readBoolean() ? in.readUTF() : null;
+    }//end method
+
+    /**
+     * @param millis the milliseconds or -1
+     * @return the date time or null
+     */
+    private DateTime toDateTime(long millis){
+        return millis < 0 ? null : new DateTime(millis);
+    }//end method
+
+    /**
+     * @param value the uri string or null
+     * @return the uri or null
+     */
+    private URI toURI(String value){
+        return value == null ? null : URI.create(value);
+    }//end method
+
+}//end class
@@ -0,0 +1,121 @@
+package com.omo.free.jira.tracker.model;
+
+/**
+ * This JIRACacheStatistics class is used to hold a snapshot of the counters kept by the {@code JIRACacheManager}.
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRACacheStatistics {
+
+    private long hitCount;
+    private long missCount;
+    private long loadCount;
+    private long totalLoadTimeMillis;
+    private long evictionCount;
+    private long expiredCount;
+    private int entryCount;
+    private long weight;
+
+    /**
+     * Constructor used to create an instance of the JIRACacheStatistics class.
+     *
+     * @param hitCount number of lookups that found a live entry
+     * @param missCount number of lookups that did not find a live entry
+     * @param loadCount number of loads recorded
+     * @param totalLoadTimeMillis total time spent loading entries
+     * @param evictionCount number of entries evicted to stay under the maximum weight
+     * @param expiredCount number of entries removed because they were older than the time to live
+     * @param entryCount number of entries within the cache
+     * @param weight number of issues within the cache
+     */
+    public JIRACacheStatistics(long hitCount, long missCount, long loadCount, long totalLoadTimeMillis, long evictionCount, long expiredCount, int entryCount, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.totalLoadTimeMillis = totalLoadTimeMillis;
+        this.evictionCount = evictionCount;
+        this.expiredCount = expiredCount;
+        this.entryCount = entryCount;
+        this.weight = weight;
+    }//end constructor
+
+    /**
+     * @return the hitCount
+     */
+    public long getHitCount() {
+        return hitCount;
+    }//end method
+
+    /**
+     * @return the missCount
+     */
+    public long getMissCount() {
+        return missCount;
+    }//end method
+
+    /**
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0D : (double) hitCount / requestCount;
+    }//end method
+
+    /**
+     * @return the loadCount
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }//end method
+
+    /**
+     * @return the totalLoadTimeMillis
+     */
+    public long getTotalLoadTimeMillis() {
+        return totalLoadTimeMillis;
+    }//end method
+
+    /**
+     * @return the average load time in milliseconds
+     */
+    public long getAverageLoadTimeMillis() {
+        return loadCount == 0 ? 0 : totalLoadTimeMillis / loadCount;
+    }//end method
+
+    /**
+     * @return the evictionCount
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }//end method
+
+    /**
+     * @return the expiredCount
+     */
+    public long getExpiredCount() {
+        return expiredCount;
+    }//end method
+
+    /**
+     * @return the entryCount
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }//end method
+
+    /**
+     * @return the weight
+     */
+    public long getWeight() {
+        return weight;
+    }//end method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "JIRACacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", hitRate=" + getHitRate() + ", loadCount=" + loadCount + ", averageLoadTimeMillis=" + getAverageLoadTimeMillis() + ", evictionCount=" + evictionCount + ", expiredCount=" + expiredCount + ", entryCount=" + entryCount + ", weight=" + weight + "]";
+    }//end method
+
+}//end class
@@ -0,0 +1,260 @@
+package com.omo.free.jira.tracker.model;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.logging.Logger;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+/**
+ * This JIRAIssueNumberIndex class is used to answer an issue number search without sending every possible issue key to the JIRA website.
+ *
+ * <p>The issues of a search are taken from the {@code JIRACacheManager}, which expires and bounds them, and only the numbers that are not cached are sent to the JIRA website.  Issue numbers that were searched for but do not exist on the JIRA website are remembered, one bit per issue number, so they are not asked for again.  A number is forgotten as missing once an issue with that number is returned by a search, cache load or delta sync.</p>
+ *
+ * <p>The greatest issue number of each project is kept apart from the issue numbers as a small value holding the number and when it was last checked against the JIRA website.  Every issue added raises it, and it is considered current for {@code jira.search.max.key.ttl.seconds} after it was last checked.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRAIssueNumberIndex {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.JIRAIssueNumberIndex";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final JIRAIssueNumberIndex INSTANCE = new JIRAIssueNumberIndex();
+
+    /* seconds the greatest issue number is used before it is checked against the JIRA website again */
+    private static final long DEFAULT_MAX_KEY_TTL_SECONDS = 60;
+
+    private final Map<String, ProjectIndex> projects = new ConcurrentHashMap<>();
+    private final Map<String, MaxIssueNumber> maxIssueNumbers = new ConcurrentHashMap<>();
+    private final long maxKeyTtlMillis = TimeUnit.SECONDS.toMillis(JIRACacheManager.getLongProperty("jira.search.max.key.ttl.seconds", DEFAULT_MAX_KEY_TTL_SECONDS));
+
+    /**
+     * Default constructor used to create an instance of the JIRAIssueNumberIndex class.
+     */
+    private JIRAIssueNumberIndex() {    }//end constructor
+
+    /**
+     * This method will return the single instance of the JIRAIssueNumberIndex class.
+     *
+     * @return INSTANCE the JIRAIssueNumberIndex class
+     */
+    public static JIRAIssueNumberIndex getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will return the issues of the {@code projectKey} held by the {@code JIRACacheManager} whose issue number is accepted by the {@code matcher}, by issue number.  When an issue is cached under more than one status the most recently updated copy is returned.
+     *
+     * @param projectKey the project key
+     * @param matcher the issue number matcher
+     * @return cachedIssues the matching cached issues by issue number in issue number order
+     */
+    public TreeMap<Integer, Issue> findCachedIssues(String projectKey, IntPredicate matcher){
+        myLogger.entering(MY_CLASS_NAME, "findCachedIssues", projectKey);
+
+        TreeMap<Integer, Issue> cachedIssues = new TreeMap<>();
+        String prefix = projectKey + "|";
+        for(Map.Entry<String, JIRACacheManager.CacheEntry> e : JIRACacheManager.getInstance().getEntries().entrySet()){
+            if(e.getKey().startsWith(prefix)){
+                addMatchingIssues(projectKey, e.getValue().untrackedIssues, matcher, cachedIssues);
+                addMatchingIssues(projectKey, e.getValue().trackedIssues, matcher, cachedIssues);
+            }//end if
+        }//end for
+
+        myLogger.exiting(MY_CLASS_NAME, "findCachedIssues", cachedIssues.size());
+        return cachedIssues;
+    }//end method
+
+    /**
+     * This method will put each of the {@code issues} whose issue number is accepted by the {@code matcher} into the {@code matches}, keeping the most recently updated copy of an issue.
+     *
+     * @param projectKey the project key
+     * @param issues the issues, may be null
+     * @param matcher the issue number matcher
+     * @param matches the matching issues by issue number
+     */
+    private void addMatchingIssues(String projectKey, List<Issue> issues, IntPredicate matcher, Map<Integer, Issue> matches){
+        if(issues == null){
+            return;
+        }//end if
+        for(int i = 0, j = issues.size(); i < j; i++){
+            Issue issue = issues.get(i);
+            int number = getIssueNumber(projectKey, issue.getKey());
+            if(number > 0 && matcher.test(number)){
+                Issue other = matches.get(number);
+                if(other == null || (issue.getUpdateDate() != null && (other.getUpdateDate() == null || issue.getUpdateDate().isAfter(other.getUpdateDate())))){
+                    matches.put(number, issue);
+                }//end if
+            }//end if
+        }//end for
+    }//end method
+
+    /**
+     * This method will forget the issue numbers of the {@code issues} that belong to the {@code projectKey} as missing and raise the greatest issue number of the project.  Issues of other projects are ignored and the issues themselves are not kept.  It is called as issues are retrieved, not for each search.
+     *
+     * @param projectKey the project key
+     * @param issues the issues, may be null
+     */
+    public void addIssues(String projectKey, Collection<Issue> issues){
+        if(issues == null || issues.isEmpty()){
+            return;
+        }//end if
+        int maxNumber = 0;
+        ProjectIndex index = getProjectIndex(projectKey);
+        synchronized(index){
+            for(Issue issue : issues){
+                int number = getIssueNumber(projectKey, issue.getKey());
+                if(number > 0){
+                    index.missing.clear(number);
+                    maxNumber = Math.max(maxNumber, number);
+                }//end if
+            }//end for
+        }//end synchronized
+        if(maxNumber > 0){
+            maxIssueNumbers.merge(projectKey, new MaxIssueNumber(maxNumber, 0L), MaxIssueNumber::merge);
+        }//end if
+    }//end method
+
+    /**
+     * This method will remember the {@code issueNumbers} of the {@code projectKey} that do not exist on the JIRA website.
+     *
+     * @param projectKey the project key
+     * @param issueNumbers the issue numbers that were searched for and not found
+     */
+    public void addMissingIssueNumbers(String projectKey, Collection<Integer> issueNumbers){
+        ProjectIndex index = getProjectIndex(projectKey);
+        synchronized(index){
+            for(Integer number : issueNumbers){
+                index.missing.set(number);
+            }//end for
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return true if the issue number of the {@code projectKey} was searched for and does not exist on the JIRA website.
+     *
+     * @param projectKey the project key
+     * @param issueNumber the issue number
+     * @return true if the issue number is known to be missing
+     */
+    public boolean isMissing(String projectKey, int issueNumber){
+        ProjectIndex index = getProjectIndex(projectKey);
+        synchronized(index){
+            return index.missing.get(issueNumber);
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return the greatest issue number known for the {@code projectKey}.
+     *
+     * @param projectKey the project key
+     * @return the greatest issue number or 0 if none is known
+     */
+    public int getMaxIssueNumber(String projectKey){
+        MaxIssueNumber max = maxIssueNumbers.get(projectKey);
+        return max == null ? 0 : max.number;
+    }//end method
+
+    /**
+     * This method will return true if the greatest issue number of the {@code projectKey} was checked against the JIRA website within the time to live.
+     *
+     * @param projectKey the project key
+     * @return true if the greatest issue number is current
+     */
+    public boolean isMaxIssueNumberCurrent(String projectKey){
+        MaxIssueNumber max = maxIssueNumbers.get(projectKey);
+        return max != null && max.number > 0 && System.currentTimeMillis() - max.checkedAt < maxKeyTtlMillis;
+    }//end method
+
+    /**
+     * This method will record the greatest issue number of the {@code projectKey} as checked against the JIRA website.  The number never goes down.
+     *
+     * @param projectKey the project key
+     * @param issueNumber the greatest issue number retrieved from the JIRA website
+     */
+    public void setMaxIssueNumber(String projectKey, int issueNumber){
+        maxIssueNumbers.merge(projectKey, new MaxIssueNumber(issueNumber, System.currentTimeMillis()), MaxIssueNumber::merge);
+    }//end method
+
+    /**
+     * This method will remove all entries from the index.
+     */
+    public void clear(){
+        projects.clear();
+        maxIssueNumbers.clear();
+    }//end method
+
+    /**
+     * This method will return the number of the {@code issueKey} or -1 if the key does not belong to the {@code projectKey}.
+     *
+     * @param projectKey the project key
+     * @param issueKey the issue key, for example MOCIS-886
+     * @return the issue number or -1
+     */
+    public static int getIssueNumber(String projectKey, String issueKey){
+        int number = -1;
+        if(issueKey != null && issueKey.length() > projectKey.length() + 1 && issueKey.startsWith(projectKey) && issueKey.charAt(projectKey.length()) == '-'){
+            try{
+                number = Integer.parseInt(issueKey.substring(projectKey.length() + 1));
+            }catch(NumberFormatException e){
+                myLogger.warning("Could not parse the issue number of " + issueKey + ".  Error message is: " + e.getMessage());
+            }//end try...catch
+        }//end if
+        return number;
+    }//end method
+
+    /**
+     * This method will return the index of the {@code projectKey} creating it when needed.
+     *
+     * @param projectKey the project key
+     * @return the project index
+     */
+    private ProjectIndex getProjectIndex(String projectKey){
+        return projects.computeIfAbsent(projectKey, k -> new ProjectIndex());
+    }//end method
+
+    /**
+     * This ProjectIndex class holds the issue numbers of one project that are known to be missing.
+     */
+    private static final class ProjectIndex {
+        private final BitSet missing = new BitSet();
+    }//end class
+
+    /**
+     * This MaxIssueNumber class holds the greatest issue number of one project and when it was last checked against the JIRA website, 0 if it never was.  It is replaced rather than changed.
+     */
+    private static final class MaxIssueNumber {
+        private final int number;
+        private final long checkedAt;
+
+        /**
+         * Constructor used to create an instance of the MaxIssueNumber class.
+         *
+         * @param number the greatest issue number
+         * @param checkedAt the time the number was checked against the JIRA website or 0
+         */
+        private MaxIssueNumber(int number, long checkedAt){
+            this.number = number;
+            this.checkedAt = checkedAt;
+        }//end constructor
+
+        /**
+         * This method will return the greater number and the later check of the {@code current} and {@code update} values, so the number never goes down.
+         *
+         * @param current the value held
+         * @param update the new value
+         * @return the merged value
+         */
+        private static MaxIssueNumber merge(MaxIssueNumber current, MaxIssueNumber update){
+            return new MaxIssueNumber(Math.max(current.number, update.number), Math.max(current.checkedAt, update.checkedAt));
+        }//end method
+    }//end class
+
+}//end class
@@ -0,0 +1,178 @@
+package com.omo.free.jira.tracker.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.atlassian.jira.rest.client.api.domain.IssueType;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.omo.free.jira.tracker.constants.JIRAConstants;
+
+/**
+ * This JIRAProjectEligibility class is used to remember, between runs of the application, which JIRA projects are listed within the project selection.  A project is eligible when one of its issue types contains "DOC ".
+ *
+ * <p>Each project is stored with a fingerprint of its issue types so that a revalidation can tell whether the issue types of a project changed.  The results are written to a properties file within the JIRA resources directory.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRAProjectEligibility {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.JIRAProjectEligibility";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final JIRAProjectEligibility INSTANCE = new JIRAProjectEligibility();
+
+    private static final String ELIGIBILITY_FILE_NAME = "project-eligibility.properties";
+
+    /* project key to fingerprint|eligible */
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+    private volatile boolean isLoaded;
+
+    /**
+     * Default constructor used to create an instance of the JIRAProjectEligibility class.
+     */
+    private JIRAProjectEligibility() {    }//end constructor
+
+    /**
+     * This method will return the single instance of the JIRAProjectEligibility class.
+     *
+     * @return INSTANCE the JIRAProjectEligibility class
+     */
+    public static JIRAProjectEligibility getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will return whether the project is eligible, or null if the project has not been checked yet.
+     *
+     * @param projectKey the project key
+     * @return true if eligible, false if not, null if unknown
+     */
+    public Boolean isEligible(String projectKey){
+        load();
+        String value = entries.get(projectKey);
+        return value == null ? null : Boolean.valueOf(value.substring(value.lastIndexOf('|') + 1));
+    }//end method
+
+    /**
+     * This method will return the project keys that have been checked.
+     *
+     * @return the checked project keys
+     */
+    public List<String> getProjectKeys(){
+        load();
+        return new ArrayList<>(entries.keySet());
+    }//end method
+
+    /**
+     * This method will record the eligibility of the {@code project} using its issue types.
+     *
+     * @param project the project retrieved from the JIRA website
+     * @return true if the project is eligible
+     */
+    public boolean update(Project project){
+        load();
+        List<String> issueTypeNames = new ArrayList<>();
+        if(project.getIssueTypes() != null){
+            for(IssueType issueType : project.getIssueTypes()){
+                issueTypeNames.add(String.valueOf(issueType.getName()));
+            }//end for
+        }//end if
+        Collections.sort(issueTypeNames);
+        boolean isEligible = String.valueOf(project.getIssueTypes()).contains("DOC ");
+        String fingerprint = Integer.toHexString(issueTypeNames.hashCode());
+
+        String old = entries.put(project.getKey(), fingerprint + "|" + isEligible);
+        if(old != null && !old.startsWith(fingerprint + "|")){
+            myLogger.info("issue types of project " + project.getKey() + " changed, eligible=" + isEligible);
+        }//end if
+        return isEligible;
+    }//end method
+
+    /**
+     * This method will forget the projects that no longer exist on the JIRA website.
+     *
+     * @param projectKeys the keys of all projects on the JIRA website
+     */
+    public void retainAll(List<String> projectKeys){
+        load();
+        entries.keySet().retainAll(projectKeys);
+    }//end method
+
+    /**
+     * This method will write the eligibility of the projects to the properties file.  The file is written to a temporary file first and then moved into place.
+     */
+    public synchronized void save(){
+        myLogger.entering(MY_CLASS_NAME, "save");
+
+        Path eligibilityFile = getEligibilityFile();
+        Path tempFile = eligibilityFile.resolveSibling(ELIGIBILITY_FILE_NAME + ".tmp");
+        Properties properties = new Properties();
+        properties.putAll(entries);
+        try{
+            try(OutputStream out = Files.newOutputStream(tempFile)){
+                properties.store(out, "project key=issue type fingerprint|eligible");
+            }//end try, the file is closed before it is moved
+            Files.move(tempFile, eligibilityFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            myLogger.info("wrote eligibility of " + properties.size() + " projects to " + eligibilityFile);
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Exception occurred while trying to write the project eligibility to " + eligibilityFile + ".  Error message is: " + e.getMessage(), e);
+            try{
+                Files.deleteIfExists(tempFile);
+            }catch(IOException ioe){
+                myLogger.warning("Could not delete the temporary project eligibility file " + tempFile + ".  Error message is: " + ioe.getMessage());
+            }//end try...catch
+        }//end try...catch
+
+        myLogger.exiting(MY_CLASS_NAME, "save");
+    }//end method
+
+    /**
+     * This method will read the properties file the first time the eligibility is needed.
+     */
+    private void load(){
+        if(isLoaded){
+            return;
+        }//end if
+        synchronized(this){
+            if(!isLoaded){
+                Path eligibilityFile = getEligibilityFile();
+                if(Files.exists(eligibilityFile)){
+                    Properties properties = new Properties();
+                    try(InputStream in = Files.newInputStream(eligibilityFile)){
+                        properties.load(in);
+                        for(String projectKey : properties.stringPropertyNames()){
+                            entries.putIfAbsent(projectKey, properties.getProperty(projectKey));
+                        }//end for
+                        myLogger.info("read eligibility of " + entries.size() + " projects from " + eligibilityFile);
+                    }catch(Exception e){
+                        myLogger.log(Level.WARNING, "Exception occurred while trying to read the project eligibility from " + eligibilityFile + ", all projects will be checked.  Error message is: " + e.getMessage(), e);
+                    }//end try...catch
+                }//end if
+                isLoaded = true;
+            }//end if
+        }//end synchronized
+    }//end method
+
+    /**
+     * This method will return the path of the eligibility file.
+     *
+     * @return the eligibility file
+     */
+    private Path getEligibilityFile(){
+        return Paths.get(JIRAConstants.JIRA_RESOURCES_DIRECTORY, ELIGIBILITY_FILE_NAME);
+    }//end method
+
+}//end class
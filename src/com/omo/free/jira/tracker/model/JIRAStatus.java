@@ -1,6 +1,7 @@
 package com.omo.free.jira.tracker.model;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -10,6 +11,19 @@ import java.util.List;
  */
 public class JIRAStatus implements Comparable<JIRAStatus>{
 
+    /*
+     * status ids of the ". . ." (id of 0) selection
+     * 1=OPEN
+     * 3=In Progress
+     * 10102=Production Fix
+     * 10736=In Development
+     * 10737=In Testing
+     * 10738=Ready to Migrate
+     * 10111=Research
+     * 10047=Researching Issue
+     */
+    private static final List<String> OPEN_STATUS_IDS = Collections.unmodifiableList(Arrays.asList("1", "3", "10102", "10736", "10737", "10738", "10111", "10047"));
+
     private String id;
     private String value;
 
@@ -34,6 +48,16 @@ public class JIRAStatus implements Comparable<JIRAStatus>{
         return statuses;
     }//end method
 
+    /**
+     * This method will return the JIRA status ids that belong to the {@code statusKey}.  The status key of "0" is made up of all of the common open statuses while any other key is the status id itself.
+     *
+     * @param statusKey the status key (id) selected by the user
+     * @return statusIds the list of status ids belonging to the status key
+     */
+    public static List<String> getStatusIdsForKey(String statusKey){
+        return "0".equals(statusKey) ? OPEN_STATUS_IDS : Collections.singletonList(statusKey);
+    }//end method
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,597 @@
+package com.omo.free.jira.tracker.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+/**
+ * This JIRATextIndex class is used to hold an in-memory inverted index over the summary, description and comments of the issues held by the {@code JIRACacheManager} so that issues can be found by their words without connecting to the JIRA website.
+ *
+ * <p>The index is updated on its own thread as the cache receives issues, so a search right after a load may not see the newest issues for a moment.  A query is made up of words, prefixes ending with an asterisk (for example {@code attach*}) and phrases within double quotes.  Every part of the query must match and the results are ranked by how often and where (summary words weigh more) the words are found, weighted by how rare the words are.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATextIndex {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.JIRATextIndex";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final JIRATextIndex INSTANCE = new JIRATextIndex();
+
+    /* position gap between fields so that a phrase never matches across two fields */
+    private static final int FIELD_GAP = 1000;
+    private static final double SUMMARY_BOOST = 3.0D;
+    private static final double PHRASE_BOOST = 2.0D;
+    private static final int DEFAULT_MAX_RESULTS = 500;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jira-text-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, IndexedIssue> documents = new HashMap<>();
+    private final NavigableMap<String, Map<String, int[]>> postings = new TreeMap<>();
+
+    /**
+     * Default constructor used to create an instance of the JIRATextIndex class.
+     */
+    private JIRATextIndex() {    }//end constructor
+
+    /**
+     * This method will return the single instance of the JIRATextIndex class.
+     *
+     * @return INSTANCE the JIRATextIndex class
+     */
+    public static JIRATextIndex getInstance(){
+        return INSTANCE;
+    }//end method
+
+    /**
+     * This method will add the {@code issues} to the index replacing an older version of the same issue.  Issues that are already indexed and have not changed are skipped.
+     *
+     * @param issues the issues to index, may be null
+     */
+    public void indexIssues(Collection<Issue> issues){
+        if(issues == null || issues.isEmpty()){
+            return;
+        }//end if
+        List<Issue> issueList = new ArrayList<>(issues);
+        indexIssues(issueList, issueList);
+    }//end method
+
+    /**
+     * This method will index the text of each of the {@code issues} under the issue at the same position within the {@code documents}, the document is what a search returns.  Issues that are already indexed and have not changed are skipped, the indexed issue is swapped for a summary of the same version so the full issue is not held.
+     *
+     * @param issues the issues holding the text to index
+     * @param documents the issues returned by a search
+     */
+    private void indexIssues(List<Issue> issues, List<Issue> documents){
+        lock.writeLock().lock();
+        try{
+            for(int i = 0, j = issues.size(); i < j; i++){
+                Issue issue = issues.get(i);
+                if(issue != null && issue.getKey() != null){
+                    IndexedIssue old = this.documents.get(issue.getKey());
+                    if(old == null || !old.isSameAs(issue)){
+                        removeDocument(old);
+                        addDocument(issue, documents.get(i));
+                    }else if(old.issue != documents.get(i) && documents.get(i) instanceof IssueSummary){
+                        this.documents.put(issue.getKey(), new IndexedIssue(documents.get(i), old));
+                    }//end if...else
+                }//end if
+            }//end for
+        }finally{
+            lock.writeLock().unlock();
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will remove the {@code issues} from the index.  An issue is only removed when the indexed version is the same instance so that a newer version is kept.
+     *
+     * @param issues the issues to remove
+     */
+    public void removeIssues(Collection<Issue> issues){
+        lock.writeLock().lock();
+        try{
+            for(Issue issue : issues){
+                IndexedIssue old = documents.get(issue.getKey());
+                if(old != null && old.issue == issue){
+                    removeDocument(old);
+                }//end if
+            }//end for
+        }finally{
+            lock.writeLock().unlock();
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will index the issues of a cache entry on the indexing thread so that the cache is not held up while the issues are tokenized.  Updates are applied in the order they are submitted.
+     *
+     * @param untrackedIssues the untracked issues, may be null
+     * @param trackedIssues the tracked issues, may be null
+     */
+    void indexIssuesLater(List<Issue> untrackedIssues, List<Issue> trackedIssues){
+        indexer.execute(() -> {
+            indexIssues(untrackedIssues);
+            indexIssues(trackedIssues);
+        });
+    }//end method
+
+    /**
+     * This method will index the text of the full {@code issues} on the indexing thread with each issue indexed as its summary, so a search returns the summary while the full issue can be collected.  Updates are applied in the order they are submitted.
+     *
+     * @param issues the full issues
+     * @param summaries the summaries of the issues in the same order
+     */
+    void indexSummariesLater(List<Issue> issues, List<Issue> summaries){
+        indexer.execute(() -> indexIssues(issues, summaries));
+    }//end method
+
+    /**
+     * This method will remove the issues of a cache entry that was evicted or expired on the indexing thread.  Issues still held by another entry of the cache stay within the index.
+     *
+     * @param untrackedIssues the untracked issues, may be null
+     * @param trackedIssues the tracked issues, may be null
+     */
+    void removeIssuesLater(List<Issue> untrackedIssues, List<Issue> trackedIssues){
+        indexer.execute(() -> {
+            Set<Issue> cachedIssues = Collections.newSetFromMap(new IdentityHashMap<>());
+            for(JIRACacheManager.CacheEntry entry : JIRACacheManager.getInstance().getEntries().values()){
+                if(entry.untrackedIssues != null){
+                    cachedIssues.addAll(entry.untrackedIssues);
+                }//end if
+                if(entry.trackedIssues != null){
+                    cachedIssues.addAll(entry.trackedIssues);
+                }//end if
+            }//end for
+            List<Issue> removed = new ArrayList<>();
+            for(List<Issue> issues : Arrays.asList(untrackedIssues, trackedIssues)){
+                for(int i = 0, j = issues == null ? 0 : issues.size(); i < j; i++){
+                    if(!cachedIssues.contains(issues.get(i))){
+                        removed.add(issues.get(i));
+                    }//end if
+                }//end for
+            }//end for
+            removeIssues(removed);
+        });
+    }//end method
+
+    /**
+     * This method will remove every issue from the index.
+     */
+    public void clear(){
+        indexer.execute(this::clearNow);//after the updates already submitted
+    }//end method
+
+    /**
+     * This method will remove every issue from the index right away.
+     */
+    private void clearNow(){
+        lock.writeLock().lock();
+        try{
+            documents.clear();
+            postings.clear();
+        }finally{
+            lock.writeLock().unlock();
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will return the number of issues within the index.
+     *
+     * @return the number of indexed issues
+     */
+    public int size(){
+        lock.readLock().lock();
+        try{
+            return documents.size();
+        }finally{
+            lock.readLock().unlock();
+        }//end try...finally
+    }//end method
+
+    /**
+     * This method will search the indexed issues of the {@code projectKey} using the {@code query} and return the matching issues with the best matches first.
+     *
+     * @param projectKey the project key
+     * @param query the words, prefixes and "phrases" to search for
+     * @return the matching issues
+     */
+    public List<Issue> search(String projectKey, String query){
+        return search(projectKey, query, DEFAULT_MAX_RESULTS);
+    }//end method
+
+    /**
+     * This method will search the indexed issues of the {@code projectKey} using the {@code query} and return at most {@code maxResults} matching issues with the best matches first.
+     *
+     * @param projectKey the project key
+     * @param query the words, prefixes and "phrases" to search for
+     * @param maxResults the maximum number of issues returned
+     * @return the matching issues
+     */
+    public List<Issue> search(String projectKey, String query, int maxResults){
+        myLogger.entering(MY_CLASS_NAME, "search", new Object[]{projectKey, query});
+
+        long start = System.nanoTime();
+        List<Issue> results = new ArrayList<>();
+        List<String[]> clauses = parseQuery(query);
+        lock.readLock().lock();
+        try{
+            //the rarest clause is scored first so that the other clauses only score the issues it matched
+            Collections.sort(clauses, (a, b) -> Integer.compare(getClauseFrequency(a), getClauseFrequency(b)));
+            Map<String, Double> scores = null;
+            for(int i = 0, j = clauses.size(); i < j && (scores == null || !scores.isEmpty()); i++){
+                Map<String, Double> clauseScores = scoreClause(clauses.get(i), scores == null ? null : scores.keySet());
+                if(scores == null){
+                    scores = clauseScores;
+                }else{
+                    scores.keySet().retainAll(clauseScores.keySet());
+                    for(Map.Entry<String, Double> e : scores.entrySet()){
+                        e.setValue(e.getValue() + clauseScores.get(e.getKey()));
+                    }//end for
+                }//end if...else
+            }//end for
+
+            if(scores != null){
+                List<Map.Entry<String, Double>> ranked = new ArrayList<>();
+                for(Map.Entry<String, Double> e : scores.entrySet()){
+                    if(projectKey == null || projectKey.equals(documents.get(e.getKey()).projectKey)){
+                        ranked.add(e);
+                    }//end if
+                }//end for
+                Collections.sort(ranked, (a, b) -> {
+                    int result = Double.compare(b.getValue(), a.getValue());
+                    return result != 0 ? result : Integer.compare(documents.get(b.getKey()).issueNumber, documents.get(a.getKey()).issueNumber);//newest first on a tie
+                });
+                for(int i = 0, j = Math.min(maxResults, ranked.size()); i < j; i++){
+                    results.add(documents.get(ranked.get(i).getKey()).issue);
+                }//end for
+            }//end if
+        }finally{
+            lock.readLock().unlock();
+        }//end try...finally
+        myLogger.info("text search for " + query + " found " + results.size() + " issues in " + (System.nanoTime() - start) / 1000 + " microseconds.");
+
+        myLogger.exiting(MY_CLASS_NAME, "search", results.size());
+        return results;
+    }//end method
+
+    /**
+     * This method will return the number of issues containing the rarest term of the {@code clause}, or the number of issues containing any term of a prefix.  Must be called while holding the read lock.
+     *
+     * @param clause the terms of the clause
+     * @return the frequency of the clause
+     */
+    private int getClauseFrequency(String[] clause){
+        int frequency = Integer.MAX_VALUE;
+        if(clause.length == 1 && clause[0].endsWith("*")){
+            frequency = 0;
+            String prefix = clause[0].substring(0, clause[0].length() - 1);
+            for(Map<String, int[]> docs : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()){
+                frequency += docs.size();
+            }//end for
+        }else{
+            for(String term : clause){
+                Map<String, int[]> docs = postings.get(term);
+                frequency = Math.min(frequency, docs == null ? 0 : docs.size());
+            }//end for
+        }//end if...else
+        return frequency;
+    }//end method
+
+    /**
+     * This method will score the issues matching one clause of a query.  A clause of one term is a word or a prefix, a clause of more than one term is a phrase.  Must be called while holding the read lock.
+     *
+     * @param clause the terms of the clause
+     * @param candidates the issue keys to score, null to score every issue
+     * @return scores the score by issue key
+     */
+    private Map<String, Double> scoreClause(String[] clause, Set<String> candidates){
+        Map<String, Double> scores = new HashMap<>();
+        if(clause.length == 1 && clause[0].endsWith("*")){
+            String prefix = clause[0].substring(0, clause[0].length() - 1);
+            for(Map<String, int[]> docs : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()){
+                addTermScores(docs, candidates, scores);
+            }//end for
+        }else if(clause.length == 1){
+            Map<String, int[]> docs = postings.get(clause[0]);
+            if(docs != null){
+                addTermScores(docs, candidates, scores);
+            }//end if
+        }else{
+            List<Map<String, int[]>> termDocs = new ArrayList<>();
+            Map<String, int[]> rarest = null;
+            for(String term : clause){
+                Map<String, int[]> docs = postings.get(term);
+                if(docs == null){
+                    return scores;
+                }//end if
+                termDocs.add(docs);
+                rarest = rarest == null || docs.size() < rarest.size() ? docs : rarest;
+            }//end for
+            for(String issueKey : candidates == null || rarest.size() < candidates.size() ? rarest.keySet() : candidates){
+                if((candidates == null || candidates.contains(issueKey)) && containsPhrase(issueKey, termDocs)){
+                    double score = 0;
+                    for(Map<String, int[]> docs : termDocs){
+                        score += scoreTerm(issueKey, docs);
+                    }//end for
+                    scores.put(issueKey, score * PHRASE_BOOST);
+                }//end if
+            }//end for
+        }//end if...else
+        return scores;
+    }//end method
+
+    /**
+     * This method will add the score of one term to the score of each issue containing it.
+     *
+     * @param docs the positions of the term by issue key
+     * @param candidates the issue keys to score, null to score every issue
+     * @param scores the scores by issue key
+     */
+    private void addTermScores(Map<String, int[]> docs, Set<String> candidates, Map<String, Double> scores){
+        for(String issueKey : candidates == null || docs.size() < candidates.size() ? docs.keySet() : candidates){
+            if(docs.containsKey(issueKey) && (candidates == null || candidates.contains(issueKey))){
+                scores.merge(issueKey, scoreTerm(issueKey, docs), Double::sum);
+            }//end if
+        }//end for
+    }//end method
+
+    /**
+     * This method will return the score of a term within an issue.  The term frequency is dampened by a logarithm, words within the summary count more and rare terms count more than common terms.
+     *
+     * @param issueKey the issue key
+     * @param docs the positions of the term by issue key
+     * @return the score
+     */
+    private double scoreTerm(String issueKey, Map<String, int[]> docs){
+        int[] positions = docs.get(issueKey);
+        int summaryEnd = documents.get(issueKey).summaryEnd;
+        double frequency = 0;
+        for(int position : positions){
+            frequency += position < summaryEnd ? SUMMARY_BOOST : 1.0D;
+        }//end for
+        double idf = Math.log(1.0D + (double) documents.size() / docs.size());
+        return (1.0D + Math.log(frequency)) * idf;
+    }//end method
+
+    /**
+     * This method will return true if the terms appear one right after the other within the issue.
+     *
+     * @param issueKey the issue key
+     * @param termDocs the positions by issue key of each term of the phrase in order
+     * @return true if the phrase is found
+     */
+    private boolean containsPhrase(String issueKey, List<Map<String, int[]>> termDocs){
+        int[][] positions = new int[termDocs.size()][];
+        for(int i = 0, j = termDocs.size(); i < j; i++){
+            positions[i] = termDocs.get(i).get(issueKey);
+            if(positions[i] == null){
+                return false;
+            }//end if
+        }//end for
+        for(int start : positions[0]){
+            boolean isMatch = true;
+            for(int i = 1; i < positions.length && isMatch; i++){
+                isMatch = Arrays.binarySearch(positions[i], start + i) >= 0;
+            }//end for
+            if(isMatch){
+                return true;
+            }//end if
+        }//end for
+        return false;
+    }//end method
+
+    /**
+     * This method will tokenize the issue and add its terms to the index under the {@code document}.  Must be called while holding the write lock.
+     *
+     * @param issue the issue holding the text to add
+     * @param document the issue returned by a search, the issue itself or its summary
+     */
+    private void addDocument(Issue issue, Issue document){
+        Map<String, int[]> termPositions = new HashMap<>();
+        int position = tokenize(issue.getKey() + " " + Objects.toString(issue.getSummary(), ""), 0, termPositions);
+        int summaryEnd = position;
+        position = tokenize(issue.getDescription(), position + FIELD_GAP, termPositions);
+        if(issue.getComments() != null){
+            for(Comment comment : issue.getComments()){
+                position = tokenize(comment.getBody(), position + FIELD_GAP, termPositions);
+            }//end for
+        }//end if
+
+        String issueKey = issue.getKey();
+        for(Map.Entry<String, int[]> e : termPositions.entrySet()){
+            int[] positions = e.getValue();
+            postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(issueKey, Arrays.copyOfRange(positions, 1, positions[0] + 1));
+        }//end for
+        documents.put(issueKey, new IndexedIssue(document, issue, termPositions.keySet(), summaryEnd));
+    }//end method
+
+    /**
+     * This method will remove the terms of an indexed issue from the index.  Must be called while holding the write lock.
+     *
+     * @param old the indexed issue, may be null
+     */
+    private void removeDocument(IndexedIssue old){
+        if(old == null){
+            return;
+        }//end if
+        String issueKey = old.issue.getKey();
+        for(String term : old.terms){
+            Map<String, int[]> docs = postings.get(term);
+            if(docs != null){
+                docs.remove(issueKey);
+                if(docs.isEmpty()){
+                    postings.remove(term);
+                }//end if
+            }//end if
+        }//end for
+        documents.remove(issueKey);
+    }//end method
+
+    /**
+     * This method will split {@code text} into lower case words of letters and digits and record the position of each word.
+     *
+     * @param text the text, may be null
+     * @param position the position of the first word
+     * @param termPositions the positions by word, the first element of each array holds the number of positions
+     * @return the position after the last word
+     */
+    private static int tokenize(String text, int position, Map<String, int[]> termPositions){
+        for(String word : splitWords(text)){
+            int[] positions = termPositions.get(word);
+            if(positions == null){
+                positions = new int[4];
+                termPositions.put(word, positions);
+            }else if(positions[0] + 1 == positions.length){
+                positions = Arrays.copyOf(positions, positions.length * 2);
+                termPositions.put(word, positions);
+            }//end if...else
+            positions[++positions[0]] = position++;
+        }//end for
+        return position;
+    }//end method
+
+    /**
+     * This method will split {@code text} into lower case words of letters and digits in the order they appear.
+     *
+     * @param text the text, may be null
+     * @return words the words of the text
+     */
+    private static List<String> splitWords(String text){
+        List<String> words = new ArrayList<>();
+        if(text == null){
+            return words;
+        }//end if
+        int start = -1;
+        for(int i = 0, j = text.length(); i <= j; i++){
+            boolean isWordChar = i < j && Character.isLetterOrDigit(text.charAt(i));
+            if(isWordChar && start < 0){
+                start = i;
+            }else if(!isWordChar && start >= 0){
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }//end if...else
+        }//end for
+        return words;
+    }//end method
+
+    /**
+     * This method will parse the {@code query} into clauses.  Text within double quotes is a phrase clause of each of its words, any other word is a clause of its own and keeps a trailing asterisk to mark a prefix.
+     *
+     * @param query the query
+     * @return clauses the clauses of the query
+     */
+    static List<String[]> parseQuery(String query){
+        List<String[]> clauses = new ArrayList<>();
+        if(query == null){
+            return clauses;
+        }//end if
+        String[] parts = query.split("\"", -1);
+        for(int i = 0; i < parts.length; i++){
+            if(i % 2 == 1){//within quotes
+                List<String> words = splitWords(parts[i]);
+                if(!words.isEmpty()){
+                    clauses.add(words.toArray(new String[words.size()]));
+                }//end if
+            }else{
+                for(String token : parts[i].trim().split("\\s+")){
+                    List<String> words = splitWords(token);
+                    if(words.size() == 1){
+                        clauses.add(new String[]{token.endsWith("*") ? words.get(0) + "*" : words.get(0)});
+                    }else if(words.size() > 1){//for example MOCIS-123 is searched as the phrase mocis 123
+                        clauses.add(words.toArray(new String[words.size()]));
+                    }//end if...else
+                }//end for
+            }//end if...else
+        }//end for
+        return clauses;
+    }//end method
+
+    /**
+     * This IndexedIssue class holds an indexed issue with the terms it was indexed under.
+     */
+    private static final class IndexedIssue {
+
+        private final Issue issue;
+        private final String projectKey;
+        private final int issueNumber;
+        private final Set<String> terms;
+        private final int summaryEnd;
+        private final int descriptionHash;
+        private final boolean hasComments;
+
+        /**
+         * Constructor used to create an instance of the IndexedIssue class.
+         *
+         * @param issue the issue returned by a search
+         * @param text the issue the terms were taken from
+         * @param terms the terms of the issue
+         * @param summaryEnd the position after the last word of the summary
+         */
+        IndexedIssue(Issue issue, Issue text, Set<String> terms, int summaryEnd) {
+            this.issue = issue;
+            String key = issue.getKey();
+            int dash = key.lastIndexOf('-');
+            this.projectKey = dash > 0 ? key.substring(0, dash) : key;
+            this.issueNumber = dash > 0 ? JIRAIssueNumberIndex.getIssueNumber(projectKey, key) : -1;
+            this.terms = terms;
+            this.summaryEnd = summaryEnd;
+            this.descriptionHash = Objects.hashCode(text.getDescription());
+            this.hasComments = text.getComments() != null;
+        }//end constructor
+
+        /**
+         * Constructor used to create an instance of the IndexedIssue class that keeps the terms of an indexed issue under another copy of the same version.
+         *
+         * @param issue the issue returned by a search
+         * @param indexed the indexed issue
+         */
+        IndexedIssue(Issue issue, IndexedIssue indexed) {
+            this.issue = issue;
+            this.projectKey = indexed.projectKey;
+            this.issueNumber = indexed.issueNumber;
+            this.terms = indexed.terms;
+            this.summaryEnd = indexed.summaryEnd;
+            this.descriptionHash = indexed.descriptionHash;
+            this.hasComments = indexed.hasComments;
+        }//end constructor
+
+        /**
+         * This method will return true if the {@code other} issue has the same indexed text as this issue.  A summary holds no description or comments, so a summary of the same version is the same as the full issue it was made from.
+         *
+         * @param other the other version of the issue
+         * @return true if nothing needs to be indexed again
+         */
+        boolean isSameAs(Issue other){
+            if(issue == other){
+                return true;
+            }//end if
+            boolean isSameVersion = issue.getUpdateDate() != null && issue.getUpdateDate().equals(other.getUpdateDate()) && Objects.equals(issue.getSummary(), other.getSummary());
+            if(other instanceof IssueSummary){
+                return isSameVersion;
+            }//end if
+            return isSameVersion && descriptionHash == Objects.hashCode(other.getDescription()) && (other.getComments() == null || hasComments);
+        }//end method
+
+    }//end class
+
+}//end class
@@ -0,0 +1,107 @@
+package com.omo.free.jira.tracker.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * This JIRATrackedIssueIndex class is used to hold the issue keys of the issues that have been sent to the shop by project so that checking if an issue has been sent is a constant time lookup.
+ *
+ * <p>The index for a project is loaded from the JIRA_TRACKED_ISSUES table and is then kept in sync as issues are inserted, updated and deleted.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATrackedIssueIndex {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.model.JIRATrackedIssueIndex";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private Map<String, Set<String>> issueKeysByProject;
+
+    /**
+     * Default constructor used to create an instance of the JIRATrackedIssueIndex.
+     */
+    public JIRATrackedIssueIndex() {
+        issueKeysByProject = new ConcurrentHashMap<>();
+    }//end constructor
+
+    /**
+     * This method will replace the indexed issue keys of the {@code projectKey} with the {@code issueKeys}.
+     *
+     * @param projectKey the project key
+     * @param issueKeys the keys of the issues that have been sent to the shop
+     */
+    public void load(String projectKey, Collection<String> issueKeys) {
+        myLogger.entering(MY_CLASS_NAME, "load", projectKey);
+
+        Set<String> keys = ConcurrentHashMap.newKeySet(Math.max(16, issueKeys.size() * 2));
+        keys.addAll(issueKeys);
+        issueKeysByProject.put(projectKey, keys);
+
+        myLogger.exiting(MY_CLASS_NAME, "load", "number of tracked issues is: " + keys.size());
+    }//end method
+
+    /**
+     * This method will return true if the tracked issue keys of the {@code projectKey} have been loaded.
+     *
+     * @param projectKey the project key
+     * @return true if loaded
+     */
+    public boolean isLoaded(String projectKey) {
+        return issueKeysByProject.containsKey(projectKey);
+    }//end method
+
+    /**
+     * This method will return true if the {@code issueKey} has been sent to the shop.
+     *
+     * @param issueKey the issue key, for example MOCIS-1234
+     * @return true if the issue has been sent to the shop
+     */
+    public boolean isTracked(String issueKey) {
+        Set<String> keys = issueKeysByProject.get(getProjectKey(issueKey));
+        return keys != null && keys.contains(issueKey);
+    }//end method
+
+    /**
+     * This method will add the {@code issues} to the index.
+     *
+     * @param issues the issues that were sent to the shop
+     */
+    public void add(List<JIRATrackedIssue> issues) {
+        for(int i = 0, j = issues.size(); i < j; i++){
+            Set<String> keys = issueKeysByProject.get(getProjectKey(issues.get(i).getIssueKey()));
+            if(keys != null){//projects that are not loaded yet will be read from the database when they are loaded
+                keys.add(issues.get(i).getIssueKey());
+            }//end if
+        }//end for
+    }//end method
+
+    /**
+     * This method will remove the {@code issues} from the index.
+     *
+     * @param issues the issues that are no longer tracked
+     */
+    public void remove(List<JIRATrackedIssue> issues) {
+        for(int i = 0, j = issues.size(); i < j; i++){
+            Set<String> keys = issueKeysByProject.get(getProjectKey(issues.get(i).getIssueKey()));
+            if(keys != null){
+                keys.remove(issues.get(i).getIssueKey());
+            }//end if
+        }//end for
+    }//end method
+
+    /**
+     * This method will return the project key part of the {@code issueKey}.
+     *
+     * @param issueKey the issue key, for example MOCIS-1234
+     * @return the project key, for example MOCIS
+     */
+    private String getProjectKey(String issueKey) {
+        int index = issueKey == null ? -1 : issueKey.lastIndexOf('-');
+        return index < 0 ? String.valueOf(issueKey) : issueKey.substring(0, index);
+    }//end method
+
+}//end class
@@ -1,7 +1,14 @@
 package com.omo.free.jira.tracker.ui;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
@@ -12,7 +19,6 @@ import gov.doc.isu.com.util.AppUtil;
 import gov.doc.isu.simple.fx.application.SFXViewBuilder;
 import gov.doc.isu.simple.fx.tools.FXAlertOption;
 import gov.doc.isu.simple.fx.util.Constants;
-import javafx.collections.ObservableList;
 import javafx.concurrent.WorkerStateEvent;
 import javafx.event.ActionEvent;
 import javafx.geometry.HPos;
@@ -50,6 +56,11 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
     private GridPane gridPane;
     private ListView<Issue> issuesToSelect;
     private ListView<Issue> selectedIssues;
+    private KeyedObservableList<Issue> issuesToSelectItems;
+    private KeyedObservableList<Issue> selectedIssuesItems;
+    /* position of each issue key within the issues as they were loaded, both listings are kept in this order */
+    private Map<String, Integer> listingRanks = new HashMap<>();
+    private final Comparator<Issue> listingOrder = Comparator.comparingInt(issue -> listingRanks.getOrDefault(issue.getKey(), Integer.MAX_VALUE));
     private Label openIssuesLbl;
     private Button rightArrow;
     private Button leftArrow;
@@ -77,7 +88,8 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
 
         VBox openIssueBox = new VBox(5);
         openIssuesLbl = new Label(getIssuesToSelectLabelText());
-        issuesToSelect = new ListView<>();
+        issuesToSelectItems = new KeyedObservableList<>(Issue::getKey, AbstractIssuesTab::isSameIssue);
+        issuesToSelect = new ListView<>(issuesToSelectItems);
         issuesToSelect.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         openIssueBox.getChildren().addAll(openIssuesLbl, issuesToSelect);
 
@@ -95,7 +107,8 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
         VBox shopIssueBox = new VBox(5);
         Label shopIssuesLbl = new Label(getIssuesToSendLabelText());
 
-        selectedIssues = new ListView<>();
+        selectedIssuesItems = new KeyedObservableList<>(Issue::getKey, AbstractIssuesTab::isSameIssue);
+        selectedIssues = new ListView<>(selectedIssuesItems);
         selectedIssues.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         shopIssueBox.getChildren().addAll(shopIssuesLbl, selectedIssues);
         sendBtn = new Button("Send");
@@ -203,10 +216,11 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
             if(dialog.isOk()){
                 //JSTUI-18 Additional Email Recipients requested (Richard Salas)
                 Download download = new Download(issuesToSend, dialog.getOptionalEmailText(), dialog.getCommaSeparatedEmailAddresses());
-                download.setOnSucceeded(ev -> showDownloadSuccess(ev));
+                download.setOnSucceeded(ev -> showDownloadSuccess(ev, download));
                 download.setOnFailed(ev -> showDownloadFailure(ev));
                 setMaskerPaneText("Downloading and sending " + getSelectedJIRAProject() + " JIRA Issues to Shop...");
                 setMaskerPaneVisible(true);
+                bindMaskerPaneProgress(download);//progress of the attachment downloads
                 executeTask(download);
             }// end if
         }// end if...else
@@ -226,24 +240,7 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
         if(selection.getSelectedItems().isEmpty()){
             FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "You must select an issue to Remove.", "No Issue Selected", "No Issue Selected", AlertType.WARNING);
         }else{
-            issuesToSelect.getItems().addAll(selection.getSelectedItems());
-
-            // remove the issues from openIssues
-            ObservableList<Issue> itemsToOpen = issuesToSelect.getItems();
-            Iterator<Issue> it = selectedIssues.getItems().iterator();
-            Issue openIssue = null;
-            while(it.hasNext()){
-                openIssue = it.next();
-                for(int i = 0, j = itemsToOpen.size();i < j;i++){// remove the open issues
-                    if(itemsToOpen.get(i).getKey().equals(openIssue.getKey())){
-                        it.remove();
-                        break;
-                    }// end if
-                }
-            }// end while
-
-            selectedIssues.refresh();// refresh toSendIssues
-            issuesToSelect.refresh();// refresh trackedIssues
+            transferIssues(selection.getSelectedItems(), selectedIssuesItems, issuesToSelectItems);
         }// end method
 
         myLogger.exiting(MY_CLASS_NAME, "removeIssues");
@@ -262,28 +259,34 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
         if(selection.getSelectedItems().isEmpty()){
             FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "You must select an issue to Add.", "No Issue Selected", "No Issue Selected", AlertType.WARNING);
         }else{
-            // add to shop issues
-            selectedIssues.getItems().addAll(selection.getSelectedItems());
-
-            // remove the issues from openIssues
-            ObservableList<Issue> itemsToSend = selectedIssues.getItems();
-            Iterator<Issue> it = issuesToSelect.getItems().iterator();
-            Issue openIssue = null;
-            while(it.hasNext()){
-                openIssue = it.next();
-                for(int i = 0, j = itemsToSend.size();i < j;i++){// remove the open issues
-                    if(itemsToSend.get(i).getKey().equals(openIssue.getKey())){
-                        it.remove();
-                        break;
-                    }// end if
-                }
-            }// end while
-            issuesToSelect.refresh();// refresh
+            transferIssues(selection.getSelectedItems(), issuesToSelectItems, selectedIssuesItems);
         }// end if
 
         myLogger.exiting(MY_CLASS_NAME, "addIssues");
     }// end method
 
+    /**
+     * This method will move the {@code issues} from the {@code from} listing to the {@code to} listing.  The issues are removed by key in one pass over the {@code from} listing and merged into the {@code to} listing in the order the issues were loaded, so each listing fires one change event and both keep their order.
+     *
+     * @param issues the selected issues to move
+     * @param from the listing the issues are moved from
+     * @param to the listing the issues are moved to
+     */
+    private void transferIssues(List<Issue> issues, KeyedObservableList<Issue> from, KeyedObservableList<Issue> to) {
+        myLogger.entering(MY_CLASS_NAME, "transferIssues", "issues.size()=" + issues.size());
+
+        List<Issue> moving = new ArrayList<>(issues);//copy as the selection changes while the issues are removed
+        moving.sort(listingOrder);
+        Set<String> keys = new HashSet<>(Math.max(16, moving.size() * 2));
+        for(int i = 0, j = moving.size(); i < j; i++){
+            keys.add(moving.get(i).getKey());
+        }//end for
+        from.removeKeys(keys);
+        to.mergeInOrder(moving, listingOrder);
+
+        myLogger.exiting(MY_CLASS_NAME, "transferIssues");
+    }//end method
+
     /**
      * This method will be called when the user right clicks on a list item within one of the list views.
      *
@@ -387,8 +390,9 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
      * This method will display to users on successful sends of JIRA issues.
      *
      * @param ev the worker state event
+     * @param download the task that sent the issues
      */
-    protected void showDownloadSuccess(WorkerStateEvent ev) {
+    protected void showDownloadSuccess(WorkerStateEvent ev, Download download) {
         myLogger.entering(MY_CLASS_NAME, "showDownloadSuccess", ev);
 
         setMaskerPaneVisible(false);
@@ -397,7 +401,12 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
         //[JSTUI-15] Values not retained in Issues to send to ISU Shop column during new search (Richard Salas)
         selectedIssues.getItems().clear();
         // move issues to other pane here.
-        FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "Successfully sent JIRA Issues to Shop.", "Successfully Sent JIRA Issues", null, AlertType.INFORMATION);
+        List<String> failedIssueKeys = download.getFailedIssueKeys();
+        if(failedIssueKeys.isEmpty()){
+            FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "Successfully sent JIRA Issues to Shop.", "Successfully Sent JIRA Issues", null, AlertType.INFORMATION);
+        }else{
+            FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), AppUtil.breakUpString("Sent the other JIRA Issues to Shop but the following issues could not be downloaded and were not sent: " + String.join(", ", failedIssueKeys) + ".  Please try sending them again.", 150), "Some JIRA Issues Not Sent", null, AlertType.WARNING);
+        }//end if...else
 
         myLogger.exiting(MY_CLASS_NAME, "showDownloadSuccess");
     }// end method
@@ -422,11 +431,89 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
     protected void addIssuesToListView(List<Issue> issuesToAdd){
         myLogger.entering(MY_CLASS_NAME, "addIssuesToListView", "issuesToAdd.size()=" + (AppUtil.isEmpty(issuesToAdd) ? "0" : issuesToAdd.size()));
 
+        for(int i = 0, j = issuesToAdd.size(); i < j; i++){
+            listingRanks.putIfAbsent(issuesToAdd.get(i).getKey(), listingRanks.size());
+        }//end for
         issuesToSelect.getItems().addAll(issuesToAdd);
 
         myLogger.exiting(MY_CLASS_NAME, "addIssuesToListView");
     }//end method
 
+    /**
+     * This method will set the position of the issue with the {@code issueKey} within the order of the listings, for issues that are added to the issues to select listing directly.
+     *
+     * @param issueKey the issue key
+     * @param rank the position of the issue, lower is listed first
+     */
+    protected void setListingRank(String issueKey, int rank) {
+        listingRanks.put(issueKey, rank);
+    }//end method
+
+    /**
+     * This method will update the listings to show the {@code issues} without clearing them.  Issues waiting in the issues to send listing that are still in the {@code issues} stay there, the rest of the {@code issues} are listed within the issues to select listing in order.  Issues to send that are not in the {@code issues} are removed unless {@link #isRetainingIssuesToSend()} returns true.
+     *
+     * <p>Both listings are patched by issue key so only the issues that were added, removed, moved or changed are updated, which keeps the selection and scroll position of the listings.</p>
+     *
+     * @param issues the issues to list, null to empty the listings
+     */
+    protected void refreshListings(List<Issue> issues){
+        myLogger.entering(MY_CLASS_NAME, "refreshListings", "issues.size()=" + (AppUtil.isEmpty(issues) ? "0" : issues.size()));
+
+        List<Issue> source = issues == null ? Collections.emptyList() : issues;
+        Map<String, Issue> issuesByKey = new HashMap<>(Math.max(16, source.size() * 2));
+        Map<String, Integer> ranks = new HashMap<>(Math.max(16, source.size() * 2));
+        for(int i = 0, j = source.size(); i < j; i++){
+            issuesByKey.putIfAbsent(source.get(i).getKey(), source.get(i));
+            ranks.putIfAbsent(source.get(i).getKey(), i);
+        }//end for
+        if(isRetainingIssuesToSend()){//issues to send that are no longer loaded keep their place after the loaded issues
+            for(int i = 0, j = selectedIssuesItems.size(); i < j; i++){
+                ranks.putIfAbsent(selectedIssuesItems.get(i).getKey(), source.size() + i);
+            }//end for
+        }//end if
+        listingRanks = ranks;
+
+        List<Issue> issuesToSend = new ArrayList<>(selectedIssuesItems.size());
+        for(int i = 0, j = selectedIssuesItems.size(); i < j; i++){
+            Issue issue = issuesByKey.remove(selectedIssuesItems.get(i).getKey());
+            if(issue != null){
+                issuesToSend.add(issue);
+            }else if(isRetainingIssuesToSend()){
+                issuesToSend.add(selectedIssuesItems.get(i));
+            }//end if...else
+        }//end for
+        List<Issue> issuesToList = new ArrayList<>(issuesByKey.size());
+        for(int i = 0, j = source.size(); i < j; i++){
+            if(issuesByKey.remove(source.get(i).getKey()) != null){
+                issuesToList.add(source.get(i));
+            }//end if
+        }//end for
+
+        int changes = selectedIssuesItems.patch(issuesToSend) + issuesToSelectItems.patch(issuesToList);
+
+        myLogger.exiting(MY_CLASS_NAME, "refreshListings", "changes=" + changes);
+    }//end method
+
+    /**
+     * This method will return true if the issues to send listing keeps issues that are no longer listed when the listings are refreshed.
+     *
+     * @return false by default
+     */
+    protected boolean isRetainingIssuesToSend() {
+        return false;
+    }//end method
+
+    /**
+     * This method will return true if the listed issue {@code listed} and the retrieved issue {@code retrieved} with the same key look the same within a listing.
+     *
+     * @param listed the listed issue
+     * @param retrieved the retrieved issue
+     * @return true if the listed issue can stay listed
+     */
+    private static boolean isSameIssue(Issue listed, Issue retrieved) {
+        return Objects.equals(listed.getUpdateDate(), retrieved.getUpdateDate()) && Objects.equals(listed.getSummary(), retrieved.getSummary());
+    }//end method
+
     /**
      * This method will clear the listings.
      */
@@ -435,6 +522,7 @@ public abstract class AbstractIssuesTab extends AbstractJIRATrackerTab{
 
         issuesToSelect.getItems().clear();
         selectedIssues.getItems().clear();
+        listingRanks = new HashMap<>();
 
         myLogger.exiting(MY_CLASS_NAME, "clear");
     }// end method
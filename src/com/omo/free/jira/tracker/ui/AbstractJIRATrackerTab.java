@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -62,6 +63,15 @@ public abstract class AbstractJIRATrackerTab extends Tab{
         parent.setMaskerPaneVisible(isVisible);
     }//end method
 
+    /**
+     * This method will bind the progress shown by the masker pane to the progress of the {@code worker}.
+     *
+     * @param worker the worker reporting progress
+     */
+    public void bindMaskerPaneProgress(Worker<?> worker){
+        parent.bindMaskerPaneProgress(worker);
+    }//end method
+
     /**
      * This method will return the nodes contained within the {@code tabConent}.
      *
@@ -3,6 +3,7 @@ package com.omo.free.jira.tracker.ui;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.omo.free.jira.tracker.client.JIRAClientManager;
 import com.omo.free.jira.tracker.constants.JIRAConstants;
 import com.omo.free.jira.tracker.util.JiraUtil;
 
@@ -142,6 +143,7 @@ public class ConnectionSettingsWindow extends Stage {
             }catch(Exception e1){
                 myLogger.log(Level.SEVERE, "Exception occurred while trying to save the properties.  Error message is:  " + e1.getMessage(), e1);
             }//end try...catch
+            JIRAClientManager.getInstance().invalidate();//new credentials so the shared client must be rebuilt
             this.close();
         }//end if...else
 
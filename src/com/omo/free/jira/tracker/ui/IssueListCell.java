@@ -1,17 +1,22 @@
 package com.omo.free.jira.tracker.ui;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.atlassian.jira.rest.client.api.domain.Attachment;
 import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.omo.free.jira.tracker.model.IssueRow;
 
 import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
  * This is a custom JIRA Issue ListCell to add some customization a list view for the JIRAShopTrackerUI.
  *
+ * <p>The text and image of a cell come from the {@code IssueRow} of the issue and the images are shared by all cells, so updating a cell while scrolling does not read the JIRA issue or create objects.</p>
+ *
  * @author Richard Salas, April 17, 2019
  */
 public class IssueListCell extends ListCell<Issue>{
@@ -19,19 +24,24 @@ public class IssueListCell extends ListCell<Issue>{
     private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.ui.IssueListCell";
     private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
 
-    private ImageView bugWithAttachment;
-    private ImageView bug;
+    /* images shared by all cells by resource url */
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private Image bugWithAttachment;
+    private Image bug;
+    private ImageView graphic;
 
     /**
      * Constructor used to create an instance of the IssueListCell class.
      *
-     * @param bug the bug image
-     * @param bugWithAttachmentView the bug image with attachment
+     * @param bugUrl the resource url of the bug image
+     * @param bugWithAttachmentUrl the resource url of the bug image with attachment
      */
-    public IssueListCell(ImageView bug, ImageView bugWithAttachmentView) {
-        myLogger.entering(MY_CLASS_NAME, "IssueListCell", bug);
-        this.bug = bug;
-        this.bugWithAttachment = bugWithAttachmentView;
+    public IssueListCell(String bugUrl, String bugWithAttachmentUrl) {
+        myLogger.entering(MY_CLASS_NAME, "IssueListCell", bugUrl);
+        this.bug = getImage(bugUrl);
+        this.bugWithAttachment = getImage(bugWithAttachmentUrl);
+        this.graphic = new ImageView();
         myLogger.exiting(MY_CLASS_NAME, "IssueListCell");
     }//end method
 
@@ -44,46 +54,30 @@ public class IssueListCell extends ListCell<Issue>{
      *        being used to render an "empty" row.
      */
     @Override public void updateItem(Issue item, boolean empty) {
-        myLogger.entering(MY_CLASS_NAME, "updateItem", new Object[]{item, empty});
-
-        super.updateItem(item, empty);
-        this.setGraphic(null);
-        this.setText(null);
-        if(!empty){
-            if(attachmentsExist(item)){
-//                //add paperclip image
-                this.setGraphic(bugWithAttachment);
-            }else{
-//                //add regular image
-                this.setGraphic(bug);
-            }
-            this.setText(item.getKey() + "\n" + item.getSummary());
+        if(myLogger.isLoggable(Level.FINER)){//called for every cell while scrolling
+            myLogger.entering(MY_CLASS_NAME, "updateItem", new Object[]{item, empty});
         }//end if
 
-        myLogger.exiting(MY_CLASS_NAME, "updateItem");
+        super.updateItem(item, empty);
+        if(empty || item == null){
+            this.setGraphic(null);
+            this.setText(null);
+        }else{
+            IssueRow row = IssueRow.get(item);
+            graphic.setImage(row.hasAttachments() ? bugWithAttachment : bug);
+            this.setGraphic(graphic);
+            this.setText(row.getDisplayText());
+        }//end if...else
     }//end method
 
     /**
-     * This method will check to see if there are any attachments associated to the JIRA issue.
+     * This method will return the image of the resource {@code url}, each image is loaded once and shared by all cells.
      *
-     * @param issue the issue to check for attachments
-     * @return true or false on whether or not an issue is associated with an attachment
+     * @param url the resource url of the image
+     * @return the image
      */
-    private boolean attachmentsExist(Issue issue) {
-        myLogger.entering(MY_CLASS_NAME, "attachmentsExist", issue);
-        boolean exists = false;
-
-        try{
-            Iterable<Attachment> list = issue.getAttachments();
-            if(list != null){
-                exists = list.iterator().hasNext();
-            }//end if
-        }catch(Exception e){
-            myLogger.log(Level.WARNING, "Exception occurred while trying to see if attachment exists.  Error is " + e.getMessage(), e);
-        }//end try...catch
-
-        myLogger.exiting(MY_CLASS_NAME, "attachmentsExist", issue);
-        return exists;
+    static Image getImage(String url) {
+        return IMAGES.computeIfAbsent(url, Image::new);
     }//end method
 
 }//end class
@@ -52,11 +52,10 @@ public class JIRAIssuesTab extends AbstractIssuesTab {
         myLogger.entering(MY_CLASS_NAME, "refresh");
 
         setMaskerPaneVisible(false);
-        clear();
         // checking the jira model to see if it is null
         try{
             myLogger.info("loading open issues into listing.");
-            addIssuesToListView(IssueClient.getInstance().getIssues());
+            refreshListings(IssueClient.getInstance().getIssues());
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to load untracked issues.  Message is: " + e.getMessage());
         }//end try...catch
@@ -85,7 +84,7 @@ public class JIRAIssuesTab extends AbstractIssuesTab {
      */
     @Override
     protected IssueListCell getIssueListCell() {
-        return new IssueListCell(new ImageView(JIRAConstants.LARGE_OPEN_BUG_URL), new ImageView(JIRAConstants.LARGE_OPEN_BUG_WITH_ATTACHMENT_URL));
+        return new IssueListCell(JIRAConstants.LARGE_OPEN_BUG_URL, JIRAConstants.LARGE_OPEN_BUG_WITH_ATTACHMENT_URL);
     }//end method
 
 }// end class
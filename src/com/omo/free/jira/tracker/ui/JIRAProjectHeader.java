@@ -1,7 +1,10 @@
 package com.omo.free.jira.tracker.ui;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -17,8 +20,11 @@ import com.sun.javafx.scene.control.skin.ComboBoxListViewSkin;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import gov.doc.isu.com.util.AppUtil;
 import gov.doc.isu.simple.fx.application.SFXViewBuilder;
+import gov.doc.isu.simple.fx.managers.PropertiesMgr;
 import gov.doc.isu.simple.fx.tools.FXAlertOption;
 import gov.doc.isu.simple.fx.util.FXUtil;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.concurrent.WorkerStateEvent;
 import javafx.event.ActionEvent;
@@ -34,6 +40,7 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.HBox;
+import javafx.util.Duration;
 
 /**
  * This class contains the JIRA Project header User Interface components and functionality.
@@ -45,12 +52,21 @@ public class JIRAProjectHeader extends HBox {
     private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.ui.JIRAProjectHeader";
     private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
 
+    /* an issue number search, for example 886, *886 or *88* */
+    private static final Pattern ISSUE_NUMBER_PATTERN = Pattern.compile("[0-9*]+");
+
+    /* milliseconds to wait after the last keystroke before searching when the jira.search.debounce.millis property is not set */
+    private static final long DEFAULT_SEARCH_DELAY_MILLIS = 300;
+
     private Button refreshButton;
     private ComboBox<String> projectComboBox;
     private ComboBox<JIRAStatus> statusComboBox;
     private TextField searchTxt;
     private Button searchButton;
     private JIRAWindowBuilder parent;
+    private JIRAClientPrimer currentPrimer;
+    private PauseTransition searchDelay;
+    private Task<Void> currentSearch;
 
     /**
      * Constructor used to create an instance of this class.
@@ -85,6 +101,7 @@ public class JIRAProjectHeader extends HBox {
         IssueClient issueClient = IssueClient.getInstance();
         ProjectClient projectClient = ProjectClient.getInstance();
 
+        projectClient.setProjectsListener(projectKeys -> Platform.runLater(() -> addProjects(projectKeys)));
         if(!AppUtil.isEmpty(projectClient.getProjects())){
             projectComboBox.getItems().addAll(projectClient.getProjects());
             projectComboBox.getSelectionModel().select(issueClient.getProjectKey());
@@ -97,7 +114,7 @@ public class JIRAProjectHeader extends HBox {
 
         HBox search = new HBox(0);
         searchTxt = new TextField();
-        searchTxt.setPromptText("Search issue number  (\"*\") wild character ");
+        searchTxt.setPromptText("Search issue number  (\"*\") wild character or words");
         searchTxt.setPrefWidth(230D);
         searchButton = new Button(null, JiraUtil.createIcon(FontAwesomeIcon.SEARCH, "jira-darkblue"));
         searchButton.setTooltip(new Tooltip("Search for an issue"));
@@ -114,6 +131,25 @@ public class JIRAProjectHeader extends HBox {
         myLogger.exiting(MY_CLASS_NAME, "layoutForm");
     }// end method
 
+    /**
+     * This method will add the projects found eligible after the projects were listed to the project combo box in sorted order.  Nothing is added while the combo box is empty as it is filled with every project once the projects are retrieved.
+     *
+     * @param projectKeys the keys of the eligible projects
+     */
+    private void addProjects(List<String> projectKeys) {
+        myLogger.entering(MY_CLASS_NAME, "addProjects", projectKeys);
+        List<String> items = projectComboBox.getItems();
+        if(!items.isEmpty()){
+            for(String key : projectKeys){
+                int index = Collections.binarySearch(items, key);
+                if(index < 0){
+                    items.add(-index - 1, key);
+                }//end if
+            }//end for
+        }//end if
+        myLogger.exiting(MY_CLASS_NAME, "addProjects");
+    }// end method
+
     /**
      * This method will attach the combo box and refresh button handlers.
      */
@@ -150,23 +186,31 @@ public class JIRAProjectHeader extends HBox {
             searchButton.setOnAction(event -> searchForIssues());
         }// end if
         refreshButton.setOnAction(event -> refreshAndLoad(event));
-        // only allow numbers
+        // issue numbers allow at most two wild cards, anything else is searched for as words
         searchTxt.setTextFormatter(new TextFormatter<>(change -> {
             // added the logic below per JSTUI-14 ... probably will update at later time
-            String theText = change.getText();
-            int wildCards = StringUtils.countMatches(searchTxt.getText(), "*");
-
-            if(("*".equals(theText) && wildCards >= 2) || ("*".equals(searchTxt.getText()) && "*".equals(theText))){
+            String newText = change.getControlNewText();
+            if(ISSUE_NUMBER_PATTERN.matcher(newText).matches() && (StringUtils.countMatches(newText, "*") > 2 || "**".equals(newText))){
                 return null;
             }// end if
-
-            return StringUtils.isNumeric(change.getText()) || "*".equals(change.getText()) ? change : null;
+            return change;
         }));
         searchTxt.setOnKeyReleased(event -> {
             if(KeyCode.ENTER.equals(event.getCode())){
                 searchForIssues();
             }// end if
         });
+        // type-ahead search...each keystroke cancels the running search and restarts the wait
+        searchDelay = new PauseTransition(Duration.millis(getSearchDelayMillis()));
+        searchDelay.setOnFinished(event -> searchForIssues(true));
+        searchTxt.textProperty().addListener((observable, oldValue, newValue) -> {
+            cancelSearch();
+            if(AppUtil.isNullOrEmpty(newValue) || "*".equals(newValue) || projectComboBox.getItems().isEmpty()){
+                searchDelay.stop();
+            }else{
+                searchDelay.playFromStart();
+            }// end if...else
+        });
 
         // just added this for testing this process in ISU
         if("ISU".equals(System.getenv("USERDOMAIN"))){
@@ -200,47 +244,98 @@ public class JIRAProjectHeader extends HBox {
 
     /**
      * This method will execute a search for a JIRA issue.
-     *
-     * @param event
-     *        the event that was fired by the user
      */
     private void searchForIssues() {
-        myLogger.entering(MY_CLASS_NAME, "searchForIssues");
-        if(AppUtil.isNullOrEmpty(searchTxt.getText()) || "*".equals(searchTxt.getText())){
-            FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "Must enter an issue number to search for.", "Missing Issue Number", null, AlertType.ERROR);
+        searchForIssues(false);
+    }// end method
+
+    /**
+     * This method will execute a search for a JIRA issue.  Any search that is still running is cancelled first along with its outstanding requests to the JIRA website.
+     *
+     * <p>Words are searched for within the issues already retrieved.  An issue number search lists the issues known locally right away and merges in the issues found on the JIRA website as each request returns.</p>
+     *
+     * @param isTypeAhead true when the search was started by typing, in which case nothing is shown to the user for a missing or failed search
+     */
+    private void searchForIssues(boolean isTypeAhead) {
+        myLogger.entering(MY_CLASS_NAME, "searchForIssues", isTypeAhead);
+
+        searchDelay.stop();
+        cancelSearch();
+        final String projectKey = projectComboBox.getSelectionModel().getSelectedItem();
+        final String searchStr = searchTxt.getText();
+        if(AppUtil.isNullOrEmpty(searchStr) || AppUtil.isNullOrEmpty(searchStr.trim()) || "*".equals(searchStr) || projectKey == null){
+            if(!isTypeAhead){
+                FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "Must enter an issue number or words to search for.", "Missing Issue Number", null, AlertType.ERROR);
+            }// end if
+        }else if(!ISSUE_NUMBER_PATTERN.matcher(searchStr).matches()){
+            // words are searched for within the issues already retrieved, no call to the JIRA website is made
+            SearchClient.getInstance().searchCachedIssues(searchStr, projectKey);
+            parent.refreshSearchResults();
+            parent.focusoOnSearchIssuesTab();
         }else{
             SearchClient searchClient = SearchClient.getInstance();
-
-            final String projectKey = projectComboBox.getSelectionModel().getSelectedItem();
-            final String searchStr = searchTxt.getText();
-
-            parent.setMaskerPaneText("Searching for issues using " + String.valueOf(searchStr) + " in JIRA website...");
-            parent.setMaskerPaneVisible(true);
             Task<Void> doWork = new Task<Void>(){
                 @Override
                 protected Void call() throws Exception {
-                    searchClient.searchForAndAddIssue(searchStr, projectKey);
+                    searchClient.searchForAndAddIssue(searchStr, projectKey, (pageNumber, untrackedIssues, trackedIssues) -> {
+                        Platform.runLater(() -> {
+                            if(!isCancelled()){// a newer search may have started while this page was waiting
+                                parent.addSearchResultsPage(pageNumber, untrackedIssues, searchStr);
+                                if(pageNumber == 0){
+                                    parent.focusoOnSearchIssuesTab();
+                                }// end if
+                            }// end if
+                        });
+                        return !isCancelled();
+                    });
                     return null;
                 }// end method
             };// end anonymous inner class impl
 
-            doWork.setOnSucceeded(e -> {
-                refresh(e);
-                parent.focusoOnSearchIssuesTab();
-            });
+            doWork.setOnSucceeded(e -> parent.refreshSearchResults());
             doWork.setOnFailed(e -> {
                 Throwable ex = e.getSource().getException();
                 myLogger.severe("Error occurred searching jira site....Error is: " + ex.getMessage());
-                parent.setMaskerPaneVisible(false);
-                // parent.clearAll();// clear the listings
-                FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "There was an issue trying to search for issues on the JIRA website.\nError message recieved is: " + ex.getMessage(), "JIRA Search Error", null, AlertType.ERROR);
+                parent.refreshSearchResults();
+                if(!isTypeAhead){
+                    FXAlertOption.showAlert(SFXViewBuilder.getPrimaryStage(), "There was an issue trying to search for issues on the JIRA website.\nError message recieved is: " + ex.getMessage(), "JIRA Search Error", null, AlertType.ERROR);
+                }// end if
             });
+            currentSearch = doWork;
             parent.executeTask(doWork);
-        }// end method
+        }// end if...else
 
         myLogger.exiting(MY_CLASS_NAME, "searchForIssues");
     }// end method
 
+    /**
+     * This method will cancel the search that is still running, if any, which also cancels its outstanding requests to the JIRA website.
+     */
+    private void cancelSearch() {
+        if(currentSearch != null){
+            currentSearch.cancel(true);
+            currentSearch = null;
+        }// end if
+    }// end method
+
+    /**
+     * This method will return the milliseconds to wait after the last keystroke before searching, set by the jira.search.debounce.millis property.
+     *
+     * @return the debounce delay in milliseconds
+     */
+    private long getSearchDelayMillis() {
+        long millis = DEFAULT_SEARCH_DELAY_MILLIS;
+        try{
+            String value = PropertiesMgr.getInstance().getProperties().getProperty("jira.search.debounce.millis");
+            if(value != null && !"".equals(value.trim())){
+                millis = Long.parseLong(value.trim());
+            }// end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the jira.search.debounce.millis property, using default of " + DEFAULT_SEARCH_DELAY_MILLIS + " milliseconds.  Error message is: " + e.getMessage());
+        }// end try...catch
+        return millis > 0 ? millis : DEFAULT_SEARCH_DELAY_MILLIS;
+    }// end method
+
     /**
      * This method will execute tasks which will make calls to the jira website to retrieve issues.
      *
@@ -287,7 +382,7 @@ public class JIRAProjectHeader extends HBox {
             refresherTask.setOnFailed(e -> refreshFailed(e));
             parent.executeTask(refresherTask);
         }else{
-            loadIssues(event);
+            loadIssues(event, true);
         }// end if
 
         // JSTUI-3 refresh not clearing issue number field
@@ -323,7 +418,19 @@ public class JIRAProjectHeader extends HBox {
      *        the event
      */
     private void loadIssues(ActionEvent event) {
-        myLogger.entering(MY_CLASS_NAME, "loadIssues", event);
+        loadIssues(event, false);
+    }// end method
+
+    /**
+     * This method will execute the {@code JIRAClientPrimer} task which is used to make calls to jira website to retrieve issues.
+     *
+     * @param event
+     *        the event
+     * @param isRefresh
+     *        true to refresh the issues with the changes made on the jira website since the last retrieval
+     */
+    private void loadIssues(ActionEvent event, boolean isRefresh) {
+        myLogger.entering(MY_CLASS_NAME, "loadIssues", new Object[]{event, isRefresh});
 
         String project = projectComboBox.getSelectionModel().getSelectedItem();
         String id = statusComboBox.getSelectionModel().getSelectedItem().getId();
@@ -331,9 +438,20 @@ public class JIRAProjectHeader extends HBox {
         myLogger.info("Starting the jira retrieval process for " + String.valueOf(project));
         parent.setMaskerPaneText("Retrieving issues for project named " + String.valueOf(project) + " from JIRA website...");
         parent.setMaskerPaneVisible(true);
+        if(currentPrimer != null && currentPrimer.isRunning()){
+            currentPrimer.cancel();//stop displaying pages of the previous selection
+        }//end if
+
         JIRAClientPrimer primer = new JIRAClientPrimer(project, id);
+        primer.setRefresh(isRefresh);
+        primer.setOnPageLoaded((pageNumber, untrackedIssues, trackedIssues) -> {
+            parent.addIssuesPage(pageNumber, untrackedIssues, trackedIssues);
+            parent.setMaskerPaneVisible(false);//first page is usable while the rest are retrieved
+            return true;
+        });
         primer.setOnSucceeded(e -> refresh(e));
         primer.setOnFailed(e -> displayError(e));
+        currentPrimer = primer;
         parent.executeTask(primer);
         myLogger.exiting(MY_CLASS_NAME, "loadIssues");
     }// end method
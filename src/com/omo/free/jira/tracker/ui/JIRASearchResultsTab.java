@@ -1,15 +1,20 @@
 package com.omo.free.jira.tracker.ui;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.omo.free.jira.tracker.client.SearchClient;
 import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.model.IssueRow;
 import com.omo.free.jira.tracker.util.JiraUtil;
 
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
-import gov.doc.isu.com.util.AppUtil;
-import javafx.scene.image.ImageView;
 
 /**
  * This class is used to display a listing of JIRA Issues that a user searched for and will allow the user to select issues to send the shop via email.
@@ -21,6 +26,9 @@ public class JIRASearchResultsTab extends AbstractIssuesTab{
     private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.ui.JIRASearchResultsTab";
     private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
 
+    /* orders issues by the number of their key, for example MOCIS-9 before MOCIS-10 */
+    private static final Comparator<Issue> ISSUE_NUMBER_ORDER = Comparator.comparingInt(JIRASearchResultsTab::getIssueNumber);
+
     /**
      * Constructor used to create an instance of the JIRASearchResultsTab class.
      *
@@ -54,13 +62,10 @@ public class JIRASearchResultsTab extends AbstractIssuesTab{
         myLogger.entering(MY_CLASS_NAME, "refresh");
 
         setMaskerPaneVisible(false);
-        clear();
         // checking the jira model to see if it is null
         try{
             myLogger.info("loading searched for issues into listing.");
-            if(!AppUtil.isEmpty(SearchClient.getInstance().getIssuesSearchedFor())){
-                addIssuesToListView(SearchClient.getInstance().getIssuesSearchedFor());
-            }//end if
+            refreshListings(SearchClient.getInstance().getIssuesSearchedFor());
             changeLabel();
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to load untracked issues.  Message is: " + e.getMessage(), e);
@@ -69,6 +74,47 @@ public class JIRASearchResultsTab extends AbstractIssuesTab{
         myLogger.exiting(MY_CLASS_NAME, "refresh");
     }// end method
 
+    /**
+     * This method will merge a page of issues found by a search that is still running into the listing in issue number order.  The listing is cleared when the first page is added and issues already listed are skipped.
+     *
+     * @param pageNumber the zero based page number
+     * @param issues the issues found
+     * @param searchStr the search string
+     */
+    public void addSearchResultsPage(int pageNumber, List<Issue> issues, String searchStr){
+        myLogger.entering(MY_CLASS_NAME, "addSearchResultsPage", pageNumber);
+
+        List<Issue> listing = getIssuesToSelect();
+        if(pageNumber == 0){
+            clear();
+            getOpenIssuesLbl().setText("Searching for " + searchStr + "...");
+        }//end if
+
+        Set<String> listedKeys = new HashSet<>();
+        for(int i = 0, j = listing.size(); i < j; i++){
+            listedKeys.add(listing.get(i).getKey());
+        }//end for
+        for(Issue issue : issues){
+            if(listedKeys.add(issue.getKey())){
+                setListingRank(issue.getKey(), getIssueNumber(issue));
+                int index = Collections.binarySearch(listing, issue, ISSUE_NUMBER_ORDER);
+                listing.add(index < 0 ? -index - 1 : index, issue);
+            }//end if
+        }//end for
+
+        myLogger.exiting(MY_CLASS_NAME, "addSearchResultsPage");
+    }//end method
+
+    /**
+     * This method will return the number of the key of the {@code issue}, for example 1234 for MOCIS-1234.
+     *
+     * @param issue the issue
+     * @return the issue number or Integer.MAX_VALUE if the key has no number
+     */
+    private static int getIssueNumber(Issue issue) {
+        return IssueRow.get(issue).getIssueNumber();
+    }//end method
+
     /**
      * {@inheritDoc}
      */
@@ -90,7 +136,18 @@ public class JIRASearchResultsTab extends AbstractIssuesTab{
      */
     @Override
     protected IssueListCell getIssueListCell() {
-        return new IssueListCell(new ImageView(JIRAConstants.LARGE_OPEN_BUG_URL), new ImageView(JIRAConstants.LARGE_OPEN_BUG_WITH_ATTACHMENT_URL));
+        return new IssueListCell(JIRAConstants.LARGE_OPEN_BUG_URL, JIRAConstants.LARGE_OPEN_BUG_WITH_ATTACHMENT_URL);
+    }//end method
+
+    /**
+     * This method will keep the issues to send when the search results are refreshed.
+     * Override of this method per [JSTUI-15] Values not retained in Issues to send to ISU Shop column during new search (Richard Salas)
+     *
+     * @return true
+     */
+    @Override
+    protected boolean isRetainingIssuesToSend() {
+        return true;
     }//end method
 
     /**
@@ -13,6 +13,7 @@ import gov.doc.isu.com.util.AppUtil;
 import gov.doc.isu.simple.fx.application.SFXViewBuilder;
 import gov.doc.isu.simple.fx.tools.FXAlertOption;
 import gov.doc.isu.simple.fx.util.Constants;
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.geometry.Pos;
@@ -90,7 +91,13 @@ public class JIRASentIssuesTab extends AbstractIssuesTab {
         Task<Void> loadTrackedIssues = new Task<Void>(){
             @Override
             protected Void call() throws Exception {
-                IssueClient.getInstance().retrieveAllTrackedIssues();
+                IssueClient.getInstance().retrieveAllTrackedIssues((chunkNumber, untrackedIssues, trackedIssues) -> {
+                    Platform.runLater(() -> {
+                        parent.addIssuesPage(chunkNumber, untrackedIssues, trackedIssues);
+                        parent.setMaskerPaneVisible(false);//first chunk is usable while the rest are retrieved
+                    });
+                    return !isCancelled();
+                });
                 return null;
             }// end method
         };// end anonymous inner class
@@ -121,11 +128,9 @@ public class JIRASentIssuesTab extends AbstractIssuesTab {
         myLogger.entering(MY_CLASS_NAME, "refresh");
 
         setMaskerPaneVisible(false);
-        // clearing lists here...
-        clear();
         try{
             myLogger.info("loading tracked issues into listing.");
-            addIssuesToListView(IssueClient.getInstance().getTrackedIssues());
+            refreshListings(IssueClient.getInstance().getTrackedIssues());
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to load tracked issues.  Message is: " + e.getMessage());
         }// end try...catch
@@ -166,10 +171,11 @@ public class JIRASentIssuesTab extends AbstractIssuesTab {
             if(dialog.isOk()){
                 Download download = new Download(issuesToSend, dialog.getOptionalEmailText(), dialog.getCommaSeparatedEmailAddresses());
                 download.setIsTracked(true);
-                download.setOnSucceeded(ev -> showDownloadSuccess(ev));
+                download.setOnSucceeded(ev -> showDownloadSuccess(ev, download));
                 download.setOnFailed(ev -> showDownloadFailure(ev));
                 setMaskerPaneText("Downloading and re-sending " + getSelectedJIRAProject() + " JIRA Issues to Shop...");
                 setMaskerPaneVisible(true);
+                bindMaskerPaneProgress(download);//progress of the attachment downloads
                 executeTask(download);
             }// end if
         }// end if...else
@@ -198,7 +204,7 @@ public class JIRASentIssuesTab extends AbstractIssuesTab {
      */
     @Override
     protected IssueListCell getIssueListCell() {
-        return new IssueListCell(new ImageView(JIRAConstants.LARGE_SENT_BUG_URL), new ImageView(JIRAConstants.LARGE_SENT_BUG_WITH_ATTACHMENT_URL));
+        return new IssueListCell(JIRAConstants.LARGE_SENT_BUG_URL, JIRAConstants.LARGE_SENT_BUG_WITH_ATTACHMENT_URL);
     }//end method
 
 }// end class
@@ -1,7 +1,10 @@
 package com.omo.free.jira.tracker.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
 import javafx.geometry.Side;
 import javafx.scene.control.TabPane;
 
@@ -67,6 +70,27 @@ public class JIRATrackerTabPane extends TabPane{
         myLogger.exiting(MY_CLASS_NAME, "refresh");
     }//end method
 
+    /**
+     * This method will add a page of issues to the issues and sent issues listings.  The listings are patched to the first page by issue key, so the issues that are still listed keep their cells and selection, and the later pages are added after it.
+     *
+     * @param pageNumber the zero based page number
+     * @param untrackedIssues the issues that have not been sent to the shop
+     * @param trackedIssues the issues that have been sent to the shop
+     */
+    public void addIssuesPage(int pageNumber, List<Issue> untrackedIssues, List<Issue> trackedIssues) {
+        myLogger.entering(MY_CLASS_NAME, "addIssuesPage", pageNumber);
+
+        if(pageNumber == 0){
+            issuesTab.refreshListings(untrackedIssues);
+            sentIssuesTab.refreshListings(trackedIssues);
+        }else{
+            issuesTab.addIssuesToListView(untrackedIssues);
+            sentIssuesTab.addIssuesToListView(trackedIssues);
+        }//end if...else
+
+        myLogger.exiting(MY_CLASS_NAME, "addIssuesPage");
+    }//end method
+
     /**
      * This method will clear the listings.
      */
@@ -110,6 +134,24 @@ public class JIRATrackerTabPane extends TabPane{
         issuesTab.changeLabel(statusName);
     }// end method
 
+    /**
+     * This method will merge a page of issues found by a search that is still running into the search results listing.
+     *
+     * @param pageNumber the zero based page number, the listing is cleared on the first page
+     * @param issues the issues found
+     * @param searchStr the search string
+     */
+    public void addSearchResultsPage(int pageNumber, List<Issue> issues, String searchStr) {
+        resultsTab.addSearchResultsPage(pageNumber, issues, searchStr);
+    }//end method
+
+    /**
+     * This method will reload the search results listing.
+     */
+    public void refreshSearchResults() {
+        resultsTab.refresh();
+    }//end method
+
     /**
      * This method will clear searched items.
      */
@@ -7,17 +7,28 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.controlsfx.control.MaskerPane;
 
+import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.omo.free.jira.tracker.client.IssueClient;
+import com.omo.free.jira.tracker.client.JIRAClientManager;
+import com.omo.free.jira.tracker.client.JIRAFieldProfile;
 import com.omo.free.jira.tracker.client.ProjectClient;
 import com.omo.free.jira.tracker.constants.JIRAConstants;
+import com.omo.free.jira.tracker.dao.JIRAConnectionPool;
+import com.omo.free.jira.tracker.dao.JIRATrackerSyncEngine;
+import com.omo.free.jira.tracker.dao.JIRATrackerWriteQueue;
+import com.omo.free.jira.tracker.model.JIRACacheManager;
+import com.omo.free.jira.tracker.model.JIRACacheSnapshot;
 
 import gov.doc.isu.com.util.AppUtil;
 import gov.doc.isu.simple.fx.application.Credit;
@@ -29,6 +40,7 @@ import gov.doc.isu.simple.fx.util.FXUtil;
 import gov.doc.isu.simple.fx.util.FileUtility;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert.AlertType;
@@ -57,11 +69,16 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
     /* number of times to retry connection */
     private static final int RETRY_COUNT = 2;
 
+    /* minutes between writes of the cache snapshot when the jira.cache.snapshot.minutes property is not set */
+    private static final long DEFAULT_SNAPSHOT_MINUTES = 5;
+
     /* instance variables */
     private JIRAProjectHeader header;
     private JIRATrackerTabPane footer;
     private MaskerPane maskerPane = new MaskerPane();
     private ThreadPoolExecutor threadExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);//handles the multiple background threads needed for this application.  only 2 set up for now.
+    private ScheduledExecutorService snapshotExecutor;
+    private boolean isWarmStart;
 
     /**
      * This method creates and returns the {@code JIRAListingWindow} root Node which will be used for creating the Scene.
@@ -99,6 +116,11 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
         maskerPane.setVisible(false);
 
         root.getChildren().addAll(main, maskerPane);
+
+        if(isWarmStart){
+            reconcileWithJIRA();
+        }//end if
+        scheduleSnapshots();
         myLogger.exiting(MY_CLASS_NAME, "buildParent");
         return root;
     }// end method
@@ -188,9 +210,12 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
         ProjectClient projectClient = ProjectClient.getInstance();
         IssueClient issueClient = IssueClient.getInstance();
 
+        //display the issues saved by the last run right away, they are reconciled with the JIRA website once the window is built
+        isWarmStart = restoreFromSnapshot(projectClient, issueClient);
+
         //BELOW code is long running, note that the splash screen will be displayed till this is finished.
         int count = 0;
-        while(count < RETRY_COUNT){
+        while(!isWarmStart && count < RETRY_COUNT){
             try{
                 projectClient.setProjects();
                 if(projectClient.getProjects().contains("MOCIS")){
@@ -215,6 +240,111 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
         myLogger.entering(MY_CLASS_NAME, "initializeResources");
     }//end method
 
+    /**
+     * This method will restore the projects and issues from the cache snapshot written by the last run of the application.
+     *
+     * @param projectClient the project client
+     * @param issueClient the issue client
+     * @return true if the projects and issues were restored
+     */
+    private boolean restoreFromSnapshot(ProjectClient projectClient, IssueClient issueClient) {
+        myLogger.entering(MY_CLASS_NAME, "restoreFromSnapshot");
+
+        boolean isRestored = false;
+        JIRACacheSnapshot snapshot = JIRACacheSnapshot.getInstance();
+        if(snapshot.restore()){
+            String projectKey = snapshot.getProjectKey();
+            if(projectKey == null || !snapshot.getProjects().contains(projectKey)){
+                projectKey = snapshot.getProjects().contains("MOCIS") ? "MOCIS" : snapshot.getProjects().get(0);
+            }//end if
+            if(issueClient.restoreIssues(projectKey, "0")){
+                projectClient.restoreProjects(snapshot.getProjects());
+                isRestored = true;
+            }//end if
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "restoreFromSnapshot", isRestored);
+        return isRestored;
+    }//end method
+
+    /**
+     * This method will reconcile the projects and issues restored from the cache snapshot with the JIRA website on a background thread and then refresh the listings.  Only the changes made since the snapshot was written are retrieved when the snapshot is still within the cache time to live.
+     */
+    private void reconcileWithJIRA() {
+        myLogger.entering(MY_CLASS_NAME, "reconcileWithJIRA");
+
+        final String projectKey = IssueClient.getInstance().getProjectKey();
+        Task<Boolean> reconcileTask = new Task<Boolean>(){
+            @Override
+            protected Boolean call() throws Exception {
+                ProjectClient projectClient = ProjectClient.getInstance();
+                IssueClient issueClient = IssueClient.getInstance();
+                projectClient.setProjects();
+                boolean isSameSelection = projectKey.equals(issueClient.getProjectKey()) && "0".equals(issueClient.getStatus());
+                if(isSameSelection){//user has not selected another project/status while starting up
+                    issueClient.setRefresh(true);
+                    issueClient.setIssues(projectKey, "0");
+                }//end if
+                issueClient.loadJiraCache();
+                return isSameSelection;
+            }// end method
+        };
+        reconcileTask.setOnSucceeded(e -> {
+            if(Boolean.TRUE.equals(reconcileTask.getValue()) && projectKey.equals(getSelectedJIRAProject())){
+                myLogger.info("issues restored from the snapshot were reconciled with the JIRA website, refreshing view for user...");
+                refresh();
+            }//end if
+        });
+        reconcileTask.setOnFailed(e -> {
+            Throwable ex = e.getSource().getException();
+            myLogger.log(Level.WARNING, "Could not reconcile the issues restored from the snapshot with the JIRA website.  Error message is: " + ex.getMessage(), ex);
+            if(!ProjectClient.getInstance().isAuthorized() || !IssueClient.getInstance().isAuthorized()){
+                FXAlertOption.showAlert(getPrimaryStage(), "User is not authorized! Please try re-entering connection settings and then clicking Refresh button.", "User Not Authorized", null, AlertType.ERROR, new Image(JIRAConstants.JIRA_ICON_URL));
+                new ConnectionSettingsWindow();//show window
+            }//end if
+        });
+        executeTask(reconcileTask);
+
+        myLogger.exiting(MY_CLASS_NAME, "reconcileWithJIRA");
+    }//end method
+
+    /**
+     * This method will schedule the periodic write of the cache snapshot using the minutes set by the jira.cache.snapshot.minutes property.
+     */
+    private void scheduleSnapshots() {
+        myLogger.entering(MY_CLASS_NAME, "scheduleSnapshots");
+
+        long minutes = DEFAULT_SNAPSHOT_MINUTES;
+        try{
+            String value = PropertiesMgr.getInstance().getProperties().getProperty("jira.cache.snapshot.minutes");
+            if(value != null && !"".equals(value.trim())){
+                minutes = Long.parseLong(value.trim());
+            }//end if
+        }catch(Exception e){
+            myLogger.warning("Could not read the jira.cache.snapshot.minutes property, using default of " + DEFAULT_SNAPSHOT_MINUTES + " minutes.  Error message is: " + e.getMessage());
+        }//end try...catch
+
+        if(minutes > 0){
+            snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jira-cache-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotExecutor.scheduleWithFixedDelay(() -> saveSnapshot(), minutes, minutes, TimeUnit.MINUTES);
+        }//end if
+
+        myLogger.exiting(MY_CLASS_NAME, "scheduleSnapshots", minutes);
+    }//end method
+
+    /**
+     * This method will write the cache snapshot used to display issues right away on the next start of the application.
+     */
+    private void saveSnapshot() {
+        if(!AppUtil.isEmpty(ProjectClient.getInstance().getProjects())){
+            JIRACacheSnapshot.getInstance().save(ProjectClient.getInstance().getProjects(), IssueClient.getInstance().getProjectKey());
+        }//end if
+    }//end method
+
     /**
      * This method will check to see if the user has already initialized his/her credential properties.
      */
@@ -247,6 +377,16 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
             UIPropertiesMgr.getInstance().getProperties().remove("jira.pass");
         }//end if
         threadExecutor.shutdown();
+        if(snapshotExecutor != null){
+            snapshotExecutor.shutdownNow();
+        }//end if
+        saveSnapshot();
+        JIRAClientManager.getInstance().close();
+        JIRATrackerWriteQueue.getInstance().shutdown();
+        JIRATrackerSyncEngine.getInstance().shutdown();
+        JIRAConnectionPool.getInstance().shutdown();
+        myLogger.info("cache statistics: " + String.valueOf(JIRACacheManager.getInstance().getStatistics()));
+        myLogger.info("field profile statistics: " + JIRAFieldProfile.getStatistics());
         myLogger.exiting(MY_CLASS_NAME, "loadConnectionProperties");
     }//end method
 
@@ -264,6 +404,18 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
      */
     public void setMaskerPaneVisible(boolean isVisible) {
         maskerPane.setVisible(isVisible);
+        if(!isVisible){//back to the indeterminate progress indicator
+            maskerPane.progressProperty().unbind();
+            maskerPane.setProgress(-1);
+        }//end if
+    }//end method
+
+    /**
+     * Binds the masker pane progress indicator to the progress of the {@code worker} until the masker pane is hidden.
+     * @param worker the worker reporting progress
+     */
+    public void bindMaskerPaneProgress(Worker<?> worker) {
+        maskerPane.progressProperty().bind(worker.progressProperty());
     }//end method
 
     /**
@@ -289,6 +441,21 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
         myLogger.exiting(MY_CLASS_NAME, "refresh");
     }//end method
 
+    /**
+     * This method will add a page of issues retrieved from the JIRA website to the tabpane listings.
+     *
+     * @param pageNumber the zero based page number, the listings are cleared on the first page
+     * @param untrackedIssues the issues that have not been sent to the shop
+     * @param trackedIssues the issues that have been sent to the shop
+     */
+    public void addIssuesPage(int pageNumber, List<Issue> untrackedIssues, List<Issue> trackedIssues) {
+        myLogger.entering(MY_CLASS_NAME, "addIssuesPage", pageNumber);
+
+        footer.addIssuesPage(pageNumber, untrackedIssues, trackedIssues);
+
+        myLogger.exiting(MY_CLASS_NAME, "addIssuesPage");
+    }//end method
+
     /**
      * This method clears all data within the tabpane.
      */
@@ -351,4 +518,22 @@ public class JIRAWindowBuilder extends SFXViewBuilder {
         footer.clearSearchedItems();
     }//end method
 
+    /**
+     * This method will merge a page of issues found by a search that is still running into the search results listing.
+     *
+     * @param pageNumber the zero based page number, the listing is cleared on the first page
+     * @param issues the issues found
+     * @param searchStr the search string
+     */
+    public void addSearchResultsPage(int pageNumber, List<Issue> issues, String searchStr){
+        footer.addSearchResultsPage(pageNumber, issues, searchStr);
+    }//end method
+
+    /**
+     * This method will reload the search results listing.
+     */
+    public void refreshSearchResults(){
+        footer.refreshSearchResults();
+    }//end method
+
 }// end class
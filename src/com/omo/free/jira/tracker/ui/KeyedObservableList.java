@@ -0,0 +1,275 @@
+package com.omo.free.jira.tracker.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * This KeyedObservableList class is an {@code ObservableList} used as the items of a {@code ListView} that can be patched to match a new list of items instead of being cleared and filled again.
+ *
+ * <p>Items are matched by key.  A patch removes the items whose key is no longer listed, moves the fewest items needed to match the new order (the items that are not part of the longest run already in order), inserts the new items and replaces the items whose content changed.  Items whose content did not change are kept, so their cells, the selection and the scroll position of the {@code ListView} are kept as well.  The patched list is built in one pass and all of the changes of a patch are fired as one change event.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ * @param <E> the type of the items
+ */
+public class KeyedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.ui.KeyedObservableList";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private final List<E> items = new ArrayList<>();
+    private final Function<? super E, ?> keyMapper;
+    private final BiPredicate<? super E, ? super E> isSameContent;
+
+    /**
+     * Constructor used to create an instance of the KeyedObservableList class.
+     *
+     * @param keyMapper returns the key of an item
+     * @param isSameContent returns true if the listed item and the new item with the same key look the same
+     */
+    public KeyedObservableList(Function<? super E, ?> keyMapper, BiPredicate<? super E, ? super E> isSameContent) {
+        this.keyMapper = keyMapper;
+        this.isSameContent = isSameContent;
+    }//end constructor
+
+    /**
+     * This method will change this list to match the {@code newItems} by applying only the removes, moves, inserts and replaces that are needed.  The patched list is built in one pass and the changes are fired as one change event.
+     *
+     * @param newItems the items to list in order, items with a key that was already seen are skipped
+     * @return the number of items removed, moved, inserted or replaced
+     */
+    public int patch(List<? extends E> newItems) {
+        myLogger.entering(MY_CLASS_NAME, "patch", "newItems.size()=" + newItems.size());
+
+        //position of each key within the new items
+        Map<Object, Integer> newPositions = new HashMap<>(Math.max(16, newItems.size() * 2));
+        List<E> targets = new ArrayList<>(newItems.size());
+        for(int i = 0, j = newItems.size(); i < j; i++){
+            if(newPositions.putIfAbsent(keyMapper.apply(newItems.get(i)), targets.size()) == null){
+                targets.add(newItems.get(i));
+            }//end if
+        }//end for
+
+        //the items that stay are the first item of each key that is still listed and part of the longest run already in the new order
+        Set<Object> listedKeys = new HashSet<>(Math.max(16, items.size() * 2));
+        int[] candidates = new int[items.size()];
+        int[] positions = new int[items.size()];
+        int candidateCount = 0;
+        for(int i = 0, j = items.size(); i < j; i++){
+            Object key = keyMapper.apply(items.get(i));
+            Integer position = newPositions.get(key);
+            if(position != null && listedKeys.add(key)){
+                candidates[candidateCount] = i;
+                positions[candidateCount++] = position;
+            }//end if
+        }//end for
+        boolean[] isInOrder = findLongestIncreasingRun(Arrays.copyOf(positions, candidateCount));
+        boolean[] isKept = new boolean[items.size()];
+        for(int i = 0; i < candidateCount; i++){
+            isKept[candidates[i]] = isInOrder[i];
+        }//end for
+
+        //walk the listed and new items together, the other items are removed, the new and moved items are added and the kept items whose content changed are replaced
+        List<E> patched = new ArrayList<>(targets.size());
+        int changes = 0;
+        int index = 0;
+        beginChange();
+        try{
+            for(int i = 0, j = targets.size(); i < j; i++){
+                while(index < items.size() && !isKept[index]){
+                    nextRemove(patched.size(), items.get(index++));//index within the list once the earlier changes were made
+                    changes++;
+                }//end while
+                E target = targets.get(i);
+                if(index < items.size() && newPositions.get(keyMapper.apply(items.get(index))) == i){
+                    E item = items.get(index++);
+                    if(item != target && !isSameContent.test(item, target)){
+                        nextSet(patched.size(), item);
+                        item = target;
+                        changes++;
+                    }//end if
+                    patched.add(item);
+                }else{
+                    nextAdd(patched.size(), patched.size() + 1);
+                    patched.add(target);
+                    changes++;
+                }//end if...else
+            }//end for
+            while(index < items.size()){
+                nextRemove(patched.size(), items.get(index++));
+                changes++;
+            }//end while
+            if(changes > 0){
+                items.clear();
+                items.addAll(patched);
+                modCount++;
+            }//end if
+        }finally{
+            endChange();
+        }//end try...finally
+
+        myLogger.exiting(MY_CLASS_NAME, "patch", changes);
+        return changes;
+    }//end method
+
+    /**
+     * This method will remove the items whose key is one of the {@code keys} in one pass over the list.  The removals are fired as one change event.
+     *
+     * @param keys the keys of the items to remove
+     * @return the number of items removed
+     */
+    public int removeKeys(Set<?> keys) {
+        myLogger.entering(MY_CLASS_NAME, "removeKeys", "keys.size()=" + keys.size());
+
+        int kept = 0;
+        int removed = 0;
+        beginChange();
+        try{
+            for(int i = 0, j = items.size(); i < j; i++){
+                E item = items.get(i);
+                if(keys.contains(keyMapper.apply(item))){
+                    nextRemove(kept, item);//index within the list once the earlier items were removed
+                    removed++;
+                }else{
+                    items.set(kept++, item);
+                }//end if...else
+            }//end for
+            items.subList(kept, items.size()).clear();
+            modCount++;
+        }finally{
+            endChange();
+        }//end try...finally
+
+        myLogger.exiting(MY_CLASS_NAME, "removeKeys", removed);
+        return removed;
+    }//end method
+
+    /**
+     * This method will insert the {@code newItems} in the {@code order} of this list in one pass over the list.  The {@code newItems} must be sorted in the {@code order} and items whose key is already listed are skipped.  The inserts are fired as one change event.
+     *
+     * @param newItems the items to insert, sorted in the {@code order}
+     * @param order the order of this list
+     * @return the number of items inserted
+     */
+    public int mergeInOrder(List<? extends E> newItems, Comparator<? super E> order) {
+        myLogger.entering(MY_CLASS_NAME, "mergeInOrder", "newItems.size()=" + newItems.size());
+
+        Set<Object> listedKeys = new HashSet<>(Math.max(16, items.size() * 2));
+        for(int i = 0, j = items.size(); i < j; i++){
+            listedKeys.add(keyMapper.apply(items.get(i)));
+        }//end for
+
+        List<E> merged = new ArrayList<>(items.size() + newItems.size());
+        int index = 0;
+        int added = 0;
+        beginChange();
+        try{
+            for(int i = 0, j = newItems.size(); i < j; i++){
+                E item = newItems.get(i);
+                if(listedKeys.add(keyMapper.apply(item))){
+                    while(index < items.size() && order.compare(items.get(index), item) <= 0){
+                        merged.add(items.get(index++));
+                    }//end while
+                    nextAdd(merged.size(), merged.size() + 1);
+                    merged.add(item);
+                    added++;
+                }//end if
+            }//end for
+            merged.addAll(items.subList(index, items.size()));
+            items.clear();
+            items.addAll(merged);
+            modCount++;
+        }finally{
+            endChange();
+        }//end try...finally
+
+        myLogger.exiting(MY_CLASS_NAME, "mergeInOrder", added);
+        return added;
+    }//end method
+
+    /**
+     * This method will mark the positions that are part of the longest strictly increasing run of the {@code values}.  The run is found in O(n log n) time.
+     *
+     * @param values the values
+     * @return true at each index that is part of the run
+     */
+    static boolean[] findLongestIncreasingRun(int[] values) {
+        int[] tails = new int[values.length];//index of the smallest last value of a run of each length
+        int[] previous = new int[values.length];
+        int length = 0;
+        for(int i = 0; i < values.length; i++){
+            int low = 0;
+            int high = length;
+            while(low < high){
+                int middle = (low + high) >>> 1;
+                if(values[tails[middle]] < values[i]){
+                    low = middle + 1;
+                }else{
+                    high = middle;
+                }//end if...else
+            }//end while
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if(low == length){
+                length++;
+            }//end if
+        }//end for
+
+        boolean[] isInRun = new boolean[values.length];
+        for(int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]){
+            isInRun[i] = true;
+        }//end for
+        return isInRun;
+    }//end method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }//end method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return items.size();
+    }//end method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doAdd(int index, E element) {
+        items.add(index, element);
+    }//end method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected E doSet(int index, E element) {
+        return items.set(index, element);
+    }//end method
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected E doRemove(int index) {
+        return items.remove(index);
+    }//end method
+
+}//end class
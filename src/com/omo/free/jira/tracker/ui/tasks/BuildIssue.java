@@ -4,6 +4,8 @@ import java.util.Collections;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.omo.free.jira.tracker.client.DownloadClient;
+import com.omo.free.jira.tracker.client.JIRAFieldProfile;
+import com.omo.free.jira.tracker.model.JIRACacheSnapshot;
 
 import javafx.concurrent.Task;
 
@@ -33,6 +35,9 @@ public class BuildIssue extends Task<String> {
     @Override
     protected String call() throws Exception {
         String jiraHtml = null;
+        if(JIRACacheSnapshot.isRestoredIssue(jiraIssue)){//issues read from the snapshot only hold what is needed for the listing
+            jiraIssue = DownloadClient.getInstance().getIssue(jiraIssue, JIRAFieldProfile.DETAILS);//the changelog is only needed to send the issue
+        }//end if
         jiraHtml = DownloadClient.getInstance().createJIRAIssueHTMLFileAsStr(jiraIssue, Collections.emptyList());
         return jiraHtml;
     }//end method
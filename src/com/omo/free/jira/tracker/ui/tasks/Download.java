@@ -9,12 +9,18 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.atlassian.jira.rest.client.api.domain.Attachment;
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.omo.free.jira.tracker.client.DownloadClient;
 import com.omo.free.jira.tracker.client.IssueClient;
@@ -43,6 +49,15 @@ public class Download extends Task<Void> {
     private boolean isFileCopyError;
     private String optionalEmailText;
     private String additionalEmailAddresses;
+    private List<Issue> sentIssues = new ArrayList<>();
+    private List<String> failedIssueKeys = new ArrayList<>();
+
+    /* number of threads of each stage of the send pipeline, the network bound stages get more threads than the disk and cpu bound stages */
+    private static final int FETCH_THREADS = 4;
+    private static final int ATTACHMENT_THREADS = 4;
+    private static final int RENDER_THREADS = 2;
+    private static final int PACKAGE_THREADS = 2;
+
     /**
      * Constructor used to create an instance of the Download class.
      *
@@ -73,6 +88,8 @@ public class Download extends Task<Void> {
     /**
      * This method runs the task for downloading, packaging, and emailing of Jira Issues.
      *
+     * <p>Each issue goes through a pipeline of stages (fetch changelog, download attachments, render, package) where every stage has its own bounded pool of threads, so one issue's attachments can download while another issue is being rendered or zipped.  The issues are collected in the order they were selected so the email is always built in the same order, and an issue that fails is left out of the email and reported through {@link #getFailedIssueKeys()} instead of stopping the other issues.</p>
+     *
      * @throws Exception if an error occurs
      */
     @Override
@@ -83,34 +100,84 @@ public class Download extends Task<Void> {
         FileUtility.deleteDirectory(new File(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY));
         FileUtility.checkDirectories(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY);
 
-        //read_template into a variable
-        Issue issue = null;
-
-        //step one get issues with expandos here...this is for downloading any attachments.
         long start = System.currentTimeMillis();
         DownloadClient downloadClient = DownloadClient.getInstance();
+        AtomicLong bytesExpected = new AtomicLong();
+        AtomicLong bytesDownloaded = new AtomicLong();
 
-        List<Issue> expandosList = downloadClient.getIssueWithExpandos(issues);//this list will be used for holding the issues w/attachments
-        myLogger.info("time it took to retrieve changelog expandos is " + AppUtil.getTimeTookInSecMinHours(start));
-        //step two loop through expandos here!!!
-        Iterator<Issue> it = expandosList.iterator();
-        while(it.hasNext()){
-            //1 build jira issue and write it...
-            issue = it.next();
-
-            //[JSTUI-10] Attachments not included in Email
-            //moved the check directories feature here...
-            FileUtility.checkDirectories(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY + "/" + issue.getKey());
-
-            List<String> excludedAttachments = downloadClient.downloadAttachments(issue);//download attachments
-            myLogger.info("successful in downloading jira attachments...");
-
-            downloadClient.writeJiraIssue(issue, excludedAttachments);//write new jira
-            myLogger.info("successful in writing jira issue...");
+        ExecutorService fetchExecutor = newStageExecutor("fetch", FETCH_THREADS);
+        ExecutorService attachmentExecutor = newStageExecutor("attachments", ATTACHMENT_THREADS);
+        ExecutorService renderExecutor = newStageExecutor("render", RENDER_THREADS);
+        ExecutorService packageExecutor = newStageExecutor("package", PACKAGE_THREADS);
+        try{
+            List<CompletableFuture<Issue>> pipeline = new ArrayList<>(issues.size());
+            for(int i = 0, j = issues.size(); i < j; i++){
+                Issue selectedIssue = issues.get(i);
+                pipeline.add(CompletableFuture.supplyAsync(() -> {
+                    try{
+                        return downloadClient.getIssueWithExpandos(selectedIssue);//changelog expandos are needed for downloading any attachments.
+                    }catch(Exception e){
+                        throw new CompletionException(e);
+                    }//end try...catch
+                }, fetchExecutor).thenApplyAsync(issue -> {
+                    try{
+                        //[JSTUI-10] Attachments not included in Email
+                        //moved the check directories feature here...
+                        FileUtility.checkDirectories(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY + "/" + issue.getKey());
+                        if(issue.getAttachments() != null){
+                            for(Attachment attachment : issue.getAttachments()){
+                                bytesExpected.addAndGet(attachment.getSize());
+                            }//end for
+                        }//end if
+                        List<String> excludedAttachments = downloadClient.downloadAttachments(issue, bytes -> updateProgress(bytesDownloaded.addAndGet(bytes), Math.max(bytesDownloaded.get(), bytesExpected.get())));//download attachments
+                        myLogger.info("successful in downloading jira attachments for " + issue.getKey());
+                        return new IssueInProgress(issue, excludedAttachments);
+                    }catch(Exception e){
+                        throw new CompletionException(e);
+                    }//end try...catch
+                }, attachmentExecutor).thenApplyAsync(inProgress -> {
+                    try{
+                        downloadClient.writeJiraIssue(inProgress.issue, inProgress.excludedAttachments);//write new jira
+                        myLogger.info("successful in writing jira issue " + inProgress.issue.getKey());
+                        return inProgress.issue;
+                    }catch(Exception e){
+                        throw new CompletionException(e);
+                    }//end try...catch
+                }, renderExecutor).thenApplyAsync(issue -> {
+                    try{
+                        downloadClient.prepareIssueForEmail(issue);//prepare issue and attachments for email
+                        myLogger.info("successful in preparing jira attachments for email for " + issue.getKey());
+                        return issue;
+                    }catch(Exception e){
+                        throw new CompletionException(e);
+                    }//end try...catch
+                }, packageExecutor));
+            }//end for
 
-            downloadClient.prepareIssueForEmail(issue);//prepare issue and attachments for email
-            myLogger.info("successful in preparing jira attachments for email...");
-        }//end while
+            //collect in the order selected so the email is deterministic
+            sentIssues = new ArrayList<>(issues.size());
+            for(int i = 0, j = pipeline.size(); i < j; i++){
+                String issueKey = issues.get(i).getKey();
+                try{
+                    pipeline.get(i).join();
+                    sentIssues.add(issues.get(i));
+                }catch(CompletionException e){
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    myLogger.log(Level.SEVERE, "Exception occurred while trying to download " + issueKey + ", it will not be sent.  Error message is: " + cause.getMessage(), cause);
+                    failedIssueKeys.add(issueKey);
+                    removeDownloads(issueKey);
+                }//end try...catch
+            }//end for
+        }finally{
+            fetchExecutor.shutdownNow();
+            attachmentExecutor.shutdownNow();
+            renderExecutor.shutdownNow();
+            packageExecutor.shutdownNow();
+        }//end try...finally
+
+        if(sentIssues.isEmpty()){
+            throw new Exception("No JIRA issues were able to be retrieved from " + JIRAConstants.JIRA_URL + ".  Issues that failed are: " + String.valueOf(failedIssueKeys));
+        }//end if
 
         File downloadDirectory = new File(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY);
         if(!downloadDirectory.exists()){
@@ -140,11 +207,42 @@ public class Download extends Task<Void> {
             sendEmailWithAttachments(files);
         }//end if...else
 
-        myLogger.info("time it took to complete all downloads " + AppUtil.getTimeTookInSecMinHours(start));
+        myLogger.info("time it took to complete all downloads " + AppUtil.getTimeTookInSecMinHours(start) + ", number of attachment bytes downloaded is " + bytesDownloaded.get() + ", number sent is " + sentIssues.size() + " and number failed is " + failedIssueKeys.size());
         myLogger.exiting(MY_CLASS_NAME, "call");
         return null;
     }//end if...else
 
+    /**
+     * This method will create the bounded pool of threads used by one stage of the send pipeline.
+     *
+     * @param stageName the name of the stage used for naming the threads
+     * @param numberOfThreads the number of threads
+     * @return executor the executor of the stage
+     */
+    private ExecutorService newStageExecutor(String stageName, int numberOfThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "jira-download-" + stageName + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }//end method
+
+    /**
+     * This method will remove the files downloaded for an issue that failed so that they are not sent with the other issues.
+     *
+     * @param issueKey the key of the issue that failed
+     */
+    private void removeDownloads(String issueKey) {
+        try{
+            FileUtility.deleteDirectory(new File(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY + "/" + issueKey));
+            Files.deleteIfExists(Paths.get(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY, issueKey + ".zip"));
+            Files.deleteIfExists(Paths.get(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY, issueKey + ".html"));
+        }catch(Exception e){
+            myLogger.log(Level.WARNING, "Could not remove the downloads of the failed issue " + issueKey + ".  Error message is: " + e.getMessage(), e);
+        }//end try...catch
+    }//end method
+
     /**
      * This method will send email with the jira issues as an attachments.  The process within this method will also make the necessary calls to track the issues sent.
      *
@@ -163,8 +261,8 @@ public class Download extends Task<Void> {
         email.append("<ul style=\"font-size:11pt; font-family:Calibri; color:#336699;\">");
 
         Issue issued = null;
-        for(int i = 0, j = issues.size(); i < j; i++){
-            issued = issues.get(i);
+        for(int i = 0, j = sentIssues.size(); i < j; i++){
+            issued = sentIssues.get(i);
             email.append("<li>").append(issued.getKey()).append("</li>");
         }//end for
 
@@ -172,32 +270,28 @@ public class Download extends Task<Void> {
 
         if(isTracked){
             email.append("<p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">Please review and work on the most recent ");
-            email.append(issues.size()).append(" attached JIRA issue(s).");
+            email.append(sentIssues.size()).append(" attached JIRA issue(s).");
         }else{
             email.append("<p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">Please review the attached JIRA issue(s) and advise who will be working on ");
-            email.append(issues.size() > 1 ? "these issues." : "the issue.");
+            email.append(sentIssues.size() > 1 ? "these issues." : "the issue.");
         }//end if...else
 
         email.append(" Thank you!</p><p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">").append(JiraUtil.getUserNameByDomainUserId()).append(" (ITSD-DOC)</p>");
 
         try{
-            sendEmailAndRetryOnError(email.toString(), buildEmailSubject(issues), files);
+            sendEmailAndRetryOnError(email.toString(), buildEmailSubject(sentIssues), files);
 
             //track the issues here
             List<JIRATrackedIssue> jiraIssues = new ArrayList<>();
             IssueClient issueClient = IssueClient.getInstance();
 
-            for(int i = 0, j = issues.size(); i < j; i++){
-                Issue issueToTrack = issues.get(i);
+            for(int i = 0, j = sentIssues.size(); i < j; i++){
+                Issue issueToTrack = sentIssues.get(i);
                 jiraIssues.add(new JIRATrackedIssue(issueClient.getProjectKey(), issueToTrack.getKey(), issueToTrack.getSummary()));
             }//end for
 
             myLogger.info("Number of jiraissues to save is: " + jiraIssues.size());
-            if(isTracked){
-                issueClient.updateTrackedIssue(jiraIssues);
-            }else{
-                issueClient.saveTrackedIssue(jiraIssues);
-            }//end if
+            issueClient.saveTrackedIssue(jiraIssues);//inserts new issues and updates the last sent timestamp of issues already tracked
             issueClient.setIssues(issueClient.getProjectKey(), issueClient.getStatus());//refresh the model
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to send JIRA issues in email.  Error message is: " + e.getMessage(), e);
@@ -320,8 +414,8 @@ public class Download extends Task<Void> {
         email.append("<ul style=\"font-size:11pt; font-family:Calibri; color:#336699;\">");
 
         Issue issued = null;
-        for(int i = 0, j = issues.size(); i < j; i++){
-            issued = issues.get(i);
+        for(int i = 0, j = sentIssues.size(); i < j; i++){
+            issued = sentIssues.get(i);
             email.append("<li>").append(issued.getKey()).append("</li>");
         }//end for
 
@@ -332,32 +426,28 @@ public class Download extends Task<Void> {
 
         if(isTracked){
             email.append("<p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">Please review and work on the most recent");
-            email.append(issues.size()).append(" JIRA issue(s) listed above.");
+            email.append(sentIssues.size()).append(" JIRA issue(s) listed above.");
         }else{
             email.append("<p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">Please review the JIRA issue(s) and advise who will be working on ");
-            email.append(issues.size() > 1 ? "these issues." : "the issue.");
+            email.append(sentIssues.size() > 1 ? "these issues." : "the issue.");
         }//end if...else
 
         email.append(" Thank you!</p><p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">").append(JiraUtil.getUserNameByDomainUserId()).append(" (ITSD-DOC)</p>");
 
         try{
-            sendEmailAndRetryOnError(email.toString(), buildEmailSubject(issues), null);
+            sendEmailAndRetryOnError(email.toString(), buildEmailSubject(sentIssues), null);
 
             //track the issues here
             List<JIRATrackedIssue> jiraIssues = new ArrayList<>();
             IssueClient issueClient = IssueClient.getInstance();
 
-            for(int i = 0, j = issues.size(); i < j; i++){
-                Issue issueToTrack = issues.get(i);
+            for(int i = 0, j = sentIssues.size(); i < j; i++){
+                Issue issueToTrack = sentIssues.get(i);
                 jiraIssues.add(new JIRATrackedIssue(issueClient.getProjectKey(), issueToTrack.getKey(), issueToTrack.getSummary()));
             }//end for
 
             myLogger.info("Number of jiraissues to save is: " + jiraIssues.size());
-            if(isTracked){
-                issueClient.updateTrackedIssue(jiraIssues);
-            }else{
-                issueClient.saveTrackedIssue(jiraIssues);
-            }//end if
+            issueClient.saveTrackedIssue(jiraIssues);//inserts new issues and updates the last sent timestamp of issues already tracked
             issueClient.setIssues(issueClient.getProjectKey(), issueClient.getStatus());//refresh the model
         }catch(Exception e){
             myLogger.log(Level.SEVERE, "Exception occurred while trying to send email or while trying to insert or update jira issues.  Error message is: " + e.getMessage(), e);
@@ -379,14 +469,14 @@ public class Download extends Task<Void> {
         StringBuilder email = new StringBuilder("<p style=\"font-size:11pt; font-family:Calibri; color:#336699;\">");
         if(optionalEmailText==null || "".equals(optionalEmailText.trim())){
             email = email.append("Please forward this email to the ");
-            if(issues.get(0).getProject() == null){
+            if(sentIssues.get(0).getProject() == null){
                 email.append("Triage group.</p>");
-            }else if ("MOCIS".equals(issues.get(0).getProject().getKey())){
-                email.append(issues.get(0).getProject().getKey());
+            }else if ("MOCIS".equals(sentIssues.get(0).getProject().getKey())){
+                email.append(sentIssues.get(0).getProject().getKey());
                 email.append(" Triage group.</p>");
             }else {
                 email.append("users responsible for working on ");
-                email.append(issues.get(0).getProject().getKey());
+                email.append(sentIssues.get(0).getProject().getKey());
                 email.append(".</p>");
             }//end if...else
         }else{
@@ -397,6 +487,13 @@ public class Download extends Task<Void> {
         return email;
     }//end method
 
+    /**
+     * @return the keys of the issues that could not be downloaded and were not sent
+     */
+    public List<String> getFailedIssueKeys() {
+        return failedIssueKeys;
+    }//end method
+
     /**
      * @param isTracked is tracked
      */
@@ -404,4 +501,25 @@ public class Download extends Task<Void> {
         this.isTracked = isTracked;
     }//end method
 
+    /**
+     * Holds an issue between the attachments and render stages of the send pipeline.
+     */
+    private static final class IssueInProgress {
+
+        private final Issue issue;
+        private final List<String> excludedAttachments;
+
+        /**
+         * Constructor used to create an instance of the IssueInProgress class.
+         *
+         * @param issue the issue with changelog expandos
+         * @param excludedAttachments the attachments that could not be downloaded
+         */
+        private IssueInProgress(Issue issue, List<String> excludedAttachments) {
+            this.issue = issue;
+            this.excludedAttachments = excludedAttachments;
+        }//end constructor
+
+    }//end class
+
 }//end method
@@ -3,8 +3,10 @@ package com.omo.free.jira.tracker.ui.tasks;
 import java.util.logging.Logger;
 
 import com.omo.free.jira.tracker.client.IssueClient;
+import com.omo.free.jira.tracker.client.IssuePageListener;
 import com.omo.free.jira.tracker.client.ProjectClient;
 
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 
 /**
@@ -19,6 +21,8 @@ public class JIRAClientPrimer extends Task<Void> {
 
     private String project;
     private String statusId;
+    private IssuePageListener onPageLoaded;
+    private boolean isRefresh;
 
     /**
      * Constructor used to create an instance of the JIRAClientPrimer class.
@@ -49,10 +53,40 @@ public class JIRAClientPrimer extends Task<Void> {
         if(projectClient.getProjects() == null){//check to see if the projects is null
             projectClient.setProjects();
         }//end if
-        IssueClient.getInstance().setIssues(this.project, statusId);
+        IssueClient.getInstance().setRefresh(isRefresh);//refresh only retrieves the issues updated since the last sync
+        if(onPageLoaded == null){
+            IssueClient.getInstance().setIssues(this.project, statusId);
+        }else{
+            IssueClient.getInstance().setIssues(this.project, statusId, (pageNumber, untrackedIssues, trackedIssues) -> {
+                Platform.runLater(() -> {
+                    if(!isCancelled()){//a cancelled primer must not display its pages
+                        onPageLoaded.pageLoaded(pageNumber, untrackedIssues, trackedIssues);
+                    }//end if
+                });
+                return !isCancelled();
+            });
+        }//end if...else
 
         myLogger.exiting(MY_CLASS_NAME, "call");
         return null;
     }//end method
 
+    /**
+     * This method will set the listener that is notified on the JavaFX Application Thread each time a page of issues arrives from the JIRA website.  Pages are no longer retrieved once this task is cancelled.
+     *
+     * @param onPageLoaded the listener notified of each page of issues
+     */
+    public void setOnPageLoaded(IssuePageListener onPageLoaded) {
+        this.onPageLoaded = onPageLoaded;
+    }//end method
+
+    /**
+     * This method will set whether the issues should be refreshed from the JIRA website instead of loaded from the cache.
+     *
+     * @param isRefresh true to refresh the issues
+     */
+    public void setRefresh(boolean isRefresh) {
+        this.isRefresh = isRefresh;
+    }//end method
+
 }//end class
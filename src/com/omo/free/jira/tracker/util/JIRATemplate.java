@@ -0,0 +1,135 @@
+package com.omo.free.jira.tracker.util;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import gov.doc.isu.simple.fx.util.Constants;
+
+/**
+ * This JIRATemplate class is used to hold a template (JIRATemplate.html or JIRAXMLTemplate.xml) that has been parsed once into a list of text and {@code @placeholder@} segments so that an issue can be rendered in a single pass.
+ *
+ * <p>Templates are cached by file and are parsed again only when the file is modified.  A placeholder without a value is written back out as is.</p>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATemplate {
+
+    private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.util.JIRATemplate";
+    private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("@([a-z_]+)@");
+    private static final Map<Path, JIRATemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /* the text segments and placeholder names alternate, text[0] name[0] text[1] name[1] ... text[n] */
+    private final String[] textSegments;
+    private final String[] placeholderNames;
+    private final long lastModified;
+    private final int length;
+
+    /**
+     * Constructor used to create an instance of the JIRATemplate class.
+     *
+     * @param template the template text
+     * @param lastModified the last modified time of the template file
+     */
+    private JIRATemplate(String template, long lastModified) {
+        List<String> text = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        int start = 0;
+        while(matcher.find()){
+            text.add(template.substring(start, matcher.start()));
+            names.add(matcher.group(1));
+            start = matcher.end();
+        }//end while
+        text.add(template.substring(start));
+
+        this.textSegments = text.toArray(new String[text.size()]);
+        this.placeholderNames = names.toArray(new String[names.size()]);
+        this.lastModified = lastModified;
+        this.length = template.length();
+    }//end constructor
+
+    /**
+     * This method will return the parsed template of the {@code templateFile}.  The file is read and parsed the first time it is requested and again only after it has been modified.
+     *
+     * @param templateFile the template file
+     * @return template the parsed template
+     * @throws IOException can occur while trying to read file
+     */
+    public static JIRATemplate getTemplate(Path templateFile) throws IOException {
+        myLogger.entering(MY_CLASS_NAME, "getTemplate", templateFile);
+
+        JIRATemplate template = null;
+        try{
+            long lastModified = Files.getLastModifiedTime(templateFile).toMillis();
+            template = TEMPLATES.get(templateFile);
+            if(template == null || template.lastModified != lastModified){
+                List<String> allLines = Files.readAllLines(templateFile, Charset.forName("UTF-8"));
+                Iterator<String> it = allLines.iterator();
+                StringBuilder templateStr = new StringBuilder();
+                while(it.hasNext()){
+                    templateStr.append(it.next());
+                    templateStr.append(Constants.LINESEPERATOR);
+                }// end while
+                template = new JIRATemplate(templateStr.toString(), lastModified);
+                TEMPLATES.put(templateFile, template);
+                myLogger.info("parsed template " + templateFile + " into " + template.placeholderNames.length + " placeholders.");
+            }//end if
+        }catch(IOException e){
+            myLogger.log(Level.SEVERE, "Exception occurred while trying to read the template " + String.valueOf(templateFile) + ".  Error message is: " + e.getMessage(), e);
+            throw e;
+        }//end try...catch
+
+        myLogger.exiting(MY_CLASS_NAME, "getTemplate");
+        return template;
+    }//end method
+
+    /**
+     * This method will write the template to {@code out} replacing each placeholder with its value from {@code values}.  Values are written as is.
+     *
+     * @param values the values by placeholder name, for example summary for @summary@
+     * @param out where the rendered template is written
+     * @throws IOException can occur while writing to {@code out}
+     */
+    public void render(Map<String, String> values, Appendable out) throws IOException {
+        for(int i = 0, j = placeholderNames.length; i < j; i++){
+            out.append(textSegments[i]);
+            String value = values.get(placeholderNames[i]);
+            if(value == null){
+                out.append('@').append(placeholderNames[i]).append('@');
+            }else{
+                out.append(value);
+            }//end if...else
+        }//end for
+        out.append(textSegments[placeholderNames.length]);
+    }//end method
+
+    /**
+     * This method will render the template into a string.
+     *
+     * @param values the values by placeholder name
+     * @return the rendered template
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(length + 1024);
+        try{
+            render(values, out);
+        }catch(IOException e){//StringBuilder does not throw
+            throw new IllegalStateException(e);
+        }//end try...catch
+        return out.toString();
+    }//end method
+
+}//end class
@@ -0,0 +1,96 @@
+package com.omo.free.jira.tracker.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This JIRATemplateBenchmark class is used to compare rendering a template with a {@code replaceAll} call per placeholder (how issues were rendered before the {@link JIRATemplate}) against rendering the precompiled {@code JIRATemplate}.
+ *
+ * <p>Every placeholder of the template gets a value, the description and comment placeholders get about 5 KB of text.  Each round renders the template the given number of times both ways and prints the average microseconds per issue, the first round warms up the JIT.  For example:</p>
+ *
+ * <pre>
+ * java -cp JIRAShopTrackerUI.jar;lib/* com.omo.free.jira.tracker.util.JIRATemplateBenchmark src/com/omo/free/jira/tracker/resources/JIRATemplate.html 20000
+ * </pre>
+ *
+ * @author Richard Salas, October 17, 2026
+ */
+public class JIRATemplateBenchmark {
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("@([a-z_]+)@");
+    private static final int ROUNDS = 3;
+    private static final int DEFAULT_RENDERS = 20000;
+
+    /**
+     * Default constructor used to create an instance of the JIRATemplateBenchmark class.
+     */
+    private JIRATemplateBenchmark() {    }//end constructor
+
+    /**
+     * This method will render the template both ways and print the average time of each.
+     *
+     * @param args the path of the template and optionally the number of renders per round, 20000 by default
+     * @throws IOException if the template could not be read
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 1){
+            System.out.println("usage: JIRATemplateBenchmark <template path> [renders]");
+            return;
+        }//end if
+        Path templateFile = Paths.get(args[0]);
+        int renders = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RENDERS;
+
+        JIRATemplate template = JIRATemplate.getTemplate(templateFile);
+        String rawTemplate = String.join("\r\n", Files.readAllLines(templateFile)) + "\r\n";
+        Map<String, String> values = buildValues(rawTemplate);
+
+        long checksum = 0L;//keeps the renders from being optimized away
+        for(int round = 0; round < ROUNDS; round++){
+            long start = System.nanoTime();
+            for(int i = 0; i < renders; i++){
+                String rendered = rawTemplate;
+                for(Map.Entry<String, String> e : values.entrySet()){
+                    rendered = rendered.replaceAll("@" + e.getKey() + "@", Matcher.quoteReplacement(e.getValue()));
+                }//end for
+                checksum += rendered.length();
+            }//end for
+            long replaceAllNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for(int i = 0; i < renders; i++){
+                checksum += template.render(values).length();
+            }//end for
+            long precompiledNanos = System.nanoTime() - start;
+
+            System.out.println(String.format("round %d, %d placeholders: replaceAll chain %.1f us/issue, precompiled %.1f us/issue", round + 1, values.size(), replaceAllNanos / 1000D / renders, precompiledNanos / 1000D / renders));
+        }//end for
+        System.out.println("checksum " + checksum);
+    }//end method
+
+    /**
+     * This method will build a value for every placeholder of the {@code rawTemplate}, about 5 KB of text for the description and comment placeholders.
+     *
+     * @param rawTemplate the template text
+     * @return values the value of each placeholder
+     */
+    private static Map<String, String> buildValues(String rawTemplate) {
+        StringBuilder longText = new StringBuilder();
+        for(int i = 0; i < 200; i++){
+            longText.append("Some comment text line ").append(i).append("<br>");
+        }//end for
+
+        Map<String, String> values = new LinkedHashMap<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(rawTemplate);
+        while(matcher.find()){
+            String name = matcher.group(1);
+            values.put(name, name.contains("comment") || name.contains("description") ? longText.toString() : "value of " + name);
+        }//end while
+        return values;
+    }//end method
+
+}//end class
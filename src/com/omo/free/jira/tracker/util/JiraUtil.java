@@ -10,12 +10,12 @@ import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
-import org.apache.commons.io.IOUtils;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.joda.time.DateTime;
 
@@ -44,6 +44,9 @@ public class JiraUtil {
     private static final String MY_CLASS_NAME = "com.omo.free.jira.tracker.util.JiraUtil";
     private static Logger myLogger = Logger.getLogger(MY_CLASS_NAME);
 
+    /* size of the buffer used to stream attachments to disk */
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
     /**
      * Default Constructor
      */
@@ -173,21 +176,54 @@ public class JiraUtil {
      * @throws IOException
      */
     public static void writeFile(InputStream is, String filename, String issueKey) throws IOException {
-        myLogger.entering(MY_CLASS_NAME, "writeFile", new Object[]{is, filename, issueKey});
+        writeFile(is, filename, issueKey, -1L, null);
+    }// end method
+
+    /**
+     * This method will stream the passed in {@code InputStream} to a local file using the {@code filename} and {@code issueKey} parameters.  The bytes are copied through a fixed size buffer so that a large attachment is never held in memory, and the number of bytes copied is reported to the {@code progress} consumer as they are written.
+     *
+     * <p>When {@code expectedSize} is known and does not match the number of bytes written the partial file is deleted and an {@code IOException} is thrown.</p>
+     *
+     * @param is the input stream containing the bytes of a file
+     * @param filename the filename used for creating the local file
+     * @param issueKey the issue key used for creating a unique directory to place the file.
+     * @param expectedSize the size of the file reported by JIRA or -1 if not known
+     * @param progress notified with the number of bytes written by each write, may be null
+     * @return bytesWritten the number of bytes written
+     * @throws IOException if the file could not be written or is not the expected size
+     */
+    public static long writeFile(InputStream is, String filename, String issueKey, long expectedSize, LongConsumer progress) throws IOException {
+        myLogger.entering(MY_CLASS_NAME, "writeFile", new Object[]{is, filename, issueKey, expectedSize});
 
         File fileToWriteTo = null;
         FileOutputStream fos = null;
+        long bytesWritten = 0;
+        boolean isCreated = false;
+        boolean isComplete = false;
 
         try{
-            byte[] bytes = IOUtils.toByteArray(is);
             fileToWriteTo = new File(JIRAConstants.JIRA_DOWNLOAD_DIRECTORY + "/" + issueKey + "/" + filename);
             if(!fileToWriteTo.createNewFile()){
                 throw new IOException("Could not download the file.");
             }// end if
+            isCreated = true;
             fos = new FileOutputStream(fileToWriteTo);
-            fos.write(bytes);
+            byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+            int numOfBytes = 0;
+            while((numOfBytes = is.read(buffer)) != -1){
+                fos.write(buffer, 0, numOfBytes);
+                bytesWritten += numOfBytes;
+                if(progress != null){
+                    progress.accept(numOfBytes);
+                }// end if
+            }// end while
             fos.flush();
-            myLogger.info("successful in downloading " + String.valueOf(filename));
+
+            if(expectedSize >= 0 && bytesWritten != expectedSize){
+                throw new IOException("Downloaded " + bytesWritten + " bytes of " + String.valueOf(filename) + " but JIRA reported a size of " + expectedSize + " bytes.");
+            }// end if
+            isComplete = true;
+            myLogger.info("successful in downloading " + String.valueOf(filename) + " (" + bytesWritten + " bytes)");
         }finally{
             if(is != null){
                 is.close();
@@ -195,9 +231,13 @@ public class JiraUtil {
             if(fos != null){
                 fos.close();
             }// end if
+            if(isCreated && !isComplete && !fileToWriteTo.delete()){//never leave a partial file to be sent
+                myLogger.warning("Could not delete the partially downloaded file " + fileToWriteTo.getPath());
+            }// end if
         }// end try...finally
 
-        myLogger.exiting(MY_CLASS_NAME, "writeFile");
+        myLogger.exiting(MY_CLASS_NAME, "writeFile", bytesWritten);
+        return bytesWritten;
     }// end method
 
     /**